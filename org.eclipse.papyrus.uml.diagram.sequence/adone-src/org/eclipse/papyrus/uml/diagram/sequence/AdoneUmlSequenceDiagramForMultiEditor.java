@@ -21,6 +21,7 @@ import org.eclipse.gmf.runtime.notation.Diagram;
 import org.eclipse.papyrus.infra.core.editor.BackboneException;
 import org.eclipse.papyrus.infra.core.services.ServiceException;
 import org.eclipse.papyrus.infra.core.services.ServicesRegistry;
+import org.eclipse.papyrus.uml.diagram.sequence.tools.AdoneNudgeKeyHandler;
 
 /**
  * Editor used in multitabs editor.
@@ -36,6 +37,16 @@ public class AdoneUmlSequenceDiagramForMultiEditor extends UmlSequenceDiagramFor
 		super(servicesRegistry, diagram);
 	}
 
+	/**
+	 * Installs the key handler moving the selected message or Combined Fragment with the arrow keys,
+	 * in front of the key handlers of the diagram.
+	 */
+	@Override
+	protected void configureGraphicalViewer() {
+		super.configureGraphicalViewer();
+		getDiagramGraphicalViewer().setKeyHandler(new AdoneNudgeKeyHandler(getDiagramGraphicalViewer()).setParent(getDiagramGraphicalViewer().getKeyHandler()));
+	}
+
 	/**
 	 *
 	 */
@@ -16,26 +16,44 @@
 package org.eclipse.papyrus.uml.diagram.sequence.assitant;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.gmf.runtime.emf.ui.services.modelingassistant.IModelingAssistantProvider;
 import org.eclipse.papyrus.infra.gmfdiag.assistant.core.IModelingAssistantModelProvider;
+import org.osgi.framework.Bundle;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
 /**
  * Provides modeling assistant providers based on a given resource URI.
  * This class is responsible for loading and providing access to modeling assistant providers
- * from a specified resource within a ResourceSet.
+ * from a specified resource.
+ * The resource is loaded once per process, in a resource set shared by all the requests, and its providers are cached
+ * by resource URI and version of the bundle holding it: every resource set asking for them gets the same immutable list.
+ * As the shared resource set is not thread-safe, the references of the providers are resolved while it is locked, when the resource is loaded,
+ * so that querying the providers later never resolves a proxy in it.
  */
 public class AdoneModelingAssistantModelProvider implements IModelingAssistantModelProvider {
 
+	private static final ResourceSet SHARED_RESOURCE_SET = new ResourceSetImpl();
+
+	private static final Map<String, List<IModelingAssistantProvider>> PROVIDERS = new ConcurrentHashMap<>();
+
 	// URI of the resource from which to load the modeling assistant providers.
 	private final URI resourceURI;
 
+	// Key of the providers of the resource in the cache.
+	private final String cacheKey;
+
 	/**
 	 * Constructs a modeling assistant model provider with the specified resource URI.
 	 *
@@ -44,37 +62,51 @@ public class AdoneModelingAssistantModelProvider implements IModelingAssistantMo
 	 */
 	public AdoneModelingAssistantModelProvider(URI resourceURI) {
 		this.resourceURI = resourceURI;
+		this.cacheKey = resourceURI + "#" + getBundleVersion(resourceURI); //$NON-NLS-1$
+	}
+
+	private static String getBundleVersion(URI uri) {
+		if (uri.isPlatformPlugin()) {
+			Bundle bundle = Platform.getBundle(uri.segment(1));
+			if (bundle != null) {
+				return bundle.getVersion().toString();
+			}
+		}
+		return ""; //$NON-NLS-1$
 	}
 
 	/**
-	 * Loads modeling assistant providers from the resource defined by the resourceURI.
+	 * Loads modeling assistant providers from the resource defined by the resourceURI, or gets them from the cache when already loaded.
 	 * Attempts to load the resource with the given URI, falling back to a non-loading option in case of an error.
 	 *
 	 * @param resourceSet
-	 *            the resource set in which to look for the resource
+	 *            the resource set asking for the providers
 	 * @return an iterable of modeling assistant providers found in the resource, or an empty list if none are found or the resource fails to load
 	 */
 	@Override
 	public Iterable<? extends IModelingAssistantProvider> loadProviders(ResourceSet resourceSet) {
-		Iterable<? extends IModelingAssistantProvider> result;
+		return PROVIDERS.computeIfAbsent(cacheKey, key -> load());
+	}
 
-		Resource resource = null;
+	private List<IModelingAssistantProvider> load() {
+		// the resource set is shared by the providers of all the resources, and is not thread-safe
+		synchronized (SHARED_RESOURCE_SET) {
+			Resource resource = null;
 
-		try {
-			resource = resourceSet.getResource(resourceURI, true);
-		} catch (Exception e) {
-			e.printStackTrace();
-			resource = resourceSet.getResource(resourceURI, false);
-		}
+			try {
+				resource = SHARED_RESOURCE_SET.getResource(resourceURI, true);
+			} catch (Exception e) {
+				e.printStackTrace();
+				resource = SHARED_RESOURCE_SET.getResource(resourceURI, false);
+			}
 
-		if (resource != null) {
+			if (resource == null) {
+				return Collections.emptyList();
+			}
+			// the proxies must not be resolved later, by concurrent queries outside of the lock
 			EcoreUtil.resolveAll(resource);
-			result = Iterables.filter(resource.getContents(), IModelingAssistantProvider.class);
-		} else {
-			result = Collections.emptyList();
+			return ImmutableList.copyOf(Iterables.filter(resource.getContents(), IModelingAssistantProvider.class));
 		}
-
-		return result;
 	}
 
 }
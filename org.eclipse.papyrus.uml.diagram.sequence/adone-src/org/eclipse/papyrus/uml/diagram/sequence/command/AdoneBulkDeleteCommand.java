@@ -0,0 +1,328 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.command;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.gmf.runtime.common.core.command.CommandResult;
+import org.eclipse.gmf.runtime.common.core.command.ICommand;
+import org.eclipse.gmf.runtime.emf.commands.core.command.AbstractTransactionalCommand;
+import org.eclipse.gmf.runtime.emf.type.core.requests.DestroyElementRequest;
+import org.eclipse.gmf.runtime.notation.Edge;
+import org.eclipse.gmf.runtime.notation.NotationPackage;
+import org.eclipse.gmf.runtime.notation.View;
+import org.eclipse.papyrus.uml.diagram.sequence.RestoreExecutionEndAdvice;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceUtil;
+import org.eclipse.uml2.uml.BehaviorExecutionSpecification;
+import org.eclipse.uml2.uml.Constraint;
+import org.eclipse.uml2.uml.DestructionOccurrenceSpecification;
+import org.eclipse.uml2.uml.DurationObservation;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.ExecutionOccurrenceSpecification;
+import org.eclipse.uml2.uml.ExecutionSpecification;
+import org.eclipse.uml2.uml.GeneralOrdering;
+import org.eclipse.uml2.uml.Message;
+import org.eclipse.uml2.uml.MessageEnd;
+import org.eclipse.uml2.uml.MessageOccurrenceSpecification;
+import org.eclipse.uml2.uml.OccurrenceSpecification;
+import org.eclipse.uml2.uml.UMLPackage;
+
+/**
+ * Deletes many elements of a sequence diagram at once, with their views.
+ * Instead of a destroy command per element, each one looking up the usages of its element in the whole model,
+ * the command computes up front the closure of the elements to remove:
+ * - a message brings its message occurrence specifications (a destruction occurrence specification is kept, as when a single message is deleted)
+ * and the behavior execution specification it starts,
+ * - an execution specification brings its execution occurrence specifications,
+ * - a message end contained in a deleted element (an occurrence specification, or a gate of a deleted combined fragment or interaction use)
+ * brings its message,
+ * - an occurrence specification brings its general orderings, and each element its stereotype applications.
+ * The views of the closure and the edges connected to them are added. The messages and general orderings shown by these edges,
+ * and the constraints and observations whose constrained elements or events are all deleted, are added to the closure in turn.
+ * Everything is then removed by a single EcoreUtil.deleteAll, that is a single pass of the usage cross referencer. The executions that lose a message end and are not deleted get a new execution end,
+ * as done by the RestoreExecutionEndAdvice for a single message.
+ * As all the changes are done in one transaction, the grid of the diagram is reconciled once after the command.
+ */
+public class AdoneBulkDeleteCommand extends AbstractTransactionalCommand {
+
+	private final List<EObject> elements;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param domain
+	 *            the editing domain
+	 * @param elements
+	 *            the selected elements to delete
+	 */
+	public AdoneBulkDeleteCommand(TransactionalEditingDomain domain, Collection<? extends EObject> elements) {
+		super(domain, "Bulk Delete", null); //$NON-NLS-1$
+		this.elements = new ArrayList<>(elements);
+	}
+
+	@Override
+	public boolean canExecute() {
+		return !elements.isEmpty();
+	}
+
+	@Override
+	protected CommandResult doExecuteWithResult(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+		Set<EObject> closure = getClosure(elements);
+		if (closure.isEmpty()) {
+			return CommandResult.newOKCommandResult();
+		}
+		Set<View> views = addReferrers(closure);
+
+		// The restore commands compute the position of the new ends before the deletion, and ignore the deleted executions.
+		List<ICommand> restoreCommands = new ArrayList<>();
+		RestoreExecutionEndAdvice restoreAdvice = new RestoreExecutionEndAdvice();
+		for (EObject eObject : closure) {
+			if (eObject instanceof MessageOccurrenceSpecification) {
+				ICommand restoreCommand = restoreAdvice.getAfterEditCommand(new DestroyElementRequest(getEditingDomain(), eObject, false));
+				if (restoreCommand != null && restoreCommand.canExecute()) {
+					restoreCommands.add(restoreCommand);
+				}
+			}
+		}
+
+		Set<EObject> toDelete = new LinkedHashSet<>(closure);
+		toDelete.addAll(views);
+		EcoreUtil.deleteAll(toDelete, true);
+
+		for (ICommand restoreCommand : restoreCommands) {
+			restoreCommand.execute(monitor, info);
+		}
+		return CommandResult.newOKCommandResult();
+	}
+
+	/**
+	 * @param elements
+	 *            the selected elements
+	 * @return the elements to delete with the selected ones, their contents included
+	 */
+	public static Set<EObject> getClosure(Collection<? extends EObject> elements) {
+		Set<EObject> closure = new LinkedHashSet<>();
+		addClosure(elements, closure);
+		return closure;
+	}
+
+	/**
+	 * Adds the closure of elements to the elements to delete.
+	 *
+	 * @param elements
+	 *            elements to delete
+	 * @param closure
+	 *            the elements already in the closure, completed with the new ones
+	 * @return the elements added to the closure
+	 */
+	private static List<EObject> addClosure(Collection<? extends EObject> elements, Set<EObject> closure) {
+		List<EObject> added = new ArrayList<>();
+		Deque<EObject> pending = new ArrayDeque<>(elements);
+		while (!pending.isEmpty()) {
+			EObject next = pending.poll();
+			if (next.eResource() == null || !closure.add(next)) {
+				continue;
+			}
+			added.add(next);
+			addDependents(next, pending);
+			for (EObject content : next.eContents()) {
+				pending.add(content);
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Collects the views of the closure, and completes the closure with the elements that would be left dangling:
+	 * the messages and general orderings of the edges connected to the views, and the constraints and observations
+	 * referring only to deleted elements. The views of these elements are collected in turn.
+	 *
+	 * @param closure
+	 *            the elements to delete, completed with the referring elements
+	 * @return the views to delete
+	 */
+	private static Set<View> addReferrers(Set<EObject> closure) {
+		Set<View> views = new LinkedHashSet<>();
+		Collection<EObject> added = new ArrayList<>(closure);
+		while (!added.isEmpty()) {
+			Collection<Setting> usages = getUsages(added);
+			Set<EObject> referrers = new LinkedHashSet<>();
+			for (Setting setting : usages) {
+				if (isEmptiedReference(setting, closure)) {
+					referrers.add(setting.getEObject());
+				}
+			}
+			for (View view : addViews(usages, views)) {
+				if (view instanceof Edge && isDanglingEdgeElement((Edge) view)) {
+					referrers.add(view.getElement());
+				}
+			}
+			added = addClosure(referrers, closure);
+		}
+		return views;
+	}
+
+	/**
+	 * @return true if the setting is the reference of a constraint or an observation to a deleted element, and all its referenced elements are deleted
+	 */
+	private static boolean isEmptiedReference(Setting setting, Set<EObject> closure) {
+		EObject referrer = setting.getEObject();
+		if (closure.contains(referrer)) {
+			return false;
+		}
+		if (setting.getEStructuralFeature() == UMLPackage.Literals.CONSTRAINT__CONSTRAINED_ELEMENT) {
+			return closure.containsAll(((Constraint) referrer).getConstrainedElements());
+		}
+		if (setting.getEStructuralFeature() == UMLPackage.Literals.DURATION_OBSERVATION__EVENT) {
+			return closure.containsAll(((DurationObservation) referrer).getEvents());
+		}
+		return setting.getEStructuralFeature() == UMLPackage.Literals.TIME_OBSERVATION__EVENT;
+	}
+
+	/**
+	 * @return true if the edge shows a message or a general ordering of its own, which must be deleted with the edge
+	 */
+	private static boolean isDanglingEdgeElement(Edge edge) {
+		EObject element = edge.getElement();
+		if (!(element instanceof Message) && !(element instanceof GeneralOrdering)) {
+			return false;
+		}
+		return (edge.getSource() == null || edge.getSource().getElement() != element)
+				&& (edge.getTarget() == null || edge.getTarget().getElement() != element);
+	}
+
+	private static void addDependents(EObject eObject, Deque<EObject> pending) {
+		if (eObject instanceof Message) {
+			Message message = (Message) eObject;
+			addMessageEnd(message.getSendEvent(), pending);
+			if (!(message.getReceiveEvent() instanceof DestructionOccurrenceSpecification)) {
+				addMessageEnd(message.getReceiveEvent(), pending);
+			}
+			BehaviorExecutionSpecification bes = AdoneSequenceUtil.getFollowingBehaviorExeSpec(message);
+			if (bes != null) {
+				pending.add(bes);
+			}
+		} else if (eObject instanceof ExecutionSpecification) {
+			ExecutionSpecification execution = (ExecutionSpecification) eObject;
+			if (execution.getStart() instanceof ExecutionOccurrenceSpecification) {
+				pending.add(execution.getStart());
+			}
+			if (execution.getFinish() instanceof ExecutionOccurrenceSpecification) {
+				pending.add(execution.getFinish());
+			}
+		}
+		if (eObject instanceof MessageEnd && ((MessageEnd) eObject).getMessage() != null) {
+			// a deleted gate, of a combined fragment or an interaction use, brings its message too
+			pending.add(((MessageEnd) eObject).getMessage());
+		}
+		if (eObject instanceof OccurrenceSpecification) {
+			pending.addAll(((OccurrenceSpecification) eObject).getToBefores());
+			pending.addAll(((OccurrenceSpecification) eObject).getToAfters());
+		}
+		if (eObject instanceof Element) {
+			pending.addAll(((Element) eObject).getStereotypeApplications());
+		}
+	}
+
+	private static void addMessageEnd(MessageEnd end, Deque<EObject> pending) {
+		// The gates are kept, as they belong to the interaction or the interaction use
+		if (end instanceof MessageOccurrenceSpecification) {
+			pending.add(end);
+		}
+	}
+
+	/**
+	 * @param elements
+	 *            elements to delete
+	 * @return the settings referring to the elements
+	 */
+	private static Collection<Setting> getUsages(Collection<EObject> elements) {
+		Collection<Setting> usages = new ArrayList<>();
+		ECrossReferenceAdapter crossReferencer = getCrossReferenceAdapter(elements.iterator().next());
+		if (crossReferencer != null) {
+			for (EObject eObject : elements) {
+				usages.addAll(crossReferencer.getInverseReferences(eObject, false));
+			}
+		} else {
+			// Without cross reference adapter, the usages are found with a single pass on the resource set
+			Resource resource = elements.iterator().next().eResource();
+			Notifier scope = resource.getResourceSet() != null ? resource.getResourceSet() : resource;
+			Map<EObject, Collection<Setting>> usagesByElement = EcoreUtil.UsageCrossReferencer.findAll(elements, scope);
+			for (Collection<Setting> settings : usagesByElement.values()) {
+				usages.addAll(settings);
+			}
+		}
+		return usages;
+	}
+
+	/**
+	 * Adds the views of the settings, and the edges connected to these views or their children.
+	 *
+	 * @param usages
+	 *            the settings referring to the elements to delete
+	 * @param views
+	 *            the views to delete, completed with the new ones
+	 * @return the views added
+	 */
+	private static List<View> addViews(Collection<Setting> usages, Set<View> views) {
+		List<View> added = new ArrayList<>();
+		Deque<View> pending = new ArrayDeque<>();
+		for (Setting setting : usages) {
+			if (setting.getEStructuralFeature() == NotationPackage.Literals.VIEW__ELEMENT && setting.getEObject() instanceof View) {
+				pending.add((View) setting.getEObject());
+			}
+		}
+		while (!pending.isEmpty()) {
+			View view = pending.poll();
+			if (!views.add(view)) {
+				continue;
+			}
+			added.add(view);
+			pending.addAll(view.getSourceEdges());
+			pending.addAll(view.getTargetEdges());
+			for (Object child : view.getChildren()) {
+				if (child instanceof View) {
+					pending.add((View) child);
+				}
+			}
+		}
+		return added;
+	}
+
+	private static ECrossReferenceAdapter getCrossReferenceAdapter(EObject eObject) {
+		Resource resource = eObject.eResource();
+		if (resource != null && resource.getResourceSet() != null) {
+			return ECrossReferenceAdapter.getCrossReferenceAdapter(resource.getResourceSet());
+		}
+		return null;
+	}
+}
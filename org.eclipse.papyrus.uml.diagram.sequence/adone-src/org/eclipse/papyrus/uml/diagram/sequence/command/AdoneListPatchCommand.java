@@ -0,0 +1,285 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.command.AbstractCommand;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Sets the values of a many-valued feature, like a SetCommand, but by patching the list instead of replacing it.
+ * When executed, the command computes an edit script from the current values to the new ones: the removed values, the added values,
+ * and the moves of the values that are not in the longest sequence already in the right order. The script is applied with EList.remove, add and move,
+ * and undone by applying the inverse script backwards.
+ * So the command retains only the edits (an index pair for a move), not copies of the whole list, and the notifications are limited to the edits.
+ * As for a SetCommand on a unique list, the duplicates of the new values are ignored.
+ */
+public class AdoneListPatchCommand extends AbstractCommand {
+
+	private static final int REMOVE = 0;
+
+	private static final int ADD = 1;
+
+	private static final int MOVE = 2;
+
+	private final EObject owner;
+
+	private final EStructuralFeature feature;
+
+	/** The new values, released once the script is computed **/
+	private Collection<?> values;
+
+	private final List<Edit> script = new ArrayList<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param owner
+	 *            the owner of the feature
+	 * @param feature
+	 *            the many-valued feature to patch
+	 * @param values
+	 *            the new values of the feature, in their order
+	 */
+	public AdoneListPatchCommand(EObject owner, EStructuralFeature feature, Collection<?> values) {
+		super("Reorder " + feature.getName()); //$NON-NLS-1$
+		this.owner = owner;
+		this.feature = feature;
+		this.values = values;
+	}
+
+	@Override
+	protected boolean prepare() {
+		return owner != null && feature.isMany() && feature.isChangeable() && values != null;
+	}
+
+	@Override
+	public void execute() {
+		List<Object> target = new ArrayList<>(new LinkedHashSet<>(values));
+		values = null;
+		EList<Object> list = getList();
+		if (!list.equals(target)) {
+			computeScript(list, target);
+		}
+	}
+
+	@Override
+	public void undo() {
+		EList<Object> list = getList();
+		for (int i = script.size() - 1; i >= 0; i--) {
+			script.get(i).revert(list);
+		}
+	}
+
+	@Override
+	public void redo() {
+		EList<Object> list = getList();
+		for (Edit edit : script) {
+			edit.apply(list);
+		}
+	}
+
+	@Override
+	public Collection<?> getAffectedObjects() {
+		return Collections.singleton(owner);
+	}
+
+	/**
+	 * @return true if the command did not change the list
+	 */
+	public boolean isEmpty() {
+		return script.isEmpty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private EList<Object> getList() {
+		return (EList<Object>) owner.eGet(feature);
+	}
+
+	/**
+	 * Computes the edit script from the list to the target and applies each edit as it is recorded, so the indices of an edit are the ones of the list at that step.
+	 */
+	private void computeScript(EList<Object> list, List<Object> target) {
+		// 1. remove the values that are not in the target, from the end so that the other indices are unchanged
+		Set<Object> targetSet = new HashSet<>(target);
+		for (int i = list.size() - 1; i >= 0; i--) {
+			if (!targetSet.contains(list.get(i))) {
+				record(list, new Edit(REMOVE, i, -1, list.get(i)));
+			}
+		}
+
+		// 2. the values of the longest sequence already in the target order stay in place
+		Map<Object, Integer> currentIndex = new HashMap<>();
+		for (int i = 0; i < list.size(); i++) {
+			currentIndex.put(list.get(i), i);
+		}
+		boolean[] inPlace = getLongestOrderedSequence(target, currentIndex);
+
+		// 3. the other values are added, or moved, just after their predecessor in the target, in the target order
+		for (int t = 0; t < target.size(); t++) {
+			if (inPlace[t]) {
+				continue;
+			}
+			Object value = target.get(t);
+			int to = t == 0 ? 0 : list.indexOf(target.get(t - 1)) + 1;
+			int from = currentIndex.containsKey(value) ? list.indexOf(value) : -1;
+			if (from < 0) {
+				record(list, new Edit(ADD, to, -1, value));
+			} else {
+				if (from < to) {
+					// the predecessor shifts when the value is removed from its old position
+					to--;
+				}
+				if (from != to) {
+					record(list, new Edit(MOVE, to, from, null));
+				}
+			}
+		}
+	}
+
+	private void record(EList<Object> list, Edit edit) {
+		if (edit.kind == ADD && feature instanceof EReference && ((EReference) feature).isContainment()) {
+			edit.recordPreviousContainer();
+		}
+		edit.apply(list);
+		script.add(edit);
+	}
+
+	/**
+	 * @return for each value of the target, true if it belongs to a longest sequence of values whose current indices are increasing
+	 */
+	private static boolean[] getLongestOrderedSequence(List<Object> target, Map<Object, Integer> currentIndex) {
+		int size = target.size();
+		boolean[] inPlace = new boolean[size];
+		// patience sorting: tails[k] is the target position ending the best sequence of length k + 1
+		int[] tails = new int[size];
+		int[] previous = new int[size];
+		Arrays.fill(previous, -1);
+		int length = 0;
+		for (int t = 0; t < size; t++) {
+			Integer index = currentIndex.get(target.get(t));
+			if (index == null) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (currentIndex.get(target.get(tails[middle])) < index) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			previous[t] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = t;
+			if (low == length) {
+				length++;
+			}
+		}
+		for (int t = length > 0 ? tails[length - 1] : -1; t >= 0; t = previous[t]) {
+			inPlace[t] = true;
+		}
+		return inPlace;
+	}
+
+	/**
+	 * An edit of the script. A move only keeps its indices, a removal or an addition keeps its value.
+	 */
+	private static final class Edit {
+
+		private final int kind;
+
+		private final int index;
+
+		private final int from;
+
+		private final Object value;
+
+		/** For an addition to a containment list, the container the value is taken from **/
+		private EObject previousContainer;
+
+		private EReference previousFeature;
+
+		private int previousIndex = -1;
+
+		Edit(int kind, int index, int from, Object value) {
+			this.kind = kind;
+			this.index = index;
+			this.from = from;
+			this.value = value;
+		}
+
+		void recordPreviousContainer() {
+			if (value instanceof EObject && ((EObject) value).eContainer() != null) {
+				EObject child = (EObject) value;
+				previousContainer = child.eContainer();
+				previousFeature = child.eContainmentFeature();
+				if (previousFeature.isMany()) {
+					previousIndex = ((EList<?>) previousContainer.eGet(previousFeature)).indexOf(child);
+				}
+			}
+		}
+
+		void apply(EList<Object> list) {
+			switch (kind) {
+			case REMOVE:
+				list.remove(index);
+				break;
+			case ADD:
+				list.add(index, value);
+				break;
+			default:
+				list.move(index, from);
+				break;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		void revert(EList<Object> list) {
+			switch (kind) {
+			case REMOVE:
+				list.add(index, value);
+				break;
+			case ADD:
+				list.remove(index);
+				if (previousContainer != null) {
+					if (previousIndex >= 0) {
+						((EList<Object>) previousContainer.eGet(previousFeature)).add(previousIndex, value);
+					} else {
+						previousContainer.eSet(previousFeature, value);
+					}
+				}
+				break;
+			default:
+				list.move(from, index);
+				break;
+			}
+		}
+	}
+}
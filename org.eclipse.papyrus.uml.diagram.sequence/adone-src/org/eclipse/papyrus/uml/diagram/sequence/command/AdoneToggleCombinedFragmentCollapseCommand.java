@@ -0,0 +1,113 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.command;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.gmf.runtime.common.core.command.CommandResult;
+import org.eclipse.gmf.runtime.emf.commands.core.command.AbstractTransactionalCommand;
+import org.eclipse.gmf.runtime.notation.Bounds;
+import org.eclipse.gmf.runtime.notation.Node;
+import org.eclipse.papyrus.infra.gmfdiag.common.model.NotationUtils;
+import org.eclipse.papyrus.uml.diagram.sequence.messages.Messages;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneCombinedFragmentCollapseUtil;
+
+/**
+ * Collapses or expands a Combined Fragment: the collapsed state is stored in the styles of its view,
+ * and its height is set to the height of its header, or restored to the height it had before being collapsed.
+ * Moving the elements below the Combined Fragment is left to the caller, which composes this command with a single move request.
+ */
+public class AdoneToggleCombinedFragmentCollapseCommand extends AbstractTransactionalCommand {
+
+	private Node cfView;
+
+	private boolean collapse;
+
+	private int currentHeight;
+
+	private int collapsedHeight;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param domain
+	 *            the editing domain
+	 * @param cfView
+	 *            the view of the Combined Fragment
+	 * @param collapse
+	 *            true to collapse the Combined Fragment, false to expand it
+	 * @param currentHeight
+	 *            the current height of the Combined Fragment figure
+	 * @param collapsedHeight
+	 *            the height of the Combined Fragment once collapsed, computed from its header
+	 */
+	public AdoneToggleCombinedFragmentCollapseCommand(TransactionalEditingDomain domain, Node cfView, boolean collapse, int currentHeight, int collapsedHeight) {
+		super(domain, collapse ? Messages.CombinedFragmentCollapse_CollapseCommand : Messages.CombinedFragmentCollapse_ExpandCommand, null);
+		this.cfView = cfView;
+		this.collapse = collapse;
+		this.currentHeight = currentHeight;
+		this.collapsedHeight = collapsedHeight;
+	}
+
+	/**
+	 * @param cfView
+	 *            the view of the Combined Fragment
+	 * @param collapse
+	 *            true if the Combined Fragment is being collapsed
+	 * @param currentHeight
+	 *            the current height of the Combined Fragment figure
+	 * @param collapsedHeight
+	 *            the height of the Combined Fragment once collapsed
+	 * @return the height of the Combined Fragment once the command is executed
+	 */
+	public static int getNewHeight(Node cfView, boolean collapse, int currentHeight, int collapsedHeight) {
+		if (collapse) {
+			return collapsedHeight;
+		}
+		int expandedHeight = AdoneCombinedFragmentCollapseUtil.getExpandedHeight(cfView);
+		return expandedHeight > 0 ? expandedHeight : currentHeight;
+	}
+
+	@Override
+	protected CommandResult doExecuteWithResult(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+		int newHeight = getNewHeight(cfView, collapse, currentHeight, collapsedHeight);
+		if (collapse) {
+			NotationUtils.set(cfView, AdoneCombinedFragmentCollapseUtil.EXPANDED_HEIGHT_STYLE, currentHeight);
+		}
+		NotationUtils.set(cfView, AdoneCombinedFragmentCollapseUtil.COLLAPSED_STYLE, collapse);
+		if (cfView.getLayoutConstraint() instanceof Bounds) {
+			((Bounds) cfView.getLayoutConstraint()).setHeight(newHeight);
+		}
+		AdoneCombinedFragmentCollapseUtil.resetCollapsedCache(cfView);
+		return CommandResult.newOKCommandResult();
+	}
+
+	@Override
+	protected IStatus doUndo(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+		IStatus status = super.doUndo(monitor, info);
+		AdoneCombinedFragmentCollapseUtil.resetCollapsedCache(cfView);
+		return status;
+	}
+
+	@Override
+	protected IStatus doRedo(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+		IStatus status = super.doRedo(monitor, info);
+		AdoneCombinedFragmentCollapseUtil.resetCollapsedCache(cfView);
+		return status;
+	}
+}
@@ -13,21 +13,20 @@
  *****************************************************************************/
 package org.eclipse.papyrus.uml.diagram.sequence.dialog;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.jface.dialogs.Dialog;
-import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.DoubleClickEvent;
 import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.IDoubleClickListener;
 import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.ILabelProviderListener;
+import org.eclipse.jface.viewers.ILazyContentProvider;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
-import org.eclipse.jface.viewers.IStructuredContentProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.SelectionChangedEvent;
-import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.SWT;
@@ -49,7 +48,6 @@ import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.PlatformUI;
-import org.eclipse.ui.dialogs.PatternFilter;
 import org.eclipse.uml2.uml.Classifier;
 import org.eclipse.uml2.uml.Operation;
 
@@ -62,7 +60,12 @@ import org.eclipse.uml2.uml.Operation;
  */
 public class AdoneOperationFilteredSelectionDialog extends Dialog {
 
+	/** Delay between the last keystroke and the search, in milliseconds **/
+	private static final int SEARCH_DELAY = 100;
+
 	private List<Operation> input;
+	private AdoneOperationSearchIndex searchIndex;
+	private final Runnable search = this::search;
 	private Text txtSearchInput;
 	private Table tblSearchResult;
 	private TableViewer tbvSearchResult;
@@ -81,7 +84,7 @@ public class AdoneOperationFilteredSelectionDialog extends Dialog {
 	public AdoneOperationFilteredSelectionDialog(Shell shell, Classifier owner, EList<Operation> input) {
 		super(shell);
 		this.input = input;
-		this.contentProvider = new FilteredSelectionOperationContensProvider();
+		this.contentProvider = new FilteredSelectionOperationLazyContentProvider();
 		this.labelProvider = new FilteredSelectionOperationLabelProvider();
 		this.owner = owner;
 
@@ -97,7 +100,7 @@ public class AdoneOperationFilteredSelectionDialog extends Dialog {
 	public AdoneOperationFilteredSelectionDialog(Shell shell, Classifier owner, EList<Operation> operations, Point msgLocation) {
 		super(shell);
 		this.input = owner.getOperations();
-		this.contentProvider = new FilteredSelectionOperationContensProvider();
+		this.contentProvider = new FilteredSelectionOperationLazyContentProvider();
 		this.labelProvider = new FilteredSelectionOperationLabelProvider();
 		this.selectedOperation = null;
 		this.msgLocation = msgLocation;
@@ -145,24 +148,18 @@ public class AdoneOperationFilteredSelectionDialog extends Dialog {
 		}
 
 		if (this.input != null) {
-			tbvSearchResult.setInput(this.input);
+			searchIndex = AdoneOperationSearchIndex.getIndex(owner, input);
+			tbvSearchResult.setInput(searchIndex.getOperations());
 		}
 
-		final PatternFilter filter = new PatternFilter() {
-			@Override
-			protected boolean isParentMatch(Viewer viewer, Object element) {
-				return viewer instanceof AbstractTreeViewer && super.isParentMatch(viewer, element);
-			}
-		};
-
-		tbvSearchResult.addFilter(filter);
+		// the search runs once the user stops typing, on the index of the operations
 		txtSearchInput.addModifyListener(new ModifyListener() {
 			@Override
 			public void modifyText(ModifyEvent e) {
-				filter.setPattern(((Text) e.widget).getText());
-				tbvSearchResult.refresh();
+				e.display.timerExec(SEARCH_DELAY, search);
 			}
 		});
+		txtSearchInput.addDisposeListener(e -> e.display.timerExec(-1, search));
 
 		tbvSearchResult.addSelectionChangedListener(new ISelectionChangedListener() {
 
@@ -204,7 +201,7 @@ public class AdoneOperationFilteredSelectionDialog extends Dialog {
 		comboOperations.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 1, 1));
 
 		// Populate the combo box with operations' names
-		String[] operationNames = input.stream().map(Operation::getName).toArray(String[]::new);
+		String[] operationNames = searchIndex != null ? searchIndex.getNames() : new String[0];
 		comboOperations.setItems(operationNames);
 
 		// Listener for combo box selection changes
@@ -229,12 +226,13 @@ public class AdoneOperationFilteredSelectionDialog extends Dialog {
 			public void widgetSelected(SelectionEvent e) {
 				AdoneUMLCreateOperationDialog dialog = new AdoneUMLCreateOperationDialog(getParentShell(), owner);
 				if (dialog.OK == dialog.open()) {
-					tbvSearchResult.setInput(owner.getOperations());
+					input = owner.getOperations();
+					searchIndex = AdoneOperationSearchIndex.getIndex(owner, input);
+					search();
 					Operation createdOp = dialog.getCreatedOp();
 
 					if (createdOp != null) {
-						IStructuredSelection selection = new StructuredSelection(createdOp);
-						tbvSearchResult.setSelection(selection, true);
+						selectOperation(createdOp);
 					}
 
 
@@ -248,6 +246,38 @@ public class AdoneOperationFilteredSelectionDialog extends Dialog {
 		return composite;
 	}
 
+	/**
+	 * Shows the operations matching the search text, the best matches first.
+	 */
+	private void search() {
+		if (searchIndex == null || tbvSearchResult == null || tbvSearchResult.getTable().isDisposed()) {
+			return;
+		}
+		tbvSearchResult.setInput(searchIndex.search(txtSearchInput.getText()));
+	}
+
+	/**
+	 * Selects an operation of the result. The virtual table only creates the item of the selected row.
+	 *
+	 * @param operation
+	 *            the operation to select
+	 */
+	private void selectOperation(Operation operation) {
+		Object result = tbvSearchResult.getInput();
+		int index = result instanceof List<?> ? ((List<?>) result).indexOf(operation) : -1;
+		if (index < 0) {
+			txtSearchInput.setText(""); //$NON-NLS-1$
+			search();
+			index = ((List<?>) tbvSearchResult.getInput()).indexOf(operation);
+		}
+		if (index >= 0) {
+			tblSearchResult.setSelection(index);
+			tblSearchResult.showSelection();
+			selectedElement = operation;
+			selectedOperation = operation;
+		}
+	}
+
 	@Override
 	protected void configureShell(Shell newShell) {
 		newShell.setModified(true);
@@ -349,28 +379,32 @@ class FilteredSelectionOperationLabelProvider implements ILabelProvider {
 
 }
 
-class FilteredSelectionOperationContensProvider implements IStructuredContentProvider {
+/**
+ * Lazy content provider of the virtual table: only the visible rows are materialized.
+ */
+class FilteredSelectionOperationLazyContentProvider implements ILazyContentProvider {
 
 	private List<Operation> operationes;
 
+	private TableViewer viewer;
+
 	@Override
 	public void dispose() {
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
-
-		if (newInput != null) {
-			this.operationes = (List<Operation>) newInput;
-		}
-
+		this.viewer = (TableViewer) viewer;
+		this.operationes = newInput instanceof List<?> ? (List<Operation>) newInput : Collections.emptyList();
+		this.viewer.setItemCount(operationes.size());
 	}
 
 	@Override
-	public Object[] getElements(Object inputElement) {
-
-		return this.operationes.toArray();
-
+	public void updateElement(int index) {
+		if (index < operationes.size()) {
+			viewer.replace(operationes.get(index), index);
+		}
 	}
 
 }
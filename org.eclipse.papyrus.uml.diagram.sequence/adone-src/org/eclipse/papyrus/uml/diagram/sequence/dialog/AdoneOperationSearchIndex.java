@@ -0,0 +1,473 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.dialog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.uml2.uml.Classifier;
+import org.eclipse.uml2.uml.Operation;
+import org.eclipse.uml2.uml.Parameter;
+import org.eclipse.uml2.uml.ParameterDirectionKind;
+import org.eclipse.uml2.uml.Type;
+import org.eclipse.uml2.uml.UMLPackage;
+
+/**
+ * Search index over the operations proposed as message signatures. The index is built once per owner and reused by the next openings of the dialog,
+ * as long as the list of operations is the same, nothing changed inside them (name, parameters, types, return type) and the types of their parameters
+ * were not renamed. The index is held by an adapter of the owner, so it lives as long as the owner, and it listens to the indexed operations
+ * and to the types of their parameters to be invalidated. For each operation, it keeps:
+ * - the lower case name and signature (name, parameter types and return type),
+ * - the mask of the characters of the signature,
+ * and for the whole list, the posting lists of the trigrams of the signatures.
+ * A search intersects the posting lists of the trigrams of the query (or filters on the character masks for the short queries),
+ * checks the remaining candidates and ranks them: exact name, name prefix, word of the name, name substring, signature substring, then the subsequences of the name.
+ * When nothing contains the query, the names having it as a subsequence are proposed (fuzzy match).
+ * As in the previous filter, '*' matches any string and '?' any character, and a query of several words also matches the operations matching each of its words.
+ */
+public class AdoneOperationSearchIndex {
+
+	private static final int RANK_EXACT = 0;
+
+	private static final int RANK_PREFIX = 1;
+
+	private static final int RANK_WORD = 2;
+
+	private static final int RANK_NAME = 3;
+
+	private static final int RANK_SIGNATURE = 4;
+
+	private static final int RANK_SUBSEQUENCE = 5;
+
+	private static final int NO_MATCH = -1;
+
+	private final List<Operation> operations;
+
+	private final String[] names;
+
+	private final String[] lowerNames;
+
+	private final String[] lowerSignatures;
+
+	private final long[] masks;
+
+	private final Map<String, int[]> trigrams = new HashMap<>();
+
+	/** Listener of the indexed operations, which invalidates the index on any change inside them **/
+	private final EContentAdapter operationsListener = new EContentAdapter() {
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			super.notifyChanged(notification);
+			if (!notification.isTouch() && notification.getEventType() != Notification.REMOVING_ADAPTER) {
+				stale = true;
+			}
+		}
+	};
+
+	/** Listener of the types of the parameters, whose names are part of the signatures **/
+	private final Adapter typesListener = new AdapterImpl() {
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			if (notification.getFeature() == UMLPackage.Literals.NAMED_ELEMENT__NAME && !notification.isTouch()) {
+				stale = true;
+			}
+		}
+	};
+
+	/** The types of the parameters of the indexed operations **/
+	private final Set<Type> types = new HashSet<>();
+
+	private volatile boolean stale;
+
+	private AdoneOperationSearchIndex(List<Operation> operations) {
+		this.operations = new ArrayList<>(operations);
+		int size = this.operations.size();
+		names = new String[size];
+		lowerNames = new String[size];
+		lowerSignatures = new String[size];
+		masks = new long[size];
+		Map<String, List<Integer>> postings = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			Operation operation = this.operations.get(i);
+			names[i] = operation.getName() == null ? "" : operation.getName(); //$NON-NLS-1$
+			lowerNames[i] = names[i].toLowerCase(Locale.ROOT);
+			lowerSignatures[i] = getSignature(operation).toLowerCase(Locale.ROOT);
+			for (Parameter parameter : operation.getOwnedParameters()) {
+				if (parameter.getType() != null) {
+					types.add(parameter.getType());
+				}
+			}
+			masks[i] = getMask(lowerSignatures[i]);
+			String signature = lowerSignatures[i];
+			for (int c = 0; c + 3 <= signature.length(); c++) {
+				List<Integer> posting = postings.computeIfAbsent(signature.substring(c, c + 3), key -> new ArrayList<>());
+				if (posting.isEmpty() || posting.get(posting.size() - 1) != i) {
+					posting.add(i);
+				}
+			}
+		}
+		for (Map.Entry<String, List<Integer>> posting : postings.entrySet()) {
+			trigrams.put(posting.getKey(), posting.getValue().stream().mapToInt(Integer::intValue).toArray());
+		}
+	}
+
+	/**
+	 * @param owner
+	 *            the owner of the operations, the key of the index
+	 * @param operations
+	 *            the operations to search
+	 * @return the index of the operations, the one built by a previous opening if the operations did not change since
+	 */
+	public static synchronized AdoneOperationSearchIndex getIndex(Classifier owner, List<Operation> operations) {
+		if (owner == null) {
+			return new AdoneOperationSearchIndex(operations);
+		}
+		IndexAdapter adapter = (IndexAdapter) EcoreUtil.getExistingAdapter(owner, IndexAdapter.class);
+		if (adapter == null) {
+			adapter = new IndexAdapter();
+			owner.eAdapters().add(adapter);
+		}
+		if (adapter.index == null || !adapter.index.isUpToDate(operations)) {
+			if (adapter.index != null) {
+				adapter.index.dispose();
+			}
+			adapter.index = new AdoneOperationSearchIndex(operations);
+			adapter.index.listen();
+		}
+		return adapter.index;
+	}
+
+	/**
+	 * @return the indexed operations, in their order
+	 */
+	public List<Operation> getOperations() {
+		return Collections.unmodifiableList(operations);
+	}
+
+	/**
+	 * @return the names of the indexed operations, in their order
+	 */
+	public String[] getNames() {
+		return names.clone();
+	}
+
+	/**
+	 * @param query
+	 *            the text typed by the user
+	 * @return the operations matching the query, the best matches first
+	 */
+	public List<Operation> search(String query) {
+		String lowerQuery = query == null ? "" : query.trim().toLowerCase(Locale.ROOT); //$NON-NLS-1$
+		if (lowerQuery.isEmpty() || "*".equals(lowerQuery)) { //$NON-NLS-1$
+			return getOperations();
+		}
+		int[] ranks = rankAll(lowerQuery);
+		String[] words = lowerQuery.split("\\s+"); //$NON-NLS-1$
+		if (words.length > 1) {
+			// as in the previous filter, the operations matching each word of the query also match, with the rank of their worst word
+			int[] wordRanks = rankAll(words[0]);
+			for (int w = 1; w < words.length; w++) {
+				int[] nextRanks = rankAll(words[w]);
+				for (int i = 0; i < wordRanks.length; i++) {
+					wordRanks[i] = wordRanks[i] == NO_MATCH || nextRanks[i] == NO_MATCH ? NO_MATCH : Math.max(wordRanks[i], nextRanks[i]);
+				}
+			}
+			for (int i = 0; i < ranks.length; i++) {
+				if (ranks[i] == NO_MATCH) {
+					ranks[i] = wordRanks[i];
+				}
+			}
+		}
+
+		List<Integer> matches = new ArrayList<>();
+		for (int i = 0; i < ranks.length; i++) {
+			if (ranks[i] != NO_MATCH) {
+				matches.add(i);
+			}
+		}
+		matches.sort((first, second) -> {
+			if (ranks[first] != ranks[second]) {
+				return Integer.compare(ranks[first], ranks[second]);
+			}
+			if (names[first].length() != names[second].length()) {
+				return Integer.compare(names[first].length(), names[second].length());
+			}
+			return Integer.compare(first, second);
+		});
+		List<Operation> result = new ArrayList<>(matches.size());
+		for (int i : matches) {
+			result.add(operations.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * @param lowerQuery
+	 *            a query in lower case
+	 * @return the rank of each operation for the query, {@link #NO_MATCH} for the operations that do not match
+	 */
+	private int[] rankAll(String lowerQuery) {
+		boolean wildcard = lowerQuery.indexOf('*') >= 0 || lowerQuery.indexOf('?') >= 0;
+		Pattern pattern = wildcard ? toPattern(lowerQuery) : null;
+
+		int[] ranks = new int[operations.size()];
+		Arrays.fill(ranks, NO_MATCH);
+		int[] candidates = getCandidates(lowerQuery);
+		if (candidates == null) {
+			// no trigram in the query, the operations having all its characters are checked
+			candidates = getMaskCandidates(lowerQuery);
+		}
+		boolean found = addMatches(candidates, lowerQuery, pattern, ranks);
+		if (!found && !wildcard && candidates.length < operations.size()) {
+			// fuzzy fallback: the query may be a subsequence of a name, which the trigrams do not find
+			addMatches(getMaskCandidates(lowerQuery), lowerQuery, null, ranks);
+		}
+		return ranks;
+	}
+
+	private boolean isUpToDate(List<Operation> current) {
+		if (stale || current.size() != operations.size()) {
+			return false;
+		}
+		for (int i = 0; i < operations.size(); i++) {
+			if (current.get(i) != operations.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void listen() {
+		for (Operation operation : operations) {
+			operation.eAdapters().add(operationsListener);
+		}
+		for (Type type : types) {
+			type.eAdapters().add(typesListener);
+		}
+	}
+
+	private void dispose() {
+		for (Operation operation : operations) {
+			operation.eAdapters().remove(operationsListener);
+		}
+		for (Type type : types) {
+			type.eAdapters().remove(typesListener);
+		}
+	}
+
+	private boolean addMatches(int[] candidates, String lowerQuery, Pattern pattern, int[] ranks) {
+		boolean found = false;
+		for (int i : candidates) {
+			int rank = pattern != null ? rankWildcard(i, pattern) : rank(i, lowerQuery);
+			if (rank != NO_MATCH) {
+				ranks[i] = rank;
+				found = true;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * @return the operations whose signature contains all the trigrams of the literal parts of the query, null if the query has no trigram
+	 */
+	private int[] getCandidates(String lowerQuery) {
+		int[] candidates = null;
+		for (String literal : lowerQuery.split("[*?]")) { //$NON-NLS-1$
+			for (int c = 0; c + 3 <= literal.length(); c++) {
+				int[] posting = trigrams.get(literal.substring(c, c + 3));
+				if (posting == null) {
+					return new int[0];
+				}
+				candidates = candidates == null ? posting : intersect(candidates, posting);
+			}
+		}
+		return candidates;
+	}
+
+	/**
+	 * @return the operations whose signature has all the characters of the query
+	 */
+	private int[] getMaskCandidates(String lowerQuery) {
+		long queryMask = getMask(lowerQuery);
+		int[] all = new int[operations.size()];
+		int count = 0;
+		for (int i = 0; i < masks.length; i++) {
+			if ((masks[i] & queryMask) == queryMask) {
+				all[count++] = i;
+			}
+		}
+		return Arrays.copyOf(all, count);
+	}
+
+	private int rank(int i, String lowerQuery) {
+		String name = lowerNames[i];
+		if (name.equals(lowerQuery)) {
+			return RANK_EXACT;
+		}
+		if (name.startsWith(lowerQuery)) {
+			return RANK_PREFIX;
+		}
+		int index = name.indexOf(lowerQuery);
+		if (index > 0) {
+			return isWordStart(names[i], index) ? RANK_WORD : RANK_NAME;
+		}
+		if (lowerSignatures[i].contains(lowerQuery)) {
+			return RANK_SIGNATURE;
+		}
+		return isSubsequence(lowerQuery, name) ? RANK_SUBSEQUENCE : NO_MATCH;
+	}
+
+	private int rankWildcard(int i, Pattern pattern) {
+		if (pattern.matcher(lowerNames[i]).lookingAt()) {
+			return RANK_PREFIX;
+		}
+		if (pattern.matcher(lowerNames[i]).find()) {
+			return RANK_NAME;
+		}
+		return pattern.matcher(lowerSignatures[i]).find() ? RANK_SIGNATURE : NO_MATCH;
+	}
+
+	/**
+	 * @return true if the character at the index starts a word of the name: after a separator, or an upper case letter in a camel case name
+	 */
+	private static boolean isWordStart(String name, int index) {
+		char previous = name.charAt(index - 1);
+		char current = name.charAt(index);
+		return !Character.isLetterOrDigit(previous) || (Character.isUpperCase(current) && !Character.isUpperCase(previous));
+	}
+
+	private static boolean isSubsequence(String query, String text) {
+		int t = 0;
+		for (int q = 0; q < query.length(); q++) {
+			t = text.indexOf(query.charAt(q), t);
+			if (t < 0) {
+				return false;
+			}
+			t++;
+		}
+		return true;
+	}
+
+	private static Pattern toPattern(String lowerQuery) {
+		StringBuilder regex = new StringBuilder();
+		StringBuilder literal = new StringBuilder();
+		for (char c : lowerQuery.toCharArray()) {
+			if (c == '*' || c == '?') {
+				if (literal.length() > 0) {
+					regex.append(Pattern.quote(literal.toString()));
+					literal.setLength(0);
+				}
+				regex.append(c == '*' ? ".*" : "."); //$NON-NLS-1$ //$NON-NLS-2$
+			} else {
+				literal.append(c);
+			}
+		}
+		if (literal.length() > 0) {
+			regex.append(Pattern.quote(literal.toString()));
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+	private static int[] intersect(int[] first, int[] second) {
+		int[] result = new int[Math.min(first.length, second.length)];
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < first.length && j < second.length) {
+			if (first[i] == second[j]) {
+				result[count++] = first[i];
+				i++;
+				j++;
+			} else if (first[i] < second[j]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * @return a mask of the letters, digits and '_' of the text, the other characters sharing the last bit
+	 */
+	private static long getMask(String lowerText) {
+		long mask = 0;
+		for (int i = 0; i < lowerText.length(); i++) {
+			char c = lowerText.charAt(i);
+			if (c >= 'a' && c <= 'z') {
+				mask |= 1L << (c - 'a');
+			} else if (c >= '0' && c <= '9') {
+				mask |= 1L << (26 + c - '0');
+			} else if (c == '_') {
+				mask |= 1L << 36;
+			} else if (c != '*' && c != '?' && !Character.isWhitespace(c)) {
+				mask |= 1L << 37;
+			}
+		}
+		return mask;
+	}
+
+	private static String getSignature(Operation operation) {
+		StringBuilder signature = new StringBuilder(operation.getName() == null ? "" : operation.getName()); //$NON-NLS-1$
+		signature.append('(');
+		boolean first = true;
+		String returnType = null;
+		for (Parameter parameter : operation.getOwnedParameters()) {
+			String type = parameter.getType() == null ? "" : parameter.getType().getName(); //$NON-NLS-1$
+			if (parameter.getDirection() == ParameterDirectionKind.RETURN_LITERAL) {
+				returnType = type;
+				continue;
+			}
+			if (!first) {
+				signature.append(", "); //$NON-NLS-1$
+			}
+			signature.append(parameter.getName() == null ? "" : parameter.getName()).append(" : ").append(type); //$NON-NLS-1$ //$NON-NLS-2$
+			first = false;
+		}
+		signature.append(')');
+		if (returnType != null) {
+			signature.append(" : ").append(returnType); //$NON-NLS-1$
+		}
+		return signature.toString();
+	}
+
+	/**
+	 * Adapter of the owner of the operations, holding their index.
+	 */
+	private static class IndexAdapter extends AdapterImpl {
+
+		private AdoneOperationSearchIndex index;
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == IndexAdapter.class;
+		}
+	}
+}
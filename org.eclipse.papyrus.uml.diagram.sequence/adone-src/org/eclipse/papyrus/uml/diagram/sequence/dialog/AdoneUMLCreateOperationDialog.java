@@ -198,11 +198,11 @@ public class AdoneUMLCreateOperationDialog extends Dialog {
 				String typeName = cmbInputPrimitiveType.getText();
 
 				if ("String".equals(typeName)) {
-					inputParamType = AdoneUMLCommonHelper.getPrimitiveType(typeName);
+					inputParamType = AdoneUMLCommonHelper.getPrimitiveType(typeName, owner);
 				} else if ("Date".equals(typeName) || "Object".equals(typeName)) {
-					inputParamType = AdoneUMLCommonHelper.getPrimitiveType("String");
+					inputParamType = AdoneUMLCommonHelper.getPrimitiveType("String", owner);
 				} else {
-					inputParamType = AdoneUMLCommonHelper.getJavaPrimitiveType(typeName);
+					inputParamType = AdoneUMLCommonHelper.getJavaPrimitiveType(typeName, owner);
 				}
 				txtInputTypeName.setText(typeName);
 			}
@@ -263,7 +263,7 @@ public class AdoneUMLCreateOperationDialog extends Dialog {
 			}
 		});
 
-		inputParamType = AdoneUMLCommonHelper.getPrimitiveType("String");
+		inputParamType = AdoneUMLCommonHelper.getPrimitiveType("String", owner);
 
 		Label lblReturn = new Label(container, SWT.NONE);
 		lblReturn.setText("Return Param name :");
@@ -308,11 +308,11 @@ public class AdoneUMLCreateOperationDialog extends Dialog {
 				String typeName = cmbReturnPrimitiveType.getText();
 
 				if ("String".equals(typeName)) {
-					returnParamType = AdoneUMLCommonHelper.getPrimitiveType(typeName);
+					returnParamType = AdoneUMLCommonHelper.getPrimitiveType(typeName, owner);
 				} else if ("Date".equals(typeName) || "Object".equals(typeName)) {
-					returnParamType = AdoneUMLCommonHelper.getPrimitiveType(typeName);
+					returnParamType = AdoneUMLCommonHelper.getPrimitiveType(typeName, owner);
 				} else {
-					returnParamType = AdoneUMLCommonHelper.getJavaPrimitiveType(typeName);
+					returnParamType = AdoneUMLCommonHelper.getJavaPrimitiveType(typeName, owner);
 				}
 				txtReturnTypeName.setText(typeName);
 			}
@@ -371,7 +371,7 @@ public class AdoneUMLCreateOperationDialog extends Dialog {
 
 		checkTranslation = false;
 
-		returnParamType = AdoneUMLCommonHelper.getPrimitiveType("String");
+		returnParamType = AdoneUMLCommonHelper.getPrimitiveType("String", owner);
 
 		return container;
 	}
@@ -14,12 +14,25 @@
 
 package org.eclipse.papyrus.uml.diagram.sequence.dialog;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TreeViewer;
@@ -27,18 +40,23 @@ import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Classifier;
 import org.eclipse.uml2.uml.Collaboration;
 import org.eclipse.uml2.uml.Element;
 import org.eclipse.uml2.uml.Interface;
 import org.eclipse.uml2.uml.Model;
 import org.eclipse.uml2.uml.NamedElement;
 import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.UMLPackage;
 
 /**
  * A content provider for displaying UML elements in a tree structure. This class provides
  * the necessary logic to populate a TreeViewer with UML elements, supporting hierarchical
  * relationships between elements such as packages, classes, interfaces, and other UML constructs.
  * It handles the structure of UML models and displays elements in a sorted manner for easy navigation.
+ * The sorted children of an element are computed on its first expansion and cached. An adapter on the cached elements invalidates the entry
+ * of an element when its contents change, or when one of its children is renamed. The classifiers of the tree are indexed by name
+ * on the first search, so that the filter does not walk the tree for each element.
  */
 public class AdoneUMLElementTreeContensProvider implements ITreeContentProvider {
 
@@ -46,6 +64,31 @@ public class AdoneUMLElementTreeContensProvider implements ITreeContentProvider
 
 	private TreeViewer treeViewer;
 
+	private final Map<Object, Object[]> childrenCache = new HashMap<>();
+
+	private final Set<Notifier> adaptedElements = new HashSet<>();
+
+	/** The classifiers of the tree, built on the first search **/
+	private List<NamedElement> nameIndex;
+
+	private final Adapter invalidationAdapter = new AdapterImpl() {
+
+		@Override
+		public void notifyChanged(Notification msg) {
+			if (msg.isTouch()) {
+				return;
+			}
+			Object feature = msg.getFeature();
+			if (feature instanceof EReference && ((EReference) feature).isContainment()) {
+				childrenCache.remove(msg.getNotifier());
+				nameIndex = null;
+			} else if (feature == UMLPackage.Literals.NAMED_ELEMENT__NAME && msg.getNotifier() instanceof EObject) {
+				// the order of the siblings changes
+				childrenCache.remove(((EObject) msg.getNotifier()).eContainer());
+			}
+		}
+	};
+
 	/*
 	 * @see
 	 * org.eclipse.jface.viewers.ITreeContentProvider#getChildren(java.lang.
@@ -53,6 +96,10 @@ public class AdoneUMLElementTreeContensProvider implements ITreeContentProvider
 	 */
 	@Override
 	public Object[] getChildren(Object parentElement) {
+		Object[] cached = childrenCache.get(parentElement);
+		if (cached != null) {
+			return cached;
+		}
 
 		List<Object> children = new ArrayList<>();
 
@@ -62,20 +109,37 @@ public class AdoneUMLElementTreeContensProvider implements ITreeContentProvider
 
 		NamedElement ownerElement = (NamedElement) parentElement;
 
-		for (Object object : ownerElement.getOwnedElements()) {
-
-			if (object instanceof Collaboration) {
-				continue;
-			}
+		// the packaged elements of a package are its only owned elements shown in the tree, no need to compute the whole union
+		Collection<? extends Element> ownedElements = ownerElement instanceof Package ? ((Package) ownerElement).getPackagedElements() : ownerElement.getOwnedElements();
+		for (Object object : ownedElements) {
 
-			if (object instanceof Package || object instanceof Class || object instanceof Interface) {
+			if (isShown(object)) {
 				children.add(object);
 			}
 		}
 
 		this.sortModel(children);
 
-		return children.toArray();
+		Object[] result = children.toArray();
+		childrenCache.put(parentElement, result);
+		adapt(ownerElement);
+		for (Object child : result) {
+			adapt((Notifier) child);
+		}
+		return result;
+	}
+
+	private static boolean isShown(Object object) {
+		if (object instanceof Collaboration) {
+			return false;
+		}
+		return object instanceof Package || object instanceof Class || object instanceof Interface;
+	}
+
+	private void adapt(Notifier element) {
+		if (adaptedElements.add(element)) {
+			element.eAdapters().add(invalidationAdapter);
+		}
 	}
 
 	private void sortModel(List<Object> array) {
@@ -85,9 +149,9 @@ public class AdoneUMLElementTreeContensProvider implements ITreeContentProvider
 			public int compare(Object r1, Object r2) {
 
 				if (r1 instanceof NamedElement && r2 instanceof NamedElement) {
-					NamedElement r1e = (NamedElement) r1;
-					NamedElement r2e = (NamedElement) r2;
-					return r1e.getName().compareTo(r2e.getName());
+					String r1n = ((NamedElement) r1).getName();
+					String r2n = ((NamedElement) r2).getName();
+					return (r1n == null ? "" : r1n).compareTo(r2n == null ? "" : r2n); //$NON-NLS-1$ //$NON-NLS-2$
 				}
 
 				return 0;
@@ -121,9 +185,15 @@ public class AdoneUMLElementTreeContensProvider implements ITreeContentProvider
 	public boolean hasChildren(Object element) {
 
 		if (element instanceof Package || element instanceof Model) {
-			NamedElement ownerElement = (NamedElement) element;
-			if (ownerElement.getOwnedElements().size() > 0) {
-				return true;
+			Object[] cached = childrenCache.get(element);
+			if (cached != null) {
+				return cached.length > 0;
+			}
+			// stops at the first child shown, without sorting
+			for (Object object : ((Package) element).getPackagedElements()) {
+				if (isShown(object)) {
+					return true;
+				}
 			}
 		}
 
@@ -155,6 +225,9 @@ public class AdoneUMLElementTreeContensProvider implements ITreeContentProvider
 	@Override
 	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
 
+		// the index is built from the roots of the input
+		nameIndex = null;
+
 		Collection<Element> filteredModels = new ArrayList<>();
 
 		if (newInput instanceof List) {
@@ -179,9 +252,73 @@ public class AdoneUMLElementTreeContensProvider implements ITreeContentProvider
 
 	}
 
+	@Override
+	public void dispose() {
+		for (Notifier element : adaptedElements) {
+			element.eAdapters().remove(invalidationAdapter);
+		}
+		adaptedElements.clear();
+		childrenCache.clear();
+		nameIndex = null;
+	}
+
+	/**
+	 * @param text
+	 *            the searched text
+	 * @return the classifiers of the tree whose name contains the text, found in the name index
+	 */
+	public List<NamedElement> findByName(String text) {
+		if (nameIndex == null) {
+			nameIndex = buildNameIndex();
+		}
+		List<NamedElement> result = new ArrayList<>();
+		for (NamedElement element : nameIndex) {
+			if (element.getName() != null && element.getName().contains(text)) {
+				result.add(element);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @param elements
+	 *            elements of the tree
+	 * @return the elements and their ancestors in the tree
+	 */
+	public Set<Object> getPaths(Collection<? extends Object> elements) {
+		Set<Object> result = new LinkedHashSet<>();
+		for (Object element : elements) {
+			for (Object current = element; current != null && result.add(current); current = getParent(current)) {
+				// the ancestors of an element already added are already in the paths
+			}
+		}
+		return result;
+	}
+
+	private List<NamedElement> buildNameIndex() {
+		List<NamedElement> index = new ArrayList<>();
+		Deque<Object> toVisit = new ArrayDeque<>();
+		for (Object root : getElements(null)) {
+			toVisit.add(root);
+		}
+		while (!toVisit.isEmpty()) {
+			Object element = toVisit.poll();
+			if (element instanceof Classifier) {
+				index.add((NamedElement) element);
+			}
+			if (hasChildren(element)) {
+				for (Object child : getChildren(element)) {
+					toVisit.add(child);
+				}
+			}
+		}
+		return index;
+	}
+
 	public void selectAndExpandElement(Object selectedElement) {
 		if (selectedElement != null && treeViewer != null) {
-			treeViewer.expandToLevel(selectedElement, TreeViewer.ALL_LEVELS);
+			// only the path to the element is expanded
+			treeViewer.reveal(selectedElement);
 			treeViewer.setSelection(new StructuredSelection(selectedElement), true);
 
 			Tree tree = treeViewer.getTree();
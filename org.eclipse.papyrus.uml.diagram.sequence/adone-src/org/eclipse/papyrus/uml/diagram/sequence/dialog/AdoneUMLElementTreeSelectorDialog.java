@@ -14,7 +14,6 @@
 package org.eclipse.papyrus.uml.diagram.sequence.dialog;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.jface.dialogs.Dialog;
@@ -24,7 +23,6 @@ import org.eclipse.jface.viewers.DoubleClickEvent;
 import org.eclipse.jface.viewers.IDoubleClickListener;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
 import org.eclipse.jface.viewers.IStructuredSelection;
-import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.SelectionChangedEvent;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
@@ -44,9 +42,7 @@ import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.ui.PlatformUI;
-import org.eclipse.uml2.uml.Classifier;
 import org.eclipse.uml2.uml.Element;
-import org.eclipse.uml2.uml.NamedElement;
 import org.eclipse.uml2.uml.Type;
 
 /**
@@ -67,7 +63,7 @@ public class AdoneUMLElementTreeSelectorDialog extends Dialog {
 	private Text txtFilterText;
 
 	// Filter for the tree viewer based on text input.
-	private ViewerFilter treeFilter;
+	private UMLTypeTreeFilter treeFilter;
 
 	// The initial location of the dialog.
 	private Point dialogLocation;
@@ -205,12 +201,22 @@ public class AdoneUMLElementTreeSelectorDialog extends Dialog {
 	private void applyFilter() {
 		if (this.txtFilterText.getText().length() >= 2) {
 			// When more than 2 characters are entered based on Korean characters
+			AdoneUMLElementTreeContensProvider provider = (AdoneUMLElementTreeContensProvider) this.treeViewer.getContentProvider();
+			// the matching elements are found in the name index of the provider, only their paths are shown and expanded
+			Set<Object> paths = provider.getPaths(provider.findByName(this.txtFilterText.getText()));
 			if (this.treeFilter == null) {
-				this.treeFilter = new UMLTypeTreeFilter();
+				this.treeFilter = new UMLTypeTreeFilter(paths);
 				this.treeViewer.addFilter(this.treeFilter);
+			} else {
+				this.treeFilter.setVisibleElements(paths);
+			}
+			this.treeViewer.getTree().setRedraw(false);
+			try {
+				this.treeViewer.refresh();
+				this.treeViewer.setExpandedElements(paths.toArray());
+			} finally {
+				this.treeViewer.getTree().setRedraw(true);
 			}
-			this.treeViewer.refresh();
-			this.treeViewer.expandAll();
 
 		} else {
 			if (this.treeFilter != null) {
@@ -222,50 +228,20 @@ public class AdoneUMLElementTreeSelectorDialog extends Dialog {
 
 	private class UMLTypeTreeFilter extends ViewerFilter {
 
-		private Set<Classifier> matchingOperations = new HashSet<>();
-
-		@Override
-		public boolean select(Viewer viewer, Object parentElement, Object element) {
-			if (element instanceof NamedElement) {
-				NamedElement namedElement = (NamedElement) element;
-
-				// 1. When the current item matches the filtering criteria
-				if (namedElement.getName().contains(txtFilterText.getText())) {
-					if (namedElement instanceof Classifier) {
-						matchingOperations.add((Classifier) namedElement); // �׸� ����
-
-						return true;
-					}
-				}
-			}
-
-			// 2. When the current item is the parent of an item that matches the filtering criteria
-			if (isAncestorOfMatchingElement(viewer, element, txtFilterText.getText())) {
-				return true;
-			}
+		/** The matching elements and their ancestors **/
+		private Set<Object> visibleElements;
 
-			return false;
+		UMLTypeTreeFilter(Set<Object> visibleElements) {
+			this.visibleElements = visibleElements;
 		}
 
-		private boolean isAncestorOfMatchingElement(Viewer viewer, Object ancestor, String name) {
-			ITreeContentProvider provider = (ITreeContentProvider) ((TreeViewer) viewer).getContentProvider();
-			Object[] children = provider.getChildren(ancestor);
-
-			for (Object child : children) {
-				if (child instanceof NamedElement) {
-					NamedElement childElement = (NamedElement) child;
-					if (childElement.getName().contains(name)) {
-						if (childElement instanceof Classifier) {
-							return true;
-						}
-					}
-					if (isAncestorOfMatchingElement(viewer, childElement, name)) {
-						return true;
-					}
-				}
-			}
+		void setVisibleElements(Set<Object> visibleElements) {
+			this.visibleElements = visibleElements;
+		}
 
-			return false;
+		@Override
+		public boolean select(Viewer viewer, Object parentElement, Object element) {
+			return visibleElements.contains(element);
 		}
 
 	}
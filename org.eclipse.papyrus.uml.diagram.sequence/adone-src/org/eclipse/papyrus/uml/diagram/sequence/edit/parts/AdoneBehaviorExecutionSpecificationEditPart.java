@@ -39,7 +39,9 @@ import org.eclipse.papyrus.uml.diagram.sequence.edit.policies.UpdateConnectionRe
 import org.eclipse.papyrus.uml.diagram.sequence.edit.policies.UpdateWeakReferenceForExecSpecEditPolicy;
 import org.eclipse.papyrus.uml.diagram.sequence.figures.AdoneExecutionSpecificationRectangleFigure;
 import org.eclipse.papyrus.uml.diagram.sequence.tools.AdoneBehaviorExecutionDragEditPartsTracker;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneCombinedFragmentCollapseUtil;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceUtil;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneViewportVirtualizer;
 import org.eclipse.papyrus.uml.diagram.sequence.util.SelfMessageHelper;
 import org.eclipse.uml2.uml.BehaviorExecutionSpecification;
 import org.eclipse.uml2.uml.ExecutionOccurrenceSpecification;
@@ -154,6 +156,24 @@ public class AdoneBehaviorExecutionSpecificationEditPart extends
 		return super.getCommand(request);
 	}
 
+	/**
+	 * The messages out of the visible part of a virtualized interaction, or enclosed in a collapsed Combined Fragment, are not turned into edit parts.
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	protected List getModelSourceConnections() {
+		return AdoneCombinedFragmentCollapseUtil.filterHidden(AdoneViewportVirtualizer.filter(this, super.getModelSourceConnections()));
+	}
+
+	/**
+	 * The messages out of the visible part of a virtualized interaction, or enclosed in a collapsed Combined Fragment, are not turned into edit parts.
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	protected List getModelTargetConnections() {
+		return AdoneCombinedFragmentCollapseUtil.filterHidden(AdoneViewportVirtualizer.filter(this, super.getModelTargetConnections()));
+	}
+
 	@Override
 	public DragTracker getDragTracker(Request request) {
 		// Redefines the DragTracker to use a new class for customized drag behavior.
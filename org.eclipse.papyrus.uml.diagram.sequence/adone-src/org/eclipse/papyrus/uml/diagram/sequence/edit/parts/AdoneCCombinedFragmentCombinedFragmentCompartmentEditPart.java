@@ -17,9 +17,13 @@
  *****************************************************************************/
 package org.eclipse.papyrus.uml.diagram.sequence.edit.parts;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.gmf.runtime.diagram.ui.editpolicies.EditPolicyRoles;
 import org.eclipse.gmf.runtime.notation.View;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.policies.AdoneCombinedCreationEditPolicy;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneCombinedFragmentCollapseUtil;
 
 /**
  * Extends the functionality for creating Combined Fragments by overriding the edit policy.
@@ -37,4 +41,31 @@ public class AdoneCCombinedFragmentCombinedFragmentCompartmentEditPart extends C
 		installEditPolicy(EditPolicyRoles.CREATION_ROLE, new AdoneCombinedCreationEditPolicy());
 	}
 
+	/**
+	 * The operands of a collapsed Combined Fragment are not turned into edit parts, they are created when it is expanded.
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	protected List getModelChildren() {
+		if (isParentCollapsed()) {
+			return Collections.EMPTY_LIST;
+		}
+		return super.getModelChildren();
+	}
+
+	/**
+	 * The compartment of a collapsed Combined Fragment is hidden.
+	 */
+	@Override
+	protected void refreshVisibility() {
+		super.refreshVisibility();
+		if (isParentCollapsed()) {
+			getFigure().setVisible(false);
+		}
+	}
+
+	private boolean isParentCollapsed() {
+		return getParent() != null && AdoneCombinedFragmentCollapseUtil.isCollapsed((View) getParent().getModel());
+	}
+
 }
@@ -28,18 +28,33 @@ import java.util.List;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.gef.DragTracker;
+import org.eclipse.gef.EditPart;
 import org.eclipse.gef.EditPolicy;
 import org.eclipse.gef.Request;
+import org.eclipse.gef.commands.Command;
+import org.eclipse.gef.commands.CompoundCommand;
 import org.eclipse.gef.requests.ChangeBoundsRequest;
+import org.eclipse.gmf.runtime.diagram.ui.commands.ICommandProxy;
+import org.eclipse.gmf.runtime.diagram.ui.editparts.IGraphicalEditPart;
 import org.eclipse.gmf.runtime.diagram.ui.editpolicies.EditPolicyRoles;
+import org.eclipse.gmf.runtime.notation.NamedStyle;
+import org.eclipse.gmf.runtime.notation.Node;
 import org.eclipse.gmf.runtime.notation.View;
+import org.eclipse.papyrus.uml.diagram.sequence.command.AdoneToggleCombinedFragmentCollapseCommand;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.policies.AdoneCombinedFragmentDefaultSemanticEditPolicy;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.policies.AdoneCombinedFragmentResizeEditPolicy;
 import org.eclipse.papyrus.uml.diagram.sequence.figures.AdoneCombinedFragmentFigure;
+import org.eclipse.papyrus.uml.diagram.sequence.messages.Messages;
+import org.eclipse.papyrus.uml.diagram.sequence.requests.AdoneMoveInteractionFragmentElementRequest;
 import org.eclipse.papyrus.uml.diagram.sequence.tools.AdoneDragCombinedFragmentEditPartsTracker;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneCombinedFragmentCollapseUtil;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneElementOrderChangeManager;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceUtil;
+import org.eclipse.papyrus.uml.diagram.sequence.util.OperandBoundsComputeHelper;
+import org.eclipse.papyrus.uml.diagram.sequence.util.SequenceUtil;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
@@ -79,7 +94,8 @@ public class AdoneCombinedFragmentEditPart extends CCombinedFragmentEditPart {
 		super.activate();
 
 		// Implements deactivation of Order Change mode upon pressing the ESC key (2024-01-06)
-		Display.getCurrent().addFilter(SWT.KeyDown, new Listener() {
+		// The listener is kept so that deactivate() removes the filter from the display
+		this.keyDownListener = new Listener() {
 			@Override
 			public void handleEvent(Event event) {
 				if (event.keyCode == SWT.ESC) {
@@ -91,15 +107,16 @@ public class AdoneCombinedFragmentEditPart extends CCombinedFragmentEditPart {
 					});
 				}
 			}
-		});
+		};
+		Display.getCurrent().addFilter(SWT.KeyDown, this.keyDownListener);
 
 	}
 
 	private void handleEscapeKeyPress() {
 		// finish change order mode
-		AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(false);
+		AdoneElementOrderChangeManager.getInstance(this).setElementOrderChangeMode(false);
 		IFigure figure = this.getContentPane();
-		AdoneElementOrderChangeManager.getInstance().resetFigureLineColorToDefault(figure);
+		AdoneElementOrderChangeManager.getInstance(this).resetFigureLineColorToDefault(figure);
 	}
 
 	@Override
@@ -107,6 +124,7 @@ public class AdoneCombinedFragmentEditPart extends CCombinedFragmentEditPart {
 
 		if (this.keyDownListener != null) {
 			Display.getCurrent().removeFilter(SWT.KeyDown, this.keyDownListener);
+			this.keyDownListener = null;
 		}
 		super.deactivate();
 
@@ -135,11 +153,18 @@ public class AdoneCombinedFragmentEditPart extends CCombinedFragmentEditPart {
 
 				String tryCatchYn = EcoreUtil.getAnnotation(semantic, "", "TryCatch");
 
+				String name;
 				if (tryCatchYn != null && "true".equals(tryCatchYn)) {
-					getPrimaryShape().setName("TryCatch");
+					name = "TryCatch";
 				} else {
-					getPrimaryShape().setName(semantic.getInteractionOperator().getLiteral());
+					name = semantic.getInteractionOperator().getLiteral();
+				}
+
+				// A collapsed CombinedFragment displays a summary of its hidden content instead of the operator only.
+				if (AdoneCombinedFragmentCollapseUtil.isCollapsed(getNotationView())) {
+					name = AdoneCombinedFragmentCollapseUtil.getSummary(semantic, name);
 				}
+				getPrimaryShape().setName(name);
 
 			}
 		} catch (Exception e) {
@@ -147,6 +172,123 @@ public class AdoneCombinedFragmentEditPart extends CCombinedFragmentEditPart {
 		}
 	}
 
+	/**
+	 * Builds the command collapsing the CombinedFragment if it is expanded, expanding it otherwise.
+	 * The elements below the CombinedFragment are moved by the height difference with a single move request,
+	 * and the lifelines are resized accordingly, as done when a CombinedFragment is created.
+	 * The content of a collapsed CombinedFragment loses its edit parts and is left in place.
+	 *
+	 * @return the command, null if the CombinedFragment is not in an interaction compartment
+	 */
+	public Command getToggleCollapseCommand() {
+		InteractionInteractionCompartmentEditPart interactionCompartmentEp = AdoneSequenceUtil.getInteractionInteractionCompartmentEditPart(this);
+		if (interactionCompartmentEp == null || !(getNotationView() instanceof Node)) {
+			return null;
+		}
+
+		Node cfView = (Node) getNotationView();
+		boolean collapse = !AdoneCombinedFragmentCollapseUtil.isCollapsed(cfView);
+		int currentHeight = getFigure().getBounds().height;
+		int collapsedHeight = getCollapsedHeight();
+		int moveDeltaY = AdoneToggleCombinedFragmentCollapseCommand.getNewHeight(cfView, collapse, currentHeight, collapsedHeight) - currentHeight;
+
+		CompoundCommand command = new CompoundCommand(collapse ? Messages.CombinedFragmentCollapse_CollapseCommand : Messages.CombinedFragmentCollapse_ExpandCommand);
+		command.add(new ICommandProxy(new AdoneToggleCombinedFragmentCollapseCommand(getEditingDomain(), cfView, collapse, currentHeight, collapsedHeight)));
+
+		if (moveDeltaY != 0) {
+			Rectangle absoluteBounds = SequenceUtil.getAbsoluteBounds(this);
+
+			// Moves the elements below the CombinedFragment at once, its hidden content is left in place.
+			AdoneMoveInteractionFragmentElementRequest moveRequest = new AdoneMoveInteractionFragmentElementRequest();
+			moveRequest.setMoveDelta(new Point(0, moveDeltaY));
+			moveRequest.setLocation(absoluteBounds.getBottomLeft());
+			moveRequest.setTargetLocation(absoluteBounds.getBottomLeft());
+
+			Command moveAllBelowEpCommand = interactionCompartmentEp.getCommand(moveRequest);
+			if (moveAllBelowEpCommand != null && moveAllBelowEpCommand.canExecute()) {
+				command.add(moveAllBelowEpCommand);
+			}
+
+			Command resizeLifelineEpCommand = AdoneSequenceUtil.getResizeLifelineHeightCommand(interactionCompartmentEp, moveDeltaY);
+			if (resizeLifelineEpCommand != null && resizeLifelineEpCommand.canExecute()) {
+				command.add(resizeLifelineEpCommand);
+			}
+
+			Command resizeFirstBesEpCommand = AdoneSequenceUtil.getResizeFirstBesEpHeightForMoveCommand(interactionCompartmentEp, moveDeltaY);
+			if (resizeFirstBesEpCommand != null && resizeFirstBesEpCommand.canExecute()) {
+				command.add(resizeFirstBesEpCommand);
+			}
+		}
+		return command;
+	}
+
+	/**
+	 * Executes the command collapsing or expanding the CombinedFragment.
+	 */
+	public void toggleCollapse() {
+		Command toggleCommand = getToggleCollapseCommand();
+		if (toggleCommand != null && toggleCommand.canExecute()) {
+			getDiagramEditDomain().getDiagramCommandStack().execute(toggleCommand);
+		}
+	}
+
+	/**
+	 * @return the height of the collapsed CombinedFragment: the height of its header, with the insets of its shape
+	 */
+	private int getCollapsedHeight() {
+		return OperandBoundsComputeHelper.computeCombinedFragementHeaderHeight(this) + getPrimaryShape().getInsets().getHeight();
+	}
+
+	@Override
+	protected void handleNotificationEvent(Notification event) {
+		super.handleNotificationEvent(event);
+
+		if (isCollapsedStyleChange(event)) {
+			refreshCollapsedContent();
+		}
+	}
+
+	private boolean isCollapsedStyleChange(Notification event) {
+		Object notifier = event.getNotifier();
+		if (notifier == getNotationView()) {
+			// The style is added to or removed from the view.
+			return isCollapsedStyle(event.getNewValue()) || isCollapsedStyle(event.getOldValue());
+		}
+		// The value of the style is changed.
+		return isCollapsedStyle(notifier) && ((NamedStyle) notifier).eContainer() == getNotationView();
+	}
+
+	private static boolean isCollapsedStyle(Object object) {
+		return object instanceof NamedStyle && AdoneCombinedFragmentCollapseUtil.COLLAPSED_STYLE.equals(((NamedStyle) object).getName());
+	}
+
+	/**
+	 * Removes or creates the edit parts of the content of the CombinedFragment after it was collapsed or expanded:
+	 * the operands of its compartment, and the fragments and messages it encloses, which belong to the interaction compartment and to the lifelines.
+	 */
+	private void refreshCollapsedContent() {
+		AdoneCombinedFragmentCollapseUtil.resetCollapsedCache(getNotationView());
+		for (Object child : getChildren()) {
+			if (child instanceof CombinedFragmentCombinedFragmentCompartmentEditPart) {
+				((EditPart) child).refresh();
+			}
+		}
+		refreshLabel();
+
+		InteractionInteractionCompartmentEditPart interactionCompartmentEp = AdoneSequenceUtil.getInteractionInteractionCompartmentEditPart(this);
+		if (interactionCompartmentEp != null) {
+			interactionCompartmentEp.refresh();
+		}
+		for (LifelineEditPart lifelineEp : AdoneSequenceUtil.getAllLifelineEditParts(this)) {
+			lifelineEp.refresh();
+			for (Object child : lifelineEp.getChildren()) {
+				if (child instanceof IGraphicalEditPart) {
+					((EditPart) child).refresh();
+				}
+			}
+		}
+	}
+
 	@Override
 	protected void createDefaultEditPolicies() {
 		super.createDefaultEditPolicies();
@@ -162,7 +304,7 @@ public class AdoneCombinedFragmentEditPart extends CCombinedFragmentEditPart {
 	public void refresh() {
 
 		// Prevents message color reset caused by refresh execution during change order mode (2024-02-02)
-		if (AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+		if (AdoneElementOrderChangeManager.getInstance(this).isElementOrderChangeMode()) {
 			return;
 		}
 
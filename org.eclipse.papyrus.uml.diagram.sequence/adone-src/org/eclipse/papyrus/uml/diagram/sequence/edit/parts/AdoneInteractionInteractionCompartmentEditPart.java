@@ -19,24 +19,82 @@
 
 package org.eclipse.papyrus.uml.diagram.sequence.edit.parts;
 
+import java.util.List;
+
 import org.eclipse.gef.EditPolicy;
 import org.eclipse.gmf.runtime.diagram.ui.editpolicies.EditPolicyRoles;
 import org.eclipse.gmf.runtime.notation.View;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.policies.AdoneDragDropEditPolicy;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.policies.AdoneMoveResizeXYLayoutEditPolicy;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.policies.AdoneInteractionFragmentContainerCreationEditPolicy;
+import org.eclipse.papyrus.uml.diagram.sequence.part.UMLDiagramEditorPlugin;
+import org.eclipse.papyrus.uml.diagram.sequence.preferences.CustomDiagramGeneralPreferencePage;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneCombinedFragmentCollapseUtil;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneViewportVirtualizer;
 
 /**
  * Enhances the standard Interaction Compartment Edit Part with custom edit policies for creation, layout, and drag-and-drop functionalities.
  * It provides a refined interaction compartment editing experience by incorporating a new creation edit policy for interaction fragments,
  * a grid-based layout policy for structured arrangement, and an advanced drag-and-drop policy for intuitive manipulation of diagram elements.
+ * When the viewport virtualization preference is set, only the elements around the visible part of the interaction get edit parts (see {@link AdoneViewportVirtualizer}).
  */
 public class AdoneInteractionInteractionCompartmentEditPart extends CInteractionInteractionCompartmentEditPart {
 
+	private AdoneViewportVirtualizer viewportVirtualizer;
+
 	public AdoneInteractionInteractionCompartmentEditPart(View view) {
 		super(view);
 	}
 
+	@Override
+	public void addNotify() {
+		// The virtualizer is created before the children, which are created when the edit part is added to the viewer.
+		if (UMLDiagramEditorPlugin.getInstance().getPreferenceStore().getBoolean(CustomDiagramGeneralPreferencePage.PREF_VIEWPORT_VIRTUALIZATION)) {
+			viewportVirtualizer = new AdoneViewportVirtualizer(this);
+		}
+		super.addNotify();
+	}
+
+	@Override
+	public void activate() {
+		super.activate();
+		if (viewportVirtualizer != null) {
+			viewportVirtualizer.activate();
+		}
+	}
+
+	@Override
+	public void deactivate() {
+		if (viewportVirtualizer != null) {
+			viewportVirtualizer.deactivate();
+		}
+		super.deactivate();
+	}
+
+	/**
+	 * @return the virtualizer restricting the edit parts to the visible part of the interaction, null if the virtualization is disabled
+	 */
+	public AdoneViewportVirtualizer getViewportVirtualizer() {
+		return viewportVirtualizer;
+	}
+
+	@Override
+	public void removeNotify() {
+		super.removeNotify();
+		viewportVirtualizer = null;
+	}
+
+	/**
+	 * The Combined Fragments out of the visible part of the interaction are not turned into edit parts when the virtualization is enabled,
+	 * and neither are the fragments enclosed in a collapsed Combined Fragment.
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	protected List getModelChildren() {
+		List children = super.getModelChildren();
+		return AdoneCombinedFragmentCollapseUtil.filterHidden(viewportVirtualizer == null ? children : viewportVirtualizer.filter(children));
+	}
+
 	@Override
 	protected void createDefaultEditPolicies() {
 		super.createDefaultEditPolicies();
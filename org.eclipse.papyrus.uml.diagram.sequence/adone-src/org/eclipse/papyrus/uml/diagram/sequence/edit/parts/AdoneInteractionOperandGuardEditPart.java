@@ -26,6 +26,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.Label;
 import org.eclipse.draw2d.PositionConstants;
@@ -106,6 +107,7 @@ import org.eclipse.papyrus.uml.diagram.common.editpolicies.UMLTextSelectionEditP
 import org.eclipse.papyrus.uml.diagram.common.figure.node.ILabelFigure;
 import org.eclipse.papyrus.uml.diagram.common.figure.node.IPapyrusNodeUMLElementFigure;
 import org.eclipse.papyrus.uml.diagram.sequence.figures.AdoneInteractionOperandFigure;
+import org.eclipse.papyrus.uml.diagram.sequence.figures.AdoneLevelOfDetail;
 import org.eclipse.papyrus.uml.diagram.sequence.figures.AdoneTopLevelLayerLabel;
 import org.eclipse.papyrus.uml.diagram.sequence.locator.TextCellEditorLocator;
 import org.eclipse.papyrus.uml.diagram.sequence.parsers.MessageFormatParser;
@@ -1111,6 +1113,16 @@ public class AdoneInteractionOperandGuardEditPart extends InteractionOperandGuar
 			return primaryLabel;
 		}
 
+		/**
+		 * The guard and its stereotypes are not painted when the zoom is too low for them to be legible.
+		 */
+		@Override
+		public void paint(Graphics graphics) {
+			if (AdoneLevelOfDetail.isTextVisible(this, graphics)) {
+				super.paint(graphics);
+			}
+		}
+
 		/**
 		 * @see org.eclipse.papyrus.uml.diagram.common.figure.node.IPapyrusUMLElementFigure#setStereotypeDisplay(java.lang.String, org.eclipse.swt.graphics.Image)
 		 *
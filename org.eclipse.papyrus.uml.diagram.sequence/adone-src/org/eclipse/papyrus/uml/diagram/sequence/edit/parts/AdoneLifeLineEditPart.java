@@ -22,6 +22,8 @@
 
 package org.eclipse.papyrus.uml.diagram.sequence.edit.parts;
 
+import java.util.List;
+
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.gef.DragTracker;
 import org.eclipse.gef.EditPart;
@@ -44,7 +46,9 @@ import org.eclipse.papyrus.uml.diagram.sequence.figures.AdoneLifelineNodePlate;
 import org.eclipse.papyrus.uml.diagram.sequence.referencialgrilling.AdoneLifeLineGraphicalNodeEditPolicy;
 import org.eclipse.papyrus.uml.diagram.sequence.referencialgrilling.AdoneLifeLineXYLayoutEditPolicy;
 import org.eclipse.papyrus.uml.diagram.sequence.tools.AdoneDragLifelineEditPartsTracker;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneCombinedFragmentCollapseUtil;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneElementOrderChangeManager;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneViewportVirtualizer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
@@ -83,7 +87,8 @@ public class AdoneLifeLineEditPart extends CLifeLineEditPart {
 		super.activate();
 
 		// Implements deactivation of Order Change mode upon pressing the ESC key (2024-01-06)
-		Display.getCurrent().addFilter(SWT.KeyDown, new Listener() {
+		// The listener is kept so that deactivate() removes the filter from the display
+		this.keyDownListener = new Listener() {
 			@Override
 			public void handleEvent(Event event) {
 				if (event.keyCode == SWT.ESC) {
@@ -95,14 +100,15 @@ public class AdoneLifeLineEditPart extends CLifeLineEditPart {
 					});
 				}
 			}
-		});
+		};
+		Display.getCurrent().addFilter(SWT.KeyDown, this.keyDownListener);
 	}
 
 	private void handleEscapeKeyPress() {
 		// finish order change mode
-		AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(false);
+		AdoneElementOrderChangeManager.getInstance(this).setElementOrderChangeMode(false);
 		IFigure figure = this.getContentPane();
-		AdoneElementOrderChangeManager.getInstance().resetFigureLineColorToDefault(figure);
+		AdoneElementOrderChangeManager.getInstance(this).resetFigureLineColorToDefault(figure);
 	}
 
 	@Override
@@ -110,6 +116,7 @@ public class AdoneLifeLineEditPart extends CLifeLineEditPart {
 
 		if (this.keyDownListener != null) {
 			Display.getCurrent().removeFilter(SWT.KeyDown, this.keyDownListener);
+			this.keyDownListener = null;
 		}
 
 		super.deactivate();
@@ -130,6 +137,34 @@ public class AdoneLifeLineEditPart extends CLifeLineEditPart {
 
 	}
 
+	/**
+	 * The execution specifications out of the visible part of a virtualized interaction, or enclosed in a collapsed Combined Fragment,
+	 * are not turned into edit parts.
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	protected List getModelChildren() {
+		return AdoneCombinedFragmentCollapseUtil.filterHidden(AdoneViewportVirtualizer.filter(this, super.getModelChildren()));
+	}
+
+	/**
+	 * The messages out of the visible part of a virtualized interaction, or enclosed in a collapsed Combined Fragment, are not turned into edit parts.
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	protected List getModelSourceConnections() {
+		return AdoneCombinedFragmentCollapseUtil.filterHidden(AdoneViewportVirtualizer.filter(this, super.getModelSourceConnections()));
+	}
+
+	/**
+	 * The messages out of the visible part of a virtualized interaction, or enclosed in a collapsed Combined Fragment, are not turned into edit parts.
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	protected List getModelTargetConnections() {
+		return AdoneCombinedFragmentCollapseUtil.filterHidden(AdoneViewportVirtualizer.filter(this, super.getModelTargetConnections()));
+	}
+
 	@Override
 	public DragTracker getDragTracker(Request request) {
 		return new AdoneDragLifelineEditPartsTracker(this);
@@ -181,7 +216,7 @@ public class AdoneLifeLineEditPart extends CLifeLineEditPart {
 	protected void refreshVisuals() {
 
 		// Prevents message color reset caused by refresh execution during change order mode (2024-02-02)
-		if (AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+		if (AdoneElementOrderChangeManager.getInstance(this).isElementOrderChangeMode()) {
 			return;
 		}
 
@@ -192,7 +227,7 @@ public class AdoneLifeLineEditPart extends CLifeLineEditPart {
 	public void refresh() {
 
 		// Prevents message color reset caused by refresh execution during change order mode (2024-02-02)
-		if (AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+		if (AdoneElementOrderChangeManager.getInstance(this).isElementOrderChangeMode()) {
 			return;
 		}
 
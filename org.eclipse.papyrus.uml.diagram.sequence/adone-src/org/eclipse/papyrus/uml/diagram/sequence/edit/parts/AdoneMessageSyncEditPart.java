@@ -76,7 +76,8 @@ public class AdoneMessageSyncEditPart extends CustomMessageSyncEditPart {
 		super.activate();
 
 		// Implements deactivation of Order Change mode upon pressing the ESC key (2024-01-06)
-		Display.getCurrent().addFilter(SWT.KeyDown, new Listener() {
+		// The listener is kept so that deactivate() removes the filter from the display
+		this.keyDownListener = new Listener() {
 			@Override
 			public void handleEvent(Event event) {
 				if (event.keyCode == SWT.ESC) {
@@ -88,14 +89,15 @@ public class AdoneMessageSyncEditPart extends CustomMessageSyncEditPart {
 					});
 				}
 			}
-		});
+		};
+		Display.getCurrent().addFilter(SWT.KeyDown, this.keyDownListener);
 	}
 
 	private void handleEscapeKeyPress() {
 		// finish order change mode
-		AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(false);
+		AdoneElementOrderChangeManager.getInstance(this).setElementOrderChangeMode(false);
 		IFigure figure = this.getContentPane();
-		AdoneElementOrderChangeManager.getInstance().resetFigureLineColorToDefault(figure);
+		AdoneElementOrderChangeManager.getInstance(this).resetFigureLineColorToDefault(figure);
 	}
 
 	@Override
@@ -167,7 +169,7 @@ public class AdoneMessageSyncEditPart extends CustomMessageSyncEditPart {
 	public void refresh() {
 
 		// Prevent message color reset during refresh in move mode (2024-02-02)
-		if (AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+		if (AdoneElementOrderChangeManager.getInstance(this).isElementOrderChangeMode()) {
 			return;
 		}
 		super.refresh();
@@ -195,6 +197,7 @@ public class AdoneMessageSyncEditPart extends CustomMessageSyncEditPart {
 
 		if (this.keyDownListener != null) {
 			Display.getCurrent().removeFilter(SWT.KeyDown, this.keyDownListener);
+			this.keyDownListener = null;
 		}
 
 		super.deactivate();
@@ -21,8 +21,10 @@
  *****************************************************************************/
 package org.eclipse.papyrus.uml.diagram.sequence.edit.policies;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.gef.GraphicalEditPart;
 import org.eclipse.gef.Request;
 import org.eclipse.gef.commands.Command;
@@ -40,10 +42,10 @@ import org.eclipse.papyrus.infra.gmfdiag.common.editpolicies.DefaultSemanticEdit
 import org.eclipse.papyrus.infra.services.edit.context.TypeContext;
 import org.eclipse.papyrus.infra.services.edit.service.ElementEditServiceUtils;
 import org.eclipse.papyrus.infra.services.edit.service.IElementEditService;
+import org.eclipse.papyrus.uml.diagram.sequence.command.AdoneBulkDeleteCommand;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.AbstractMessageEditPart;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.CombinedFragmentEditPart;
 import org.eclipse.papyrus.uml.diagram.sequence.requests.AdoneEditCommandRequestWrapper;
-import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneDeleteActionUtil;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceUtil;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.MessageBox;
@@ -111,23 +113,24 @@ public class AdoneCombinedFragmentDefaultSemanticEditPolicy extends DefaultSeman
 							CombinedFragmentEditPart cfEp = (CombinedFragmentEditPart) AdoneSequenceUtil.getEditPartFromSemantic(getHost(), cf);
 							List<GraphicalEditPart> nestedChildEditParts = AdoneSequenceUtil.getCombinedFragmentNestedEps(cfEp);
 
+							// The nested CFs and messages are deleted together by a single bulk command, instead of a destroy command
+							// per nested element. The selected CF keeps the destroy command of the edit service, with its advices,
+							// which runs after the bulk command on what is left of the CF.
+							List<EObject> elementsToDelete = new ArrayList<>();
 							for (GraphicalEditPart nestedChildEp : nestedChildEditParts) {
-								if (nestedChildEp instanceof CombinedFragmentEditPart) {
-									DestroyElementRequest destroyCfRequest = new DestroyElementRequest(false);
-									AdoneEditCommandRequestWrapper destroyCfReqeustWrapper = new AdoneEditCommandRequestWrapper(destroyCfRequest);
-									Command deleteCfCommand = nestedChildEp.getCommand(destroyCfReqeustWrapper);
-									if (deleteCfCommand != null && deleteCfCommand.canExecute()) {
-										deleteCfCompoundCommand.add(deleteCfCommand);
-									}
-
-								} else if (nestedChildEp instanceof AbstractMessageEditPart) {
-									AbstractMessageEditPart msgEp = (AbstractMessageEditPart) nestedChildEp;
-									Command deleteMessageCommand = AdoneDeleteActionUtil.getDeleteFromModelCommand(msgEp, getEditingDomain());
-									if (deleteMessageCommand != null && deleteMessageCommand.canExecute()) {
-										deleteCfCompoundCommand.add(deleteMessageCommand);
+								if (nestedChildEp instanceof CombinedFragmentEditPart || nestedChildEp instanceof AbstractMessageEditPart) {
+									EObject nestedElement = ((IGraphicalEditPart) nestedChildEp).resolveSemanticElement();
+									if (nestedElement != null && nestedElement != cf) {
+										elementsToDelete.add(nestedElement);
 									}
 								}
 							}
+
+							if (!elementsToDelete.isEmpty()) {
+								deleteCfCompoundCommand = new CompoundCommand();
+								deleteCfCompoundCommand.add(getGEFWrapper(new AdoneBulkDeleteCommand(getEditingDomain(), elementsToDelete)));
+								deleteCfCompoundCommand.add(command);
+							}
 						}
 
 						shell.dispose();
@@ -394,7 +394,7 @@ public class AdoneCombinedFragmentResizeEditPolicy extends CombinedFragmentResiz
 		FigureUtilities.makeGhostShape(r);
 
 		// Check if in element order change mode to adjust feedback appearance
-		if (AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+		if (AdoneElementOrderChangeManager.getInstance(getHost()).isElementOrderChangeMode()) {
 			r.setLineStyle(Graphics.LINE_SOLID);// Solid line for clarity in order change mode
 			r.setLineWidth(3); // Increase line width for visibility
 			r.setForegroundColor(ColorConstants.orange); // Initially set to orange, changes to blue on activation
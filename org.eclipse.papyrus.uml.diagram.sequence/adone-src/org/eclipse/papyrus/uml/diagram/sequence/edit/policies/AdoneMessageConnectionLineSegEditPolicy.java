@@ -1038,7 +1038,7 @@ public class AdoneMessageConnectionLineSegEditPolicy extends ConnectionBendpoint
 		moveMessageFeedbackConnectionLine = new RectangleFigure();
 
 		// Set feedback line color based on Element Order Change Mode activation.
-		if (AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+		if (AdoneElementOrderChangeManager.getInstance(getHost()).isElementOrderChangeMode()) {
 			moveMessageFeedbackConnectionLine.setBackgroundColor(ColorConstants.blue);
 			moveMessageFeedbackConnectionLine.setForegroundColor(ColorConstants.blue);
 		} else {
@@ -1080,7 +1080,7 @@ public class AdoneMessageConnectionLineSegEditPolicy extends ConnectionBendpoint
 
 		// moveMessageFeedbackConnectionArrow.setPoints(arrowPoints);
 		//
-		// if (AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+		// if (AdoneElementOrderChangeManager.getInstance(getHost()).isElementOrderChangeMode()) {
 		// moveMessageFeedbackConnectionArrow.setForegroundColor(ColorConstants.darkBlue); // 삼각형의 선 색상 설정
 		// moveMessageFeedbackConnectionArrow.setBackgroundColor(ColorConstants.darkBlue); // 삼각형의 내부 색상 설정
 		// } else {
@@ -1132,7 +1132,7 @@ public class AdoneMessageConnectionLineSegEditPolicy extends ConnectionBendpoint
 	protected void showMoveLineSegFeedback(BendpointRequest request) {
 
 		// Only applies feedback in ElementOrderChange mode to prevent misplaced feedback. (2024-02-01)
-		if (!AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+		if (!AdoneElementOrderChangeManager.getInstance(getHost()).isElementOrderChangeMode()) {
 			return;
 		}
 
@@ -32,6 +32,7 @@ import org.eclipse.draw2d.FigureCanvas;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.PositionConstants;
 import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.Shape;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
@@ -71,9 +72,11 @@ import org.eclipse.papyrus.uml.diagram.sequence.requests.AdoneMoveInteractionFra
 import org.eclipse.papyrus.uml.diagram.sequence.requests.AdoneUpdateLocationByNewMessageCreationRequest;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneCombinedFragmentEpStatusManager;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneElementOrderChangeManager;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneFeedbackThrottle;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneInteractionHelper;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneOccurrenceSpecificationMoveHelper;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceUtil;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneViewportVirtualizer;
 import org.eclipse.papyrus.uml.diagram.sequence.util.SequenceUtil;
 import org.eclipse.uml2.uml.BehaviorExecutionSpecification;
 import org.eclipse.uml2.uml.CombinedFragment;
@@ -109,6 +112,13 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 	private static final int MARGIN_BETWEEN_LIFELINE = 10;
 	protected IFigure layoutFeedbackFigure = null;
 
+	// Degrades the layout feedback to an outline while the pointer moves fast
+	private final AdoneFeedbackThrottle feedbackThrottle = new AdoneFeedbackThrottle(this::refreshLayoutTargetFeedbackFigure);
+
+	// Insertion points between the lifelines, computed once per drag and again only when the diagram is scrolled
+	private List<LifelineMoveInsertionPoint> cachedInsertionPoints = null;
+	private Point cachedInsertionPointsViewLocation = null;
+
 	public AdoneMoveResizeXYLayoutEditPolicy() {
 		super();
 	}
@@ -168,6 +178,7 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 
 			// Process and move the filtered EditParts.
 			this.processAndMoveBelowEditParts(request, netBelowEditParts, moveCommand, moveTargetEp);
+			this.processAndMoveBelowVirtualizedViews(request, request.getLocation().y, moveCommand);
 		} else {
 			// Resize the parent interaction operand based on the move and process below EditParts.
 			this.resizeParentInteractionOperand(request, request.getTargetEditPart(), moveCommand, resizeDeltaY);
@@ -176,6 +187,7 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 
 			// Process and move EditParts below the target, considering the move request.
 			this.processAndMoveBelowEditParts(request, allBelowEditParts, moveCommand, moveTargetEp);
+			this.processAndMoveBelowVirtualizedViews(request, moveTargetEp, moveCommand);
 
 		}
 
@@ -226,7 +238,7 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 	@Override
 	protected Command getMoveChildrenCommand(Request request) {
 
-		AdoneCombinedFragmentEpStatusManager.getInstance().initialize();
+		AdoneCombinedFragmentEpStatusManager.getInstance(getHost()).initialize();
 
 		CompoundCommand moveCompoundCommand = new CompoundCommand();
 
@@ -237,7 +249,7 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 			List<?> children = changeBoundsRequest.getEditParts();
 
 			// Handle element order change mode specifically.
-			if (AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+			if (AdoneElementOrderChangeManager.getInstance(getHost()).isElementOrderChangeMode()) {
 
 				GraphicalEditPart orderChangeTargetEp = (GraphicalEditPart) children.get(0);
 
@@ -567,6 +579,7 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 					if (!changeBoundsRequest.getExtendedData().containsKey("DoNotMoveCheck")) {
 						List<GraphicalEditPart> allBelowEditParts = AdoneSequenceUtil.getAllBelowEditParts(moveTargetEp, changeBoundsRequest);
 						this.processAndMoveBelowEditParts(changeBoundsRequest, allBelowEditParts, moveCompoundCommand, moveTargetEp);
+						this.processAndMoveBelowVirtualizedViews(changeBoundsRequest, moveTargetEp, moveCompoundCommand);
 					}
 
 				}
@@ -1981,6 +1994,50 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 		}
 	}
 
+	/**
+	 * Moves the elements below a move target edit part that have no edit part because they are out of the visible area,
+	 * along the edit parts moved by {@link #processAndMoveBelowEditParts(ChangeBoundsRequest, List, CompoundCommand, GraphicalEditPart)}.
+	 *
+	 * @param changeBoundsRequest
+	 *            The request detailing the move or resize action.
+	 * @param moveTargetEp
+	 *            The target edit part that is being moved.
+	 * @param moveCompoundCommand
+	 *            A compound command that accumulates all move commands.
+	 */
+	private void processAndMoveBelowVirtualizedViews(ChangeBoundsRequest changeBoundsRequest, GraphicalEditPart moveTargetEp, CompoundCommand moveCompoundCommand) {
+		if (moveTargetEp != null && moveTargetEp.getParent() != null) {
+			processAndMoveBelowVirtualizedViews(changeBoundsRequest, AdoneSequenceUtil.getBelowPositionY(moveTargetEp, changeBoundsRequest), moveCompoundCommand);
+		}
+	}
+
+	/**
+	 * Moves the elements below a position that have no edit part because they are out of the visible area.
+	 *
+	 * @param changeBoundsRequest
+	 *            The request detailing the move or resize action.
+	 * @param positionY
+	 *            The position in absolute coordinates below which the elements are moved.
+	 * @param moveCompoundCommand
+	 *            A compound command that accumulates all move commands.
+	 */
+	private void processAndMoveBelowVirtualizedViews(ChangeBoundsRequest changeBoundsRequest, int positionY, CompoundCommand moveCompoundCommand) {
+		int deltaY;
+		if (changeBoundsRequest.getType().equals(RequestConstants.REQ_RESIZE_CHILDREN)) {
+			deltaY = changeBoundsRequest.getSizeDelta().height;
+		} else {
+			deltaY = changeBoundsRequest.getMoveDelta().y;
+		}
+
+		// The execution specifications and the Combined Fragments are not moved by recursive calls, as for the edit parts.
+		boolean moveNodes = !changeBoundsRequest.getExtendedData().containsKey("DoNotMoveCheck");
+
+		Command moveCommand = AdoneViewportVirtualizer.getMoveVirtualizedViewsCommand(getHost(), positionY, deltaY, moveNodes);
+		if (moveCommand != null && moveCommand.canExecute()) {
+			moveCompoundCommand.add(moveCommand);
+		}
+	}
+
 	/**
 	 * Processes the movement and resizing of an abstract message edit part within a diagram.
 	 * This involves calculating new source and target locations based on the provided request,
@@ -2278,6 +2335,7 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 
 		// Process and move below edit parts to create space for the new execution spec.
 		this.processAndMoveBelowEditParts(changeBoundsRequest, allBelowEditParts, moveCompoundCommand, interactionCompartmentEp);
+		this.processAndMoveBelowVirtualizedViews(changeBoundsRequest, changeBoundsRequest.getLocation().y, moveCompoundCommand);
 
 		if (moveCompoundCommand.getChildren().length > 0) {
 			return moveCompoundCommand.unwrap();
@@ -2440,12 +2498,12 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 				}
 
 				// Register the move operation for status management.
-				AdoneCombinedFragmentEpStatusManager.getInstance().registerMoveMode((CombinedFragmentEditPart) moveTargetCmbFrgEp);
+				AdoneCombinedFragmentEpStatusManager.getInstance(getHost()).registerMoveMode((CombinedFragmentEditPart) moveTargetCmbFrgEp);
 
 			} else {
 
 				// For other lifelines, adjust the width of the CombinedFragment.
-				if (!AdoneCombinedFragmentEpStatusManager.getInstance().isRegistered((CombinedFragmentEditPart) moveTargetCmbFrgEp)) {
+				if (!AdoneCombinedFragmentEpStatusManager.getInstance(getHost()).isRegistered((CombinedFragmentEditPart) moveTargetCmbFrgEp)) {
 
 					Rectangle cmbFrgBounds = moveTargetCmbFrgEp.getFigure().getBounds().getCopy();
 
@@ -2860,7 +2918,7 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 		if (request instanceof ChangeBoundsRequest) {
 
 			// Check if element order change mode is active
-			if (AdoneElementOrderChangeManager.getInstance().isElementOrderChangeMode()) {
+			if (AdoneElementOrderChangeManager.getInstance(getHost()).isElementOrderChangeMode()) {
 
 				final ChangeBoundsRequest changeBoundsRequest = (ChangeBoundsRequest) request;
 				EditPart targetEditPart = (EditPart) changeBoundsRequest.getEditParts().get(0);
@@ -2868,14 +2926,15 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 				// Provide feedback for moving a lifeline
 				if (targetEditPart instanceof LifelineEditPart) {
 
-					// Remove any existing layout feedback
-					eraseLayoutTargetFeedback();
+					// Measure the pointer velocity to degrade the feedback while moving fast
+					boolean movingFast = feedbackThrottle.update(changeBoundsRequest.getLocation());
 
 					// Compute the closest insertion point to the current location
 					final LifelineMoveInsertionPoint insertionPoint = computeClosestInsertionPoint(changeBoundsRequest.getLocation().x);
 
 					// Exit if no suitable insertion point is found
 					if (insertionPoint == null) {
+						hideLayoutTargetFeedbackFigure();
 						return;
 					}
 
@@ -2887,9 +2946,9 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 						getHostFigure().translateToAbsolute(containerBounds);
 						final int layoutFeedbackHeight = containerBounds.height;
 
-						// Create and display a feedback figure at the insertion point
+						// Display the feedback figure at the insertion point, reusing the figure of the previous pointer event
 						final Rectangle feedbackBounds = new Rectangle(insertionPoint.getLocation(), containerBounds.y, 3, layoutFeedbackHeight);
-						this.layoutFeedbackFigure = createLayoutTargetFeedbackFigure(feedbackBounds);
+						showLayoutTargetFeedbackFigure(feedbackBounds, movingFast);
 
 						// Adjust the move delta and store the insertion location for later use
 						changeBoundsRequest.setMoveDelta(new Point(changeBoundsRequest.getMoveDelta().x, 0));
@@ -2897,6 +2956,8 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 						return;
 					}
 
+					hideLayoutTargetFeedbackFigure();
+
 				} else if (targetEditPart instanceof CombinedFragmentEditPart) {
 					// Future support for combined fragment feedback can be implemented here
 				}
@@ -3022,25 +3083,30 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 	 */
 	protected LifelineMoveInsertionPoint computeClosestInsertionPoint(final int offset) {
 
-		List<GraphicalEditPart> childrenObject = new ArrayList<>();
+		// The lifelines do not move during a drag, so their insertion points are kept until the feedback is erased or the diagram is scrolled.
+		Point viewLocation = getViewLocation();
+		if (cachedInsertionPoints == null || !viewLocation.equals(cachedInsertionPointsViewLocation)) {
+			List<GraphicalEditPart> children = new ArrayList<>();
 
-		// Collect all lifeline edit parts from the sequence diagram.
-		for (final Object child : AdoneSequenceUtil.getAllLifelineEditParts(getHost())) {
+			// Collect all lifeline edit parts from the sequence diagram.
+			for (final Object child : AdoneSequenceUtil.getAllLifelineEditParts(getHost())) {
 
-			if (child instanceof LifelineEditPart) {
-				childrenObject.add((GraphicalEditPart) child);
+				if (child instanceof LifelineEditPart) {
+					children.add((GraphicalEditPart) child);
+				}
 			}
+
+			// Compute potential insertion points based on the current layout of lifelines.
+			cachedInsertionPoints = computeInsertionPoints(children);
+			cachedInsertionPointsViewLocation = viewLocation;
 		}
 
-		final List<GraphicalEditPart> children = childrenObject;
+		final List<LifelineMoveInsertionPoint> insertionPoints = cachedInsertionPoints;
 		// Return null if there are no lifelines to compute insertion points from.
-		if (children.isEmpty()) {
+		if (insertionPoints.isEmpty()) {
 			return null;
 		}
 
-		// Compute potential insertion points based on the current layout of lifelines.
-		final List<LifelineMoveInsertionPoint> insertionPoints = computeInsertionPoints(children);
-
 		// Use a TreeMap to sort insertion points by their distance to the given offset, facilitating the search for the closest one.
 		final TreeMap<Integer, LifelineMoveInsertionPoint> distanceMap = new TreeMap<>();
 		for (final LifelineMoveInsertionPoint insertionPoint : insertionPoints) {
@@ -3080,6 +3146,58 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 			removeFeedback(this.layoutFeedbackFigure);
 			this.layoutFeedbackFigure = null;
 		}
+		this.cachedInsertionPoints = null;
+		this.cachedInsertionPointsViewLocation = null;
+		this.feedbackThrottle.reset();
+	}
+
+	/**
+	 * Displays the layout target feedback figure at the given bounds. The figure is created on the first pointer event
+	 * and then moved, instead of being removed from and added to the feedback layer on every event.
+	 *
+	 * @param bounds
+	 *            The bounds of the feedback figure.
+	 * @param outline
+	 *            true to draw only the outline of the figure, while the pointer moves fast.
+	 */
+	protected void showLayoutTargetFeedbackFigure(final Rectangle bounds, final boolean outline) {
+		if (this.layoutFeedbackFigure == null) {
+			this.layoutFeedbackFigure = createLayoutTargetFeedbackFigure(bounds);
+		} else {
+			this.layoutFeedbackFigure.setBounds(bounds);
+			this.layoutFeedbackFigure.setVisible(true);
+		}
+		if (this.layoutFeedbackFigure instanceof Shape) {
+			((Shape) this.layoutFeedbackFigure).setFill(!outline);
+		}
+	}
+
+	/**
+	 * Hides the layout target feedback figure, keeping it in the feedback layer for the next pointer events.
+	 */
+	protected void hideLayoutTargetFeedbackFigure() {
+		if (this.layoutFeedbackFigure != null) {
+			this.layoutFeedbackFigure.setVisible(false);
+		}
+	}
+
+	/**
+	 * Restores the full layout target feedback once the pointer has settled.
+	 */
+	private void refreshLayoutTargetFeedbackFigure() {
+		if (this.layoutFeedbackFigure instanceof Shape) {
+			((Shape) this.layoutFeedbackFigure).setFill(true);
+		}
+	}
+
+	/**
+	 * @return The scroll location of the viewport of the diagram.
+	 */
+	private Point getViewLocation() {
+		if (getHost().getViewer().getControl() instanceof FigureCanvas) {
+			return ((FigureCanvas) getHost().getViewer().getControl()).getViewport().getViewLocation().getCopy();
+		}
+		return new Point();
 	}
 
 	/**
@@ -3279,9 +3397,11 @@ public class AdoneMoveResizeXYLayoutEditPolicy extends GridBasedXYLayoutEditPoli
 					InteractionOperandEditPart resizeTargetOperand = (InteractionOperandEditPart) request.getExtendedData().get("ResizeTargetInteractionOperand");
 					List<GraphicalEditPart> allBelowEditParts = AdoneSequenceUtil.getAllBelowEditParts(resizeTargetOperand, request);
 					processAndMoveBelowEditParts(request, allBelowEditParts, resizeCompoundCommand, resizeTargetOperand);
+					processAndMoveBelowVirtualizedViews(request, resizeTargetOperand, resizeCompoundCommand);
 				} else {
 					List<GraphicalEditPart> allBelowEditParts = AdoneSequenceUtil.getAllBelowEditParts(resizeTargetEp, request);
 					processAndMoveBelowEditParts(request, allBelowEditParts, resizeCompoundCommand, resizeTargetEp);
+					processAndMoveBelowVirtualizedViews(request, resizeTargetEp, resizeCompoundCommand);
 				}
 
 			}
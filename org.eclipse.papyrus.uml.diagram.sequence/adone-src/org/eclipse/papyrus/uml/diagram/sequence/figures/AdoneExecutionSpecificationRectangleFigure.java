@@ -18,6 +18,7 @@
 
 package org.eclipse.papyrus.uml.diagram.sequence.figures;
 
+import org.eclipse.draw2d.Graphics;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.AdoneBehaviorExecutionSpecificationEditPart;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.ExecutionSpecificationRectangleFigure;
 
@@ -40,4 +41,19 @@ public class AdoneExecutionSpecificationRectangleFigure extends ExecutionSpecifi
 		return host;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * The execution specification is painted as a filled bar, without border, shadow nor children, when the zoom is too low for its details to be visible.
+	 */
+	@Override
+	public void paint(Graphics graphics) {
+		if (!AdoneLevelOfDetail.isShapeDetailed(this, graphics)) {
+			graphics.pushState();
+			graphics.setBackgroundColor(getForegroundColor());
+			graphics.fillRectangle(getBounds());
+			graphics.popState();
+			return;
+		}
+		super.paint(graphics);
+	}
+
+}
@@ -0,0 +1,128 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.figures;
+
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.ScalableFigure;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gmf.runtime.diagram.ui.editparts.DiagramRootEditPart;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.papyrus.uml.diagram.sequence.part.UMLDiagramEditorPlugin;
+import org.eclipse.papyrus.uml.diagram.sequence.preferences.CustomDiagramGeneralPreferencePage;
+
+/**
+ * Level-of-detail thresholds of the sequence figures. At low zoom, the figures skip what is not legible:
+ * - below the text zoom, the labels of the messages and of the guards, the message decorations and the tooltips are not painted,
+ * - below the shape zoom, the lifeline lines are drawn solid and the execution specifications as filled bars.
+ * The zoom is read from the scale of the graphics while painting, so no listener on the zoom is needed.
+ * The thresholds are percentages set in the preferences, 0 (the default) disables the level of detail.
+ * The level of detail only applies to the painting of the diagram on screen: when the figures are painted for an export or a print,
+ * the scale of the graphics is not the zoom of their viewer, and they are painted with all their details.
+ */
+public class AdoneLevelOfDetail {
+
+	private static final double SCALE_TOLERANCE = 0.001;
+
+	private static int textZoom = -1;
+
+	private static int shapeZoom = -1;
+
+	private AdoneLevelOfDetail() {
+	}
+
+	/**
+	 * @param figure
+	 *            the painted figure
+	 * @param graphics
+	 *            the graphics the figure is painted with
+	 * @return true if the text labels and the decorations are painted
+	 */
+	public static boolean isTextVisible(IFigure figure, Graphics graphics) {
+		int zoom = getTextZoom();
+		return zoom == 0 || graphics.getAbsoluteScale() * 100 >= zoom || !isPaintedOnScreen(figure, graphics);
+	}
+
+	/**
+	 * @param editPart
+	 *            an edit part of the diagram
+	 * @return true if the text labels and the decorations are displayed at the current zoom of the viewer of the edit part
+	 */
+	public static boolean isTextVisible(EditPart editPart) {
+		if (getTextZoom() == 0 || editPart == null || !(editPart.getRoot() instanceof DiagramRootEditPart)) {
+			return true;
+		}
+		return ((DiagramRootEditPart) editPart.getRoot()).getZoomManager().getZoom() * 100 >= getTextZoom();
+	}
+
+	/**
+	 * @param figure
+	 *            the painted figure
+	 * @param graphics
+	 *            the graphics the figure is painted with
+	 * @return true if the shapes are painted with their details (dashes, borders), false if they are simplified
+	 */
+	public static boolean isShapeDetailed(IFigure figure, Graphics graphics) {
+		int zoom = getShapeZoom();
+		return zoom == 0 || graphics.getAbsoluteScale() * 100 >= zoom || !isPaintedOnScreen(figure, graphics);
+	}
+
+	/**
+	 * @param figure
+	 *            the painted figure
+	 * @param graphics
+	 *            the graphics the figure is painted with
+	 * @return true if the scale of the graphics is the zoom of the viewer of the figure, false when the figure is painted for an export or a print
+	 */
+	private static boolean isPaintedOnScreen(IFigure figure, Graphics graphics) {
+		double viewerScale = 1;
+		for (IFigure current = figure; current != null; current = current.getParent()) {
+			if (current instanceof ScalableFigure) {
+				viewerScale *= ((ScalableFigure) current).getScale();
+			}
+		}
+		return Math.abs(viewerScale - graphics.getAbsoluteScale()) < SCALE_TOLERANCE;
+	}
+
+	private static int getTextZoom() {
+		if (textZoom < 0) {
+			loadPreferences();
+		}
+		return textZoom;
+	}
+
+	private static int getShapeZoom() {
+		if (shapeZoom < 0) {
+			loadPreferences();
+		}
+		return shapeZoom;
+	}
+
+	private static synchronized void loadPreferences() {
+		if (textZoom >= 0) {
+			return;
+		}
+		IPreferenceStore store = UMLDiagramEditorPlugin.getInstance().getPreferenceStore();
+		shapeZoom = Math.max(0, store.getInt(CustomDiagramGeneralPreferencePage.PREF_LOD_SHAPE_ZOOM));
+		textZoom = Math.max(0, store.getInt(CustomDiagramGeneralPreferencePage.PREF_LOD_TEXT_ZOOM));
+		store.addPropertyChangeListener(event -> {
+			if (CustomDiagramGeneralPreferencePage.PREF_LOD_TEXT_ZOOM.equals(event.getProperty())) {
+				textZoom = Math.max(0, store.getInt(CustomDiagramGeneralPreferencePage.PREF_LOD_TEXT_ZOOM));
+			} else if (CustomDiagramGeneralPreferencePage.PREF_LOD_SHAPE_ZOOM.equals(event.getProperty())) {
+				shapeZoom = Math.max(0, store.getInt(CustomDiagramGeneralPreferencePage.PREF_LOD_SHAPE_ZOOM));
+			}
+		});
+	}
+}
@@ -25,12 +25,8 @@ import org.eclipse.gmf.runtime.diagram.ui.figures.BorderedNodeFigure;
 import org.eclipse.papyrus.infra.gmfdiag.common.figure.node.ScalableCompartmentFigure;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.AdoneBehaviorExecutionSpecificationEditPart;
 import org.eclipse.papyrus.uml.diagram.sequence.figures.LifelineFigure.LifelineHeaderFigure;
-import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneInteractionHelper;
-import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceUtil;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneExecutionSpecificationLinkIndex;
 import org.eclipse.uml2.uml.BehaviorExecutionSpecification;
-import org.eclipse.uml2.uml.ExecutionOccurrenceSpecification;
-import org.eclipse.uml2.uml.Message;
-import org.eclipse.uml2.uml.MessageOccurrenceSpecification;
 
 /**
  * This class customizes the layout manager for lifeline figures in sequence diagrams, specifically to adjust for
@@ -110,21 +106,9 @@ public class AdoneLifeLineLayoutManager extends LifeLineLayoutManager {
 		AdoneExecutionSpecificationRectangleFigure besFigure = (AdoneExecutionSpecificationRectangleFigure) nodePlate.getChildren().get(1);
 		AdoneBehaviorExecutionSpecificationEditPart besEp = besFigure.getHost();
 		BehaviorExecutionSpecification bes = (BehaviorExecutionSpecification) besEp.resolveSemanticElement();
-		MessageOccurrenceSpecification mos = null;
 
-		if (bes.getStart() instanceof ExecutionOccurrenceSpecification) {
-			mos = AdoneSequenceUtil.getStartMessageOccurenceSpecForRecursiveBes(bes);
-		} else {
-			mos = (MessageOccurrenceSpecification) bes.getStart();
-		}
-
-		Message msg = mos.getMessage();
-
-		if (AdoneInteractionHelper.isRecursiveMessage(msg)) {
-			return true;
-		}
-
-		return false;
+		// The triggering message and its recursion are indexed per interaction, instead of being looked up in all its fragments at each layout.
+		return AdoneExecutionSpecificationLinkIndex.getInstance(bes).isRecursiveExecution(bes);
 	}
 
 	@Override
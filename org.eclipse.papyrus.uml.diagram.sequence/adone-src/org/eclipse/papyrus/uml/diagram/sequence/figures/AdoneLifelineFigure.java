@@ -21,6 +21,7 @@
  *****************************************************************************/
 package org.eclipse.papyrus.uml.diagram.sequence.figures;
 
+import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.gmf.runtime.diagram.ui.figures.ResizableCompartmentFigure;
 import org.eclipse.papyrus.infra.gmfdiag.common.utils.FigureUtils;
@@ -80,4 +81,15 @@ public class AdoneLifelineFigure extends LifelineFigure {
 		return labelDimension;
 	}
 
+	/**
+	 * The line of the lifeline is drawn solid when the zoom is too low for the dashes to be visible.
+	 */
+	@Override
+	protected int[] getLineDash(Graphics graphics) {
+		if (!AdoneLevelOfDetail.isShapeDetailed(this, graphics)) {
+			return null;
+		}
+		return super.getLineDash(graphics);
+	}
+
 }
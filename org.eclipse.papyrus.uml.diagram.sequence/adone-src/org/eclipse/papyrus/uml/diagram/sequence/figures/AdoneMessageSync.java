@@ -19,6 +19,7 @@
 package org.eclipse.papyrus.uml.diagram.sequence.figures;
 
 import org.eclipse.draw2d.ConnectionAnchor;
+import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.RotatableDecoration;
 import org.eclipse.papyrus.uml.diagram.sequence.anchors.AdoneConnectionSourceAnchor;
 import org.eclipse.papyrus.uml.diagram.sequence.anchors.AdoneConnectionTargetAnchor;
@@ -50,4 +51,14 @@ public class AdoneMessageSync extends MessageSync {
 		return decoration;
 	}
 
+	/**
+	 * The children of the message (its labels and its arrow decoration) are not painted when the zoom is too low for them to be legible.
+	 */
+	@Override
+	protected void paintChildren(Graphics graphics) {
+		if (AdoneLevelOfDetail.isTextVisible(this, graphics)) {
+			super.paintChildren(graphics);
+		}
+	}
+
 }
@@ -52,8 +52,8 @@ public class AdoneTopLevelLayerLabel extends WrappingLabel {
 	@Override
 	public void paint(Graphics graphics) {
 
-		// Only proceed with painting if rendering is enabled.
-		if (!RENDER_LABEL.get()) {
+		// Only proceed with painting if rendering is enabled, and if the zoom is high enough for the label to be legible.
+		if (!RENDER_LABEL.get() || !AdoneLevelOfDetail.isTextVisible(this, graphics)) {
 			return;
 		}
 
@@ -0,0 +1,81 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.figures;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Stands for an element of the interaction that has no edit part because it is out of the visible area.
+ * It is not selectable and only paints the outline of a node, or the line of a message, at the bounds cached from its view,
+ * until the element is displayed again.
+ */
+public class AdoneVirtualizedPlaceholderFigure extends Figure {
+
+	private Point lineStart;
+
+	private Point lineEnd;
+
+	/**
+	 * Places the placeholder of a node.
+	 *
+	 * @param bounds
+	 *            the bounds of the node in the coordinates of the layer of the placeholder
+	 */
+	public void setNodeBounds(Rectangle bounds) {
+		lineStart = null;
+		lineEnd = null;
+		setBounds(bounds);
+	}
+
+	/**
+	 * Places the placeholder of a message.
+	 *
+	 * @param start
+	 *            the source end of the message in the coordinates of the layer of the placeholder
+	 * @param end
+	 *            the target end of the message
+	 */
+	public void setLine(Point start, Point end) {
+		lineStart = start;
+		lineEnd = end;
+		setBounds(new Rectangle(start, end).expand(1, 1));
+	}
+
+	/**
+	 * The placeholder never receives the mouse events, they go to the figures below it.
+	 */
+	@Override
+	public boolean containsPoint(int x, int y) {
+		return false;
+	}
+
+	@Override
+	protected void paintFigure(Graphics graphics) {
+		graphics.setForegroundColor(ColorConstants.lightGray);
+		graphics.setLineStyle(Graphics.LINE_DOT);
+		if (lineStart != null) {
+			graphics.drawLine(lineStart, lineEnd);
+		} else {
+			Rectangle outline = getBounds().getCopy();
+			outline.width--;
+			outline.height--;
+			graphics.drawRectangle(outline);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.gmf.runtime.diagram.ui.editparts.IGraphicalEditPart;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.papyrus.infra.emf.gmf.command.GMFtoEMFCommandWrapper;
+import org.eclipse.papyrus.uml.diagram.sequence.command.AdoneBulkDeleteCommand;
+import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.AbstractExecutionSpecificationEditPart;
+import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.AbstractMessageEditPart;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+/**
+ * Deletes from the model several selected messages and execution specifications with a single {@link AdoneBulkDeleteCommand},
+ * instead of a destroy command per element, each one looking up the usages of its element in the whole model.
+ * It replaces the delete handler when the selection of a sequence diagram only holds messages and execution specifications.
+ * The Combined Fragments keep their own deletion, which asks whether their contents are deleted too, and deletes them with the bulk command.
+ */
+public class AdoneBulkDeleteHandler extends AbstractHandler {
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		ISelection selection = HandlerUtil.getCurrentSelection(event);
+		if (!(selection instanceof IStructuredSelection)) {
+			return null;
+		}
+		TransactionalEditingDomain domain = null;
+		List<EObject> elements = new ArrayList<>();
+		for (Object selected : ((IStructuredSelection) selection).toList()) {
+			if (selected instanceof AbstractMessageEditPart || selected instanceof AbstractExecutionSpecificationEditPart) {
+				IGraphicalEditPart editPart = (IGraphicalEditPart) selected;
+				EObject element = editPart.resolveSemanticElement();
+				if (element != null) {
+					elements.add(element);
+					domain = editPart.getEditingDomain();
+				}
+			}
+		}
+		if (domain != null) {
+			AdoneBulkDeleteCommand command = new AdoneBulkDeleteCommand(domain, elements);
+			if (command.canExecute()) {
+				domain.getCommandStack().execute(new GMFtoEMFCommandWrapper(command));
+			}
+		}
+		return null;
+	}
+}
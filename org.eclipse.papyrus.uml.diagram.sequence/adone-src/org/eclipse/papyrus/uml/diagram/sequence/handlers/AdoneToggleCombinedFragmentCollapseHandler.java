@@ -0,0 +1,43 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.handlers;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.AdoneCombinedFragmentEditPart;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+/**
+ * Collapses the selected Combined Fragments that are expanded, and expands the collapsed ones.
+ * It is contributed to the context menu of the diagram when Combined Fragments are selected.
+ */
+public class AdoneToggleCombinedFragmentCollapseHandler extends AbstractHandler {
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		ISelection selection = HandlerUtil.getCurrentSelection(event);
+		if (selection instanceof IStructuredSelection) {
+			for (Object selected : ((IStructuredSelection) selection).toList()) {
+				if (selected instanceof AdoneCombinedFragmentEditPart) {
+					((AdoneCombinedFragmentEditPart) selected).toggleCollapse();
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -18,12 +18,16 @@
 package org.eclipse.papyrus.uml.diagram.sequence.menu;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.ActionContributionItem;
 import org.eclipse.jface.action.IContributionItem;
+import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.papyrus.infra.viewpoints.policy.DynamicContribution;
 import org.eclipse.papyrus.infra.viewpoints.policy.PolicyChecker;
 import org.eclipse.papyrus.infra.viewpoints.policy.ViewPrototype;
@@ -33,9 +37,46 @@ import org.eclipse.papyrus.infra.viewpoints.policy.ViewPrototype;
  * "Class", and "Sequence". This streamlined approach filters out less relevant options,
  * facilitating quicker access to key diagram types. The customization focuses on enhancing
  * user experience by offering a simplified, clutter-free selection directly from the context menu.
+ * The prototypes are asked to the policy checker for each selection, as they depend on the selected element and its existing diagrams,
+ * but the filter, the labels and the icon of each prototype, which only depend on the prototype, are computed once.
  */
 public class AdoneDynamicDiagramsMenuContribution extends DynamicContribution {
 
+	private static final Map<ViewPrototype, MenuEntry> ENTRIES = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * What the menu shows of a prototype.
+	 */
+	private static class MenuEntry {
+
+		private final boolean essential;
+
+		private final String label;
+
+		private final String menuLabel;
+
+		private final String fullLabel;
+
+		private final ImageDescriptor icon;
+
+		MenuEntry(ViewPrototype prototype) {
+			label = prototype.getLabel();
+			essential = label.startsWith("Use Case") || label.startsWith("Class Diagram")
+					|| label.startsWith("Sequence");
+			if (label.startsWith("Use Case")) {
+				menuLabel = "유스케이스 다이어그램";
+			} else if (label.startsWith("Class")) {
+				menuLabel = "클래스 다이어그램";
+			} else if (label.startsWith("Sequence")) {
+				menuLabel = "시퀀스 다이어그램";
+			} else {
+				menuLabel = label;
+			}
+			fullLabel = prototype.getFullLabel();
+			icon = prototype.getIconDescriptor();
+		}
+	}
+
 	public AdoneDynamicDiagramsMenuContribution() {
 	}
 
@@ -52,42 +93,30 @@ public class AdoneDynamicDiagramsMenuContribution extends DynamicContribution {
 
 		// build a list of all the available prototypes
 		List<ViewPrototype> data = new ArrayList<>();
+		List<MenuEntry> entries = new ArrayList<>();
 		for (final ViewPrototype proto : PolicyChecker.getFor(selection).getPrototypesFor(selection)) {
-
-			String menuName = proto.getLabel();
-
-			if (menuName.startsWith("Use Case") || menuName.startsWith("Class Diagram")
-					|| menuName.startsWith("Sequence")) {
+			MenuEntry entry = ENTRIES.computeIfAbsent(proto, MenuEntry::new);
+			if (entry.essential) {
 				data.add(proto);
+				entries.add(entry);
 			}
-
 		}
 
 		// build the full labels
 		List<String> labels = new ArrayList<>(data.size());
 		String last = null;
 		boolean first = true;
-		for (ViewPrototype item : data) {
-			String label = item.getLabel();
-			if (last != null && last.equals(label)) {
+		for (MenuEntry entry : entries) {
+			if (last != null && last.equals(entry.label)) {
 				// name collision
 				if (first) {
-					labels.set(labels.size() - 1, data.get(labels.size() - 1).getFullLabel());
+					labels.set(labels.size() - 1, entries.get(labels.size() - 1).fullLabel);
 					first = false;
 				}
-				labels.add(item.getFullLabel());
+				labels.add(entry.fullLabel);
 			} else {
-
-				if (label.startsWith("Use Case")) {
-					label = "유스케이스 다이어그램";
-				} else if (label.startsWith("Class")) {
-					label = "클래스 다이어그램";
-				} else if (label.startsWith("Sequence")) {
-					label = "시퀀스 다이어그램";
-				}
-
-				labels.add(label);
-				last = label;
+				labels.add(entry.menuLabel);
+				last = entry.menuLabel;
 				first = true;
 			}
 		}
@@ -97,7 +126,7 @@ public class AdoneDynamicDiagramsMenuContribution extends DynamicContribution {
 		for (int i = 0; i != data.size(); i++) {
 			final ViewPrototype proto = data.get(i);
 			String label = labels.get(i);
-			items.add(new ActionContributionItem(new Action(label, proto.getIconDescriptor()) {
+			items.add(new ActionContributionItem(new Action(label, entries.get(i).icon) {
 				@Override
 				public void run() {
 					proto.instantiateOn(selection);
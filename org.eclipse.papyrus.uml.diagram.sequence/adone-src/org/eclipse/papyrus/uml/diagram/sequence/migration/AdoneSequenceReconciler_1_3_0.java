@@ -0,0 +1,80 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.migration;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.gmf.runtime.common.core.command.AbstractCommand;
+import org.eclipse.gmf.runtime.common.core.command.CommandResult;
+import org.eclipse.gmf.runtime.common.core.command.CompositeCommand;
+import org.eclipse.gmf.runtime.common.core.command.ICommand;
+import org.eclipse.gmf.runtime.notation.Diagram;
+import org.eclipse.papyrus.infra.gmfdiag.common.reconciler.DiagramReconciler;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneDiagramOpenPipeline;
+
+/**
+ * Sequence Diagram Reconciler from 1.1.0, doing the migrations of {@link SequenceReconciler_1_2_0} and {@link SequenceReconciler_1_3_0}
+ * with a single traversal of the diagram: each view is given its 1.2.0 visual id, then its 1.3.0 one, before the Combined Fragments are reordered.
+ * It replaces the two reconcilers in the registration of the plug-in.
+ */
+public class AdoneSequenceReconciler_1_3_0 extends DiagramReconciler {
+
+	@Override
+	public ICommand getReconcileCommand(Diagram diagram) {
+		CompositeCommand cc = new CompositeCommand("Migrate diagram from 1.1.0 to 1.3.0"); //$NON-NLS-1$
+		cc.add(new ChangeVisualIDsCommand(diagram));
+		cc.add(new SequenceReconciler_1_3_0().new ChangeCombinedFragmentOrder(diagram));
+		return cc;
+	}
+
+	protected class ChangeVisualIDsCommand extends AbstractCommand {
+
+		protected final Diagram diagram;
+
+		public ChangeVisualIDsCommand(Diagram diagram) {
+			super("Change the diagram's visual ids from 1.1.0 to 1.3.0"); //$NON-NLS-1$
+			this.diagram = diagram;
+		}
+
+		@Override
+		protected CommandResult doExecuteWithResult(IProgressMonitor progressMonitor, IAdaptable info) throws ExecutionException {
+			new AdoneDiagramOpenPipeline()
+					.addVisitor(view -> view.setType(SequenceReconciler_1_3_0.getNewVisualID(SequenceReconciler_1_2_0.getNewVisualID(view.getType()))))
+					.traverse(diagram);
+			return CommandResult.newOKCommandResult();
+		}
+
+		@Override
+		public boolean canUndo() {
+			return false;
+		}
+
+		@Override
+		public boolean canRedo() {
+			return false;
+		}
+
+		@Override
+		protected CommandResult doRedoWithResult(IProgressMonitor progressMonitor, IAdaptable info) throws ExecutionException {
+			throw new ExecutionException("Should not be called, canRedo false"); //$NON-NLS-1$
+		}
+
+		@Override
+		protected CommandResult doUndoWithResult(IProgressMonitor progressMonitor, IAdaptable info) throws ExecutionException {
+			throw new ExecutionException("Should not be called, canUndo false"); //$NON-NLS-1$
+		}
+	}
+}
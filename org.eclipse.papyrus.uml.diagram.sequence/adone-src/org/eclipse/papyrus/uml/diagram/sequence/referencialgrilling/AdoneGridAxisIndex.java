@@ -0,0 +1,267 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.referencialgrilling;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gmf.runtime.notation.DecorationNode;
+
+/**
+ * An ordered index of the axes (rows or columns) of the referential grid, sorted by their primitive position (Y for the rows, X for the columns).
+ * The index is updated incrementally when an axis is added, removed or moved, and answers the position queries by binary search,
+ * so the grid does not need to re-scan and re-sort the children of the grilling compartment on each update.
+ * Axes at the same position are sorted by their first insertion order, which is the order of the children of the grilling compartment
+ * (the axes are always appended to it), as the stable sort previously used did.
+ */
+public class AdoneGridAxisIndex {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private int[] positions = new int[INITIAL_CAPACITY];
+
+	private long[] sequences = new long[INITIAL_CAPACITY];
+
+	private DecorationNode[] axes = new DecorationNode[INITIAL_CAPACITY];
+
+	private int size = 0;
+
+	/** the position under which each axis is currently indexed **/
+	private final Map<DecorationNode, Integer> indexedPositions = new IdentityHashMap<>();
+
+	/** the insertion order of each axis, kept when an axis is removed and added again (for example when it is persisted) **/
+	private final Map<DecorationNode, Long> sequenceNumbers = new IdentityHashMap<>();
+
+	private long nextSequence = 0;
+
+	/**
+	 * @return the number of axes
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param axis
+	 *            a decoration node
+	 * @return true if the axis is indexed
+	 */
+	public boolean contains(DecorationNode axis) {
+		return indexedPositions.containsKey(axis);
+	}
+
+	/**
+	 * Removes all the axes, and forgets their insertion order.
+	 */
+	public void clear() {
+		Arrays.fill(axes, 0, size, null);
+		size = 0;
+		indexedPositions.clear();
+		sequenceNumbers.clear();
+		nextSequence = 0;
+	}
+
+	/**
+	 * Adds an axis at its position, the axes that have the same position being kept in their insertion order.
+	 * If the axis is already indexed, it is moved.
+	 *
+	 * @param axis
+	 *            the axis to add
+	 * @param position
+	 *            its position
+	 */
+	public void add(DecorationNode axis, int position) {
+		if (indexedPositions.containsKey(axis)) {
+			move(axis, position);
+			return;
+		}
+		ensureCapacity(size + 1);
+		long sequence = sequenceNumbers.computeIfAbsent(axis, key -> nextSequence++);
+		int index = insertionIndex(position, sequence);
+		System.arraycopy(positions, index, positions, index + 1, size - index);
+		System.arraycopy(sequences, index, sequences, index + 1, size - index);
+		System.arraycopy(axes, index, axes, index + 1, size - index);
+		positions[index] = position;
+		sequences[index] = sequence;
+		axes[index] = axis;
+		size++;
+		indexedPositions.put(axis, position);
+	}
+
+	/**
+	 * Removes an axis.
+	 *
+	 * @param axis
+	 *            the axis to remove
+	 * @return true if the axis was indexed
+	 */
+	public boolean remove(DecorationNode axis) {
+		int index = indexOf(axis);
+		if (index < 0) {
+			return false;
+		}
+		System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+		System.arraycopy(sequences, index + 1, sequences, index, size - index - 1);
+		System.arraycopy(axes, index + 1, axes, index, size - index - 1);
+		size--;
+		axes[size] = null;
+		indexedPositions.remove(axis);
+		return true;
+	}
+
+	/**
+	 * Moves an axis to a new position.
+	 *
+	 * @param axis
+	 *            the moved axis
+	 * @param position
+	 *            its new position
+	 */
+	public void move(DecorationNode axis, int position) {
+		Integer oldPosition = indexedPositions.get(axis);
+		if (oldPosition != null && oldPosition.intValue() == position) {
+			return;
+		}
+		remove(axis);
+		add(axis, position);
+	}
+
+	/**
+	 * @param axis
+	 *            an axis
+	 * @return the index of the axis in the sorted order, -1 if it is not indexed
+	 */
+	public int indexOf(DecorationNode axis) {
+		Integer position = indexedPositions.get(axis);
+		if (position == null) {
+			return -1;
+		}
+		for (int index = lowerBound(position); index < size && positions[index] == position; index++) {
+			if (axes[index] == axis) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param index
+	 *            an index in the sorted order
+	 * @return the axis at the index
+	 */
+	public DecorationNode get(int index) {
+		return axes[index];
+	}
+
+	/**
+	 * @param index
+	 *            an index in the sorted order
+	 * @return the position of the axis at the index
+	 */
+	public int getPosition(int index) {
+		return positions[index];
+	}
+
+	/**
+	 * @param position
+	 *            a position
+	 * @return the index of the first axis whose position is greater than or equal to the given position (size if there is none)
+	 */
+	public int lowerBound(int position) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (positions[middle] < position) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * @param position
+	 *            a position
+	 * @return the index of the first axis whose position is strictly greater than the given position (size if there is none)
+	 */
+	public int upperBound(int position) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (positions[middle] <= position) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private int insertionIndex(int position, long sequence) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (positions[middle] < position || (positions[middle] == position && sequences[middle] < sequence)) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Adds to the result the axes whose position is in [min, max], in the sorted order.
+	 *
+	 * @param min
+	 *            the minimal position (inclusive)
+	 * @param max
+	 *            the maximal position (inclusive)
+	 * @param result
+	 *            the list to fill
+	 */
+	public void collectBetween(int min, int max, Collection<DecorationNode> result) {
+		for (int index = lowerBound(min); index < size && positions[index] <= max; index++) {
+			result.add(axes[index]);
+		}
+	}
+
+	/**
+	 * Replaces the content of the list by the axes in the sorted order.
+	 *
+	 * @param result
+	 *            the list to fill
+	 */
+	public void copyTo(List<DecorationNode> result) {
+		result.clear();
+		result.addAll(Arrays.asList(axes).subList(0, size));
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > positions.length) {
+			int newCapacity = Math.max(capacity, positions.length * 2);
+			positions = Arrays.copyOf(positions, newCapacity);
+			sequences = Arrays.copyOf(sequences, newCapacity);
+			axes = Arrays.copyOf(axes, newCapacity);
+		}
+	}
+}
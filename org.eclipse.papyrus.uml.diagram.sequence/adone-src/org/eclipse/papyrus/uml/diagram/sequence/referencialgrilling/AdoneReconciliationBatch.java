@@ -0,0 +1,117 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.referencialgrilling;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.transaction.RollbackException;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.gmf.runtime.common.core.command.ICommand;
+import org.eclipse.papyrus.infra.emf.gmf.util.GMFUnsafe;
+import org.eclipse.papyrus.uml.diagram.sequence.part.UMLDiagramEditorPlugin;
+import org.eclipse.papyrus.uml.diagram.sequence.validation.AsyncValidateCommand;
+import org.eclipse.uml2.uml.CombinedFragment;
+
+/**
+ * Runs the reconciliation of the grid after a user action (update of the axes, of the covered lifelines and of the owners of the fragments)
+ * in a single write transaction. The commands executed by the reconciliation run in nested transactions of it,
+ * so the listeners receive one post-commit notification for the whole reconciliation and the model is validated once, when it commits.
+ * The validations of the Combined Fragments requested during the reconciliation are merged, and triggered once per Combined Fragment at its end.
+ */
+public class AdoneReconciliationBatch {
+
+	private final TransactionalEditingDomain domain;
+
+	private final Consumer<ICommand> executor;
+
+	private final Set<CombinedFragment> fragmentsToValidate = new LinkedHashSet<>();
+
+	private boolean running;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param domain
+	 *            the editing domain of the diagram
+	 * @param executor
+	 *            executes the validation commands without history
+	 */
+	public AdoneReconciliationBatch(TransactionalEditingDomain domain, Consumer<ICommand> executor) {
+		this.domain = domain;
+		this.executor = executor;
+	}
+
+	/**
+	 * Runs a reconciliation in a single transaction. A reconciliation started while another one is running joins it.
+	 *
+	 * @param reconciliation
+	 *            the reconciliation
+	 */
+	public void run(Runnable reconciliation) {
+		if (running) {
+			reconciliation.run();
+			return;
+		}
+		running = true;
+		try {
+			GMFUnsafe.write(domain, () -> {
+				reconciliation.run();
+				flushValidations();
+			});
+		} catch (RollbackException e) {
+			UMLDiagramEditorPlugin.log.error(e);
+		} catch (InterruptedException e) {
+			UMLDiagramEditorPlugin.log.error(e);
+			Thread.currentThread().interrupt();
+		} finally {
+			running = false;
+			fragmentsToValidate.clear();
+		}
+	}
+
+	/**
+	 * @return true if a reconciliation is running
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Requests the validation of a Combined Fragment. During a reconciliation, the validation is triggered once at its end,
+	 * however many operands of the Combined Fragment were updated. Otherwise it is triggered immediately.
+	 *
+	 * @param combinedFragment
+	 *            the Combined Fragment to validate
+	 */
+	public void validate(CombinedFragment combinedFragment) {
+		if (running) {
+			fragmentsToValidate.add(combinedFragment);
+		} else {
+			AsyncValidateCommand.get(combinedFragment).ifPresent(executor);
+		}
+	}
+
+	private void flushValidations() {
+		List<CombinedFragment> fragments = new ArrayList<>(fragmentsToValidate);
+		fragmentsToValidate.clear();
+		for (CombinedFragment fragment : fragments) {
+			AsyncValidateCommand.get(fragment).ifPresent(executor);
+		}
+	}
+}
@@ -36,6 +36,7 @@ import org.eclipse.papyrus.uml.diagram.sequence.requests.AdoneChangeElementOrder
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneElementOrderChangeManager;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceUtil;
 import org.eclipse.papyrus.uml.diagram.sequence.util.SequenceUtil;
+import org.eclipse.swt.graphics.Cursor;
 
 /**
  * This class enhances drag functionality for CombinedFragments (CF) in Sequence diagrams. Holding Ctrl
@@ -50,6 +51,8 @@ public class AdoneDragCombinedFragmentEditPartsTracker extends PapyrusDragEditPa
 
 	private boolean isDragging = false;
 
+	private final AdoneDragCommandCache commandCache = new AdoneDragCommandCache(this::refreshCoalescedCommand);
+
 	public AdoneDragCombinedFragmentEditPartsTracker(final EditPart sourceEditPart) {
 		super(sourceEditPart);
 	}
@@ -72,7 +75,7 @@ public class AdoneDragCombinedFragmentEditPartsTracker extends PapyrusDragEditPa
 		if (getCurrentInput().isControlKeyDown()) {
 
 			// Activate change element order mode
-			AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(true);
+			AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).setElementOrderChangeMode(true);
 
 			// Get the current source edit part
 			EditPart sourceEditPart = super.getSourceEditPart();
@@ -113,7 +116,7 @@ public class AdoneDragCombinedFragmentEditPartsTracker extends PapyrusDragEditPa
 
 			// If the figure is not null, add it to the selected figures for visual feedback
 			if (figure != null) {
-				AdoneElementOrderChangeManager.getInstance().addSelectedFigure(figure);
+				AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).addSelectedFigure(figure);
 			}
 
 		}
@@ -130,7 +133,7 @@ public class AdoneDragCombinedFragmentEditPartsTracker extends PapyrusDragEditPa
 	@Override
 	protected void executeCommand(Command command) {
 		super.executeCommand(command);
-		AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(false);
+		AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).setElementOrderChangeMode(false);
 	}
 
 	/**
@@ -156,7 +159,7 @@ public class AdoneDragCombinedFragmentEditPartsTracker extends PapyrusDragEditPa
 	 * are part of an ongoing reordering process.
 	 */
 	private void showChangeOrderFeedback() {
-		for (IFigure movingFigure : AdoneElementOrderChangeManager.getInstance().getSelectedFigureList()) {
+		for (IFigure movingFigure : AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).getSelectedFigureList()) {
 			// Apply visual feedback to each moving figure
 			addFeedback(movingFigure);
 		}
@@ -176,10 +179,15 @@ public class AdoneDragCombinedFragmentEditPartsTracker extends PapyrusDragEditPa
 	@Override
 	protected boolean handleButtonUp(int button) {
 
+		if (isInState(STATE_DRAG_IN_PROGRESS)) {
+			// Build the command of the final location while the change element order mode is still set
+			setCurrentCommand(commandCache.getFinalCommand(getTargetRequest(), getTargetEditPart(), super::getCommand));
+		}
+
 		if (isDragging) {
 			// Execute only once when dragging ends
 			isDragging = false; // Reset dragging state
-			AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(false);
+			AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).setElementOrderChangeMode(false);
 		}
 
 		boolean result = super.handleButtonUp(button);
@@ -192,6 +200,51 @@ public class AdoneDragCombinedFragmentEditPartsTracker extends PapyrusDragEditPa
 
 	}
 
+	/**
+	 * Returns the move command of the current drag from the drag-session cache, so that the large compound
+	 * command of the layout edit policy is not rebuilt on every mouse move.
+	 *
+	 * @return Command The cached command, or the command built for the current request.
+	 */
+	@Override
+	protected Command getCommand() {
+		if (!isInState(STATE_DRAG_IN_PROGRESS)) {
+			return super.getCommand();
+		}
+		return commandCache.getCommand(getTargetRequest(), getTargetEditPart(), super::getCommand);
+	}
+
+	/**
+	 * Asks again for the command at the end of a frame in which mouse moves were coalesced, and updates
+	 * the cursor accordingly.
+	 */
+	private void refreshCoalescedCommand() {
+		if (isActive() && isInState(STATE_DRAG_IN_PROGRESS)) {
+			setCurrentCommand(getCommand());
+			refreshCursor();
+		}
+	}
+
+	/**
+	 * Uses the executability cached with the command of the drag, instead of asking the compound command
+	 * again on every cursor update.
+	 *
+	 * @return Cursor The cursor to be displayed.
+	 */
+	@Override
+	protected Cursor calculateCursor() {
+		if (isInState(STATE_DRAG_IN_PROGRESS)) {
+			return commandCache.canExecute(getCurrentCommand()) ? getDefaultCursor() : getDisabledCursor();
+		}
+		return super.calculateCursor();
+	}
+
+	@Override
+	public void deactivate() {
+		commandCache.reset();
+		super.deactivate();
+	}
+
 	@Override
 	protected void eraseTargetFeedback() {
 		super.eraseTargetFeedback();
@@ -205,11 +258,11 @@ public class AdoneDragCombinedFragmentEditPartsTracker extends PapyrusDragEditPa
 	 */
 	private void eraseChangeOrderFeedback() {
 
-		for (IFigure figure : AdoneElementOrderChangeManager.getInstance().getSelectedFigureList()) {
+		for (IFigure figure : AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).getSelectedFigureList()) {
 			removeFeedback(figure);
 		}
 
-		AdoneElementOrderChangeManager.getInstance().clear();
+		AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).clear();
 	}
 
 	/**
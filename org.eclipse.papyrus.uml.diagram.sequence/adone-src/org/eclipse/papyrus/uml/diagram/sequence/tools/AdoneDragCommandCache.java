@@ -0,0 +1,188 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.tools;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.Request;
+import org.eclipse.gef.commands.Command;
+import org.eclipse.gef.requests.ChangeBoundsRequest;
+import org.eclipse.gef.requests.LocationRequest;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Command cache of a drag session. The drag trackers of the sequence diagram ask for the move command on every mouse move,
+ * and the layout edit policy rebuilds a large compound command each time. During the drag, the command is only used to choose the cursor:
+ * - the last command is reused as long as the snapped move delta and the target do not change,
+ * - at most one command is built per display frame, the moves received in the meantime are coalesced and the command of the last one is built at the end of the frame,
+ * - on mouse-up, the command is rebuilt for the exact location of the request unless the cached one was built for it.
+ * The feedback figures are still updated on every move, as they are cheap compared to the command.
+ */
+public class AdoneDragCommandCache {
+
+	/** Minimal interval between two builds of the command, in milliseconds **/
+	public static final int FRAME_INTERVAL = 16;
+
+	private final Runnable frameCallback;
+
+	private final Runnable frameEnd = this::endFrame;
+
+	private boolean built;
+
+	private List<Object> key;
+
+	private List<Object> exactKey;
+
+	private Command command;
+
+	private Boolean executable;
+
+	private boolean framePending;
+
+	private boolean moveCoalesced;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param frameCallback
+	 *            called at the end of a frame in which moves were coalesced, so that the tracker asks for the command of its current request again
+	 */
+	public AdoneDragCommandCache(Runnable frameCallback) {
+		this.frameCallback = frameCallback;
+	}
+
+	/**
+	 * Returns the command to use during the drag: the cached command when the request did not change, or when a command was already built in the current frame.
+	 *
+	 * @param request
+	 *            the current request of the tracker
+	 * @param target
+	 *            the edit part the request is sent to, may be null
+	 * @param builder
+	 *            builds the command of the current request
+	 * @return the command
+	 */
+	public Command getCommand(Request request, EditPart target, Supplier<Command> builder) {
+		List<Object> newKey = getKey(request, target, false);
+		if (built && newKey.equals(key)) {
+			return command;
+		}
+		Display display = Display.getCurrent();
+		if (display == null) {
+			return build(request, target, builder);
+		}
+		if (framePending) {
+			moveCoalesced = true;
+			return command;
+		}
+		build(request, target, builder);
+		framePending = true;
+		display.timerExec(FRAME_INTERVAL, frameEnd);
+		return command;
+	}
+
+	/**
+	 * Returns the command to execute on mouse-up, built for the exact location of the request.
+	 *
+	 * @param request
+	 *            the current request of the tracker
+	 * @param target
+	 *            the edit part the request is sent to, may be null
+	 * @param builder
+	 *            builds the command of the current request
+	 * @return the command
+	 */
+	public Command getFinalCommand(Request request, EditPart target, Supplier<Command> builder) {
+		if (built && getKey(request, target, true).equals(exactKey)) {
+			return command;
+		}
+		return build(request, target, builder);
+	}
+
+	/**
+	 * @param currentCommand
+	 *            the current command of the tracker
+	 * @return true if the command can be executed, the answer being computed once per cached command
+	 */
+	public boolean canExecute(Command currentCommand) {
+		if (currentCommand == null) {
+			return false;
+		}
+		if (!built || currentCommand != command) {
+			return currentCommand.canExecute();
+		}
+		if (executable == null) {
+			executable = Boolean.valueOf(command.canExecute());
+		}
+		return executable.booleanValue();
+	}
+
+	/**
+	 * Forgets the cached command and cancels the pending frame. Called when the tracker is deactivated.
+	 */
+	public void reset() {
+		if (framePending && Display.getCurrent() != null) {
+			Display.getCurrent().timerExec(-1, frameEnd);
+		}
+		framePending = false;
+		moveCoalesced = false;
+		built = false;
+		key = null;
+		exactKey = null;
+		command = null;
+		executable = null;
+	}
+
+	private Command build(Request request, EditPart target, Supplier<Command> builder) {
+		// The keys are read before building, as the edit policies may adjust the request
+		key = getKey(request, target, false);
+		exactKey = getKey(request, target, true);
+		command = builder.get();
+		executable = null;
+		built = true;
+		return command;
+	}
+
+	private void endFrame() {
+		framePending = false;
+		if (moveCoalesced) {
+			moveCoalesced = false;
+			frameCallback.run();
+		}
+	}
+
+	private static List<Object> getKey(Request request, EditPart target, boolean exact) {
+		Object type = request == null ? null : request.getType();
+		Point moveDelta = null;
+		Dimension sizeDelta = null;
+		Point location = null;
+		if (request instanceof ChangeBoundsRequest) {
+			ChangeBoundsRequest changeBoundsRequest = (ChangeBoundsRequest) request;
+			moveDelta = changeBoundsRequest.getMoveDelta() == null ? null : changeBoundsRequest.getMoveDelta().getCopy();
+			sizeDelta = changeBoundsRequest.getSizeDelta() == null ? null : changeBoundsRequest.getSizeDelta().getCopy();
+			if (exact && changeBoundsRequest.getLocation() != null) {
+				location = changeBoundsRequest.getLocation().getCopy();
+			}
+		} else if (request instanceof LocationRequest && ((LocationRequest) request).getLocation() != null) {
+			location = ((LocationRequest) request).getLocation().getCopy();
+		}
+		return Arrays.asList(type, target, moveDelta, sizeDelta, location);
+	}
+}
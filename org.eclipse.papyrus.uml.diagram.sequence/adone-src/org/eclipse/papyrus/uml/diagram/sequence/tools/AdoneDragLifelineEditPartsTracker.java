@@ -36,6 +36,7 @@ import org.eclipse.papyrus.uml.diagram.sequence.requests.AdoneChangeElementOrder
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneElementOrderChangeManager;
 import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceUtil;
 import org.eclipse.papyrus.uml.diagram.sequence.util.SequenceUtil;
+import org.eclipse.swt.graphics.Cursor;
 
 /**
  * This class enhances the dragging functionality for Lifelines in Sequence Diagrams when Ctrl is held
@@ -53,6 +54,8 @@ public class AdoneDragLifelineEditPartsTracker extends PapyrusDragEditPartsTrack
 
 	private boolean isDragging = false;
 
+	private final AdoneDragCommandCache commandCache = new AdoneDragCommandCache(this::refreshCoalescedCommand);
+
 	public AdoneDragLifelineEditPartsTracker(final EditPart sourceEditPart) {
 		super(sourceEditPart);
 	}
@@ -75,7 +78,7 @@ public class AdoneDragLifelineEditPartsTracker extends PapyrusDragEditPartsTrack
 		if (getCurrentInput().isControlKeyDown()) {
 
 			// Activate change element order mode
-			AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(true);
+			AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).setElementOrderChangeMode(true);
 
 			// Get the current source edit part
 			EditPart sourceEditPart = super.getSourceEditPart();
@@ -111,7 +114,7 @@ public class AdoneDragLifelineEditPartsTracker extends PapyrusDragEditPartsTrack
 	@Override
 	protected void executeCommand(Command command) {
 		super.executeCommand(command);
-		AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(false);
+		AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).setElementOrderChangeMode(false);
 	}
 
 	/**
@@ -137,7 +140,7 @@ public class AdoneDragLifelineEditPartsTracker extends PapyrusDragEditPartsTrack
 
 			// If the figure is not null, add it to the selected figures for visual feedback
 			if (figure != null) {
-				AdoneElementOrderChangeManager.getInstance().addSelectedFigure(figure);
+				AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).addSelectedFigure(figure);
 			}
 
 		}
@@ -168,7 +171,7 @@ public class AdoneDragLifelineEditPartsTracker extends PapyrusDragEditPartsTrack
 	 * are part of an ongoing reordering process.
 	 */
 	private void showChangeOrderFeedback() {
-		for (IFigure movingFigure : AdoneElementOrderChangeManager.getInstance().getSelectedFigureList()) {
+		for (IFigure movingFigure : AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).getSelectedFigureList()) {
 			// Apply visual feedback to each moving figure
 			addFeedback(movingFigure);
 		}
@@ -188,10 +191,15 @@ public class AdoneDragLifelineEditPartsTracker extends PapyrusDragEditPartsTrack
 	@Override
 	protected boolean handleButtonUp(int button) {
 
+		if (isInState(STATE_DRAG_IN_PROGRESS)) {
+			// Build the command of the final location while the change element order mode is still set
+			setCurrentCommand(commandCache.getFinalCommand(getTargetRequest(), getTargetEditPart(), super::getCommand));
+		}
+
 		if (isDragging) {
 			// Execute only once when dragging ends
 			isDragging = false; // Reset dragging state
-			AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(false);
+			AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).setElementOrderChangeMode(false);
 		}
 
 		boolean result = super.handleButtonUp(button);
@@ -205,6 +213,51 @@ public class AdoneDragLifelineEditPartsTracker extends PapyrusDragEditPartsTrack
 	}
 
 
+	/**
+	 * Returns the move command of the current drag from the drag-session cache, so that the large compound
+	 * command of the layout edit policy is not rebuilt on every mouse move.
+	 *
+	 * @return Command The cached command, or the command built for the current request.
+	 */
+	@Override
+	protected Command getCommand() {
+		if (!isInState(STATE_DRAG_IN_PROGRESS)) {
+			return super.getCommand();
+		}
+		return commandCache.getCommand(getTargetRequest(), getTargetEditPart(), super::getCommand);
+	}
+
+	/**
+	 * Asks again for the command at the end of a frame in which mouse moves were coalesced, and updates
+	 * the cursor accordingly.
+	 */
+	private void refreshCoalescedCommand() {
+		if (isActive() && isInState(STATE_DRAG_IN_PROGRESS)) {
+			setCurrentCommand(getCommand());
+			refreshCursor();
+		}
+	}
+
+	/**
+	 * Uses the executability cached with the command of the drag, instead of asking the compound command
+	 * again on every cursor update.
+	 *
+	 * @return Cursor The cursor to be displayed.
+	 */
+	@Override
+	protected Cursor calculateCursor() {
+		if (isInState(STATE_DRAG_IN_PROGRESS)) {
+			return commandCache.canExecute(getCurrentCommand()) ? getDefaultCursor() : getDisabledCursor();
+		}
+		return super.calculateCursor();
+	}
+
+	@Override
+	public void deactivate() {
+		commandCache.reset();
+		super.deactivate();
+	}
+
 	@Override
 	protected void eraseTargetFeedback() {
 		super.eraseTargetFeedback();
@@ -219,11 +272,11 @@ public class AdoneDragLifelineEditPartsTracker extends PapyrusDragEditPartsTrack
 	 */
 	private void eraseChangeOrderFeedback() {
 
-		for (IFigure figure : AdoneElementOrderChangeManager.getInstance().getSelectedFigureList()) {
+		for (IFigure figure : AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).getSelectedFigureList()) {
 			removeFeedback(figure);
 		}
 
-		AdoneElementOrderChangeManager.getInstance().clear();
+		AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).clear();
 	}
 
 	/**
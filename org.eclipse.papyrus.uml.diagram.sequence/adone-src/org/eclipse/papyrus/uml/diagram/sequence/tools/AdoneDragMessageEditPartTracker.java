@@ -45,6 +45,8 @@ public class AdoneDragMessageEditPartTracker extends SelectMessagesEditPartTrack
 
 	private boolean isDragging = false;
 
+	private final AdoneDragCommandCache commandCache = new AdoneDragCommandCache(this::refreshCoalescedCommand);
+
 	public AdoneDragMessageEditPartTracker(ConnectionEditPart owner) {
 		super(owner);
 	}
@@ -82,7 +84,8 @@ public class AdoneDragMessageEditPartTracker extends SelectMessagesEditPartTrack
 		Command command = getCurrentCommand();
 
 		// If a command is present but cannot be executed, set and return a disabled cursor
-		if (command != null && !command.canExecute()) {
+		// (the executability is cached with the command of the drag)
+		if (command != null && !commandCache.canExecute(command)) {
 			// Forcibly set the disabled cursor if not already set (2024-01-13)
 			if (getDisabledCursor() == null) {
 				setDisabledCursor(Cursors.NO);
@@ -106,7 +109,7 @@ public class AdoneDragMessageEditPartTracker extends SelectMessagesEditPartTrack
 	@Override
 	protected void executeCommand(Command command) {
 		super.executeCommand(command);
-		AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(false);
+		AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).setElementOrderChangeMode(false);
 	}
 
 	/**
@@ -120,6 +123,20 @@ public class AdoneDragMessageEditPartTracker extends SelectMessagesEditPartTrack
 	 */
 	@Override
 	protected Command getCommand() {
+		if (isInState(STATE_DRAG_IN_PROGRESS)) {
+			// Reuse the command of the drag while the move delta does not change, and build it at most once per frame
+			return commandCache.getCommand(getSourceRequest(), null, this::buildCommand);
+		}
+		return buildCommand();
+	}
+
+	/**
+	 * Builds the command of the current request, replacing a command that cannot be executed by an
+	 * unexecutable command instance.
+	 *
+	 * @return Command The executable command if valid, or an instance of UnexecutableCommand.
+	 */
+	private Command buildCommand() {
 		Command command = super.getCommand(); // Retrieve the command from the superclass
 
 		// Check if the command is non-null and cannot be executed
@@ -133,6 +150,39 @@ public class AdoneDragMessageEditPartTracker extends SelectMessagesEditPartTrack
 	}
 
 
+	/**
+	 * Asks again for the command at the end of a frame in which mouse moves were coalesced, and updates
+	 * the cursor accordingly.
+	 */
+	private void refreshCoalescedCommand() {
+		if (isActive() && isInState(STATE_DRAG_IN_PROGRESS)) {
+			setCurrentCommand(getCommand());
+			refreshCursor();
+		}
+	}
+
+	/**
+	 * Builds the command of the final location before the drag is ended, as the command of the last mouse
+	 * moves may have been coalesced.
+	 *
+	 * @param button
+	 *            The mouse button number that was released.
+	 * @return boolean Returns the result of the superclass's handleButtonUp method.
+	 */
+	@Override
+	protected boolean handleButtonUp(int button) {
+		if (isInState(STATE_DRAG_IN_PROGRESS)) {
+			setCurrentCommand(commandCache.getFinalCommand(getSourceRequest(), null, this::buildCommand));
+		}
+		return super.handleButtonUp(button);
+	}
+
+	@Override
+	public void deactivate() {
+		commandCache.reset();
+		super.deactivate();
+	}
+
 	/**
 	 * Handles the change of element order mode, activated by pressing Ctrl. It sets the mode to allow
 	 * reordering of message elements within the diagram, applies visual feedback, and executes
@@ -144,7 +194,7 @@ public class AdoneDragMessageEditPartTracker extends SelectMessagesEditPartTrack
 		if (getCurrentInput().isControlKeyDown()) {
 
 			// Activate change element order mode
-			AdoneElementOrderChangeManager.getInstance().setElementOrderChangeMode(true);
+			AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).setElementOrderChangeMode(true);
 
 			// Get the current source edit part
 			EditPart sourceEditPart = super.getSourceEditPart();
@@ -182,7 +232,7 @@ public class AdoneDragMessageEditPartTracker extends SelectMessagesEditPartTrack
 		if (msgEp != null) {
 			IFigure figure = msgEp.getFigure();
 			if (figure != null) {
-				AdoneElementOrderChangeManager.getInstance().addSelectedFigure(figure);
+				AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).addSelectedFigure(figure);
 			}
 
 			// get the connected behaviorExecutionSpec at message received event and add to selectedFigures
@@ -194,7 +244,7 @@ public class AdoneDragMessageEditPartTracker extends SelectMessagesEditPartTrack
 					BehaviorExecutionSpecificationEditPart besEp = (BehaviorExecutionSpecificationEditPart) AdoneSequenceUtil.getEditPartFromSemantic(msgEp, bes);
 					figure = besEp.getContentPane();
 					if (figure != null) {
-						AdoneElementOrderChangeManager.getInstance().addSelectedFigure(figure);
+						AdoneElementOrderChangeManager.getInstance(getSourceEditPart()).addSelectedFigure(figure);
 					}
 				}
 			}
@@ -0,0 +1,221 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.tools;
+
+import java.util.List;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.KeyHandler;
+import org.eclipse.gef.LayerConstants;
+import org.eclipse.gef.RequestConstants;
+import org.eclipse.gef.commands.Command;
+import org.eclipse.gef.editparts.LayerManager;
+import org.eclipse.gef.requests.ChangeBoundsRequest;
+import org.eclipse.gmf.runtime.diagram.ui.editparts.ConnectionNodeEditPart;
+import org.eclipse.gmf.runtime.diagram.ui.editparts.DiagramRootEditPart;
+import org.eclipse.gmf.runtime.diagram.ui.parts.IDiagramEditDomain;
+import org.eclipse.gmf.runtime.diagram.ui.parts.IDiagramGraphicalViewer;
+import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.AbstractMessageEditPart;
+import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.CombinedFragmentEditPart;
+import org.eclipse.papyrus.uml.diagram.sequence.util.SequenceUtil;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.KeyEvent;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Moves the selected message or Combined Fragment up and down with Alt and the arrow keys, by a step of the grid at the current zoom.
+ * The plain arrow keys are left to the keyboard navigation of the viewer.
+ * The key presses are coalesced: while the keys are pressed, the delta is accumulated and previewed by an outline in the feedback layer,
+ * and the move is executed once, as a single command and undo entry, when the keys have been released for the coalescing window.
+ * The other keys, and the arrow keys on other selections, are passed to the parent key handler.
+ */
+public class AdoneNudgeKeyHandler extends KeyHandler {
+
+	/** Delay after the release of the arrow keys before the accumulated move is executed, in milliseconds **/
+	public static final int COALESCE_WINDOW = 300;
+
+	/** Modifier that must be held with the arrow keys to move the selection **/
+	public static final int NUDGE_MODIFIER = SWT.MOD3;
+
+	/** Step of a key press when the diagram has no grid, in pixels at 100% **/
+	private static final int DEFAULT_STEP = 10;
+
+	private final IDiagramGraphicalViewer viewer;
+
+	private final Runnable commit = this::commit;
+
+	private GraphicalEditPart nudgedEditPart;
+
+	private int pendingDelta;
+
+	private IFigure previewFigure;
+
+	private Rectangle previewBounds;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param viewer
+	 *            the viewer of the sequence diagram
+	 */
+	public AdoneNudgeKeyHandler(IDiagramGraphicalViewer viewer) {
+		this.viewer = viewer;
+	}
+
+	@Override
+	public boolean keyPressed(KeyEvent event) {
+		GraphicalEditPart nudgeable = getNudgeableEditPart(event);
+		if (nudgeable == null) {
+			// any other key, or a selection change, ends the nudge before being processed
+			commit();
+			return super.keyPressed(event);
+		}
+		if (nudgeable != nudgedEditPart) {
+			commit();
+			nudgedEditPart = nudgeable;
+		}
+		Display.getCurrent().timerExec(-1, commit);
+		pendingDelta += event.keyCode == SWT.ARROW_UP ? -getStep() : getStep();
+		showPreview();
+		return true;
+	}
+
+	@Override
+	public boolean keyReleased(KeyEvent event) {
+		if (nudgedEditPart != null && (event.keyCode == SWT.ARROW_UP || event.keyCode == SWT.ARROW_DOWN)) {
+			// wait for the coalescing window, the key may be pressed again (or repeated)
+			Display.getCurrent().timerExec(COALESCE_WINDOW, commit);
+			return true;
+		}
+		return super.keyReleased(event);
+	}
+
+	/**
+	 * @param event
+	 *            a key event
+	 * @return the edit part to move if the event is an Alt + arrow key nudge of a single selected message or Combined Fragment, null otherwise
+	 */
+	private GraphicalEditPart getNudgeableEditPart(KeyEvent event) {
+		if ((event.keyCode != SWT.ARROW_UP && event.keyCode != SWT.ARROW_DOWN) || (event.stateMask & SWT.MODIFIER_MASK) != NUDGE_MODIFIER) {
+			return null;
+		}
+		List<?> selection = viewer.getSelectedEditParts();
+		if (selection.size() != 1) {
+			return null;
+		}
+		Object selected = selection.get(0);
+		if (selected instanceof AbstractMessageEditPart || selected instanceof CombinedFragmentEditPart) {
+			return (GraphicalEditPart) selected;
+		}
+		return null;
+	}
+
+	/**
+	 * @return the step of a key press in absolute coordinates: the spacing of the grid, or the default step, scaled by the zoom of the viewer
+	 */
+	private int getStep() {
+		double step = DEFAULT_STEP;
+		double zoom = 1;
+		if (viewer.getRootEditPart() instanceof DiagramRootEditPart) {
+			DiagramRootEditPart root = (DiagramRootEditPart) viewer.getRootEditPart();
+			if (root.getGridSpacing() > 0) {
+				step = root.getGridSpacing();
+			}
+			zoom = root.getZoomManager().getZoom();
+		}
+		return Math.max(1, (int) Math.round(step * zoom));
+	}
+
+	/**
+	 * Moves an outline of the nudged element by the pending delta. Only the feedback layer is repainted, the model is not changed.
+	 */
+	private void showPreview() {
+		IFigure feedbackLayer = getFeedbackLayer();
+		if (feedbackLayer == null) {
+			return;
+		}
+		if (previewFigure == null) {
+			previewBounds = nudgedEditPart.getFigure().getBounds().getCopy();
+			nudgedEditPart.getFigure().translateToAbsolute(previewBounds);
+			feedbackLayer.translateToRelative(previewBounds);
+			RectangleFigure outline = new RectangleFigure();
+			outline.setFill(false);
+			outline.setForegroundColor(ColorConstants.darkBlue);
+			previewFigure = outline;
+			feedbackLayer.add(previewFigure);
+		}
+		previewFigure.setBounds(previewBounds.getTranslated(0, pendingDelta));
+	}
+
+	private void removePreview() {
+		if (previewFigure != null && previewFigure.getParent() != null) {
+			previewFigure.getParent().remove(previewFigure);
+		}
+		previewFigure = null;
+		previewBounds = null;
+	}
+
+	private IFigure getFeedbackLayer() {
+		LayerManager layerManager = (LayerManager) viewer.getEditPartRegistry().get(LayerManager.ID);
+		return layerManager == null ? null : layerManager.getLayer(LayerConstants.FEEDBACK_LAYER);
+	}
+
+	/**
+	 * Executes the accumulated move as a single command, sent to the interaction compartment as a move of the children.
+	 */
+	private void commit() {
+		if (Display.getCurrent() != null) {
+			Display.getCurrent().timerExec(-1, commit);
+		}
+		GraphicalEditPart editPart = nudgedEditPart;
+		int delta = pendingDelta;
+		nudgedEditPart = null;
+		pendingDelta = 0;
+		removePreview();
+		if (editPart == null || delta == 0 || !editPart.isActive()) {
+			return;
+		}
+
+		EditPart interactionCompartment = SequenceUtil.getInteractionCompartment(editPart);
+		if (interactionCompartment == null) {
+			return;
+		}
+
+		Point location;
+		if (editPart instanceof ConnectionNodeEditPart) {
+			location = SequenceUtil.getAbsoluteEdgeExtremity((ConnectionNodeEditPart) editPart, true);
+		} else {
+			Rectangle bounds = editPart.getFigure().getBounds().getCopy();
+			editPart.getFigure().translateToAbsolute(bounds);
+			location = bounds.getTopLeft();
+		}
+
+		ChangeBoundsRequest request = new ChangeBoundsRequest(RequestConstants.REQ_MOVE_CHILDREN);
+		request.setEditParts(editPart);
+		request.setMoveDelta(new Point(0, delta));
+		request.setLocation(location.getTranslated(0, delta));
+
+		Command command = interactionCompartment.getCommand(request);
+		if (command != null && command.canExecute()) {
+			((IDiagramEditDomain) viewer.getEditDomain()).getDiagramCommandStack().execute(command);
+		}
+	}
+}
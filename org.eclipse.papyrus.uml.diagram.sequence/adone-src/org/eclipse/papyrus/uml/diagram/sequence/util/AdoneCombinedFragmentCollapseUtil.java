@@ -0,0 +1,293 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.gmf.runtime.notation.Diagram;
+import org.eclipse.gmf.runtime.notation.Edge;
+import org.eclipse.gmf.runtime.notation.View;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.papyrus.infra.gmfdiag.common.model.NotationUtils;
+import org.eclipse.papyrus.uml.diagram.sequence.messages.Messages;
+import org.eclipse.papyrus.uml.diagram.sequence.referencialgrilling.GrillingEditpart;
+import org.eclipse.uml2.uml.CombinedFragment;
+import org.eclipse.uml2.uml.InteractionFragment;
+import org.eclipse.uml2.uml.InteractionOperand;
+import org.eclipse.uml2.uml.Message;
+import org.eclipse.uml2.uml.MessageEnd;
+import org.eclipse.uml2.uml.MessageOccurrenceSpecification;
+
+/**
+ * Utility methods for the collapsed Combined Fragments.
+ * A collapsed Combined Fragment is displayed as a compact box showing a summary of its content. Its content gets no edit part until it is expanded:
+ * the compartment of the operands has no children, and the messages, execution specifications and nested fragments it encloses are filtered
+ * out of the model children and connections of the lifelines, of the execution specifications and of the interaction compartment.
+ * The state is stored in the named styles of the view of the Combined Fragment, so it is kept with the diagram.
+ * The collapsed Combined Fragments of a diagram are cached in an adapter of the diagram, which is reset when a Combined Fragment is collapsed or expanded.
+ * As the hidden content is left in place, the reconciliation of the grid must not reorder it (see {@link #collectCollapsedContents(View, Set)}).
+ */
+public class AdoneCombinedFragmentCollapseUtil {
+
+	/** Name of the boolean style set on the view of a collapsed Combined Fragment **/
+	public static final String COLLAPSED_STYLE = "adoneCollapsed"; //$NON-NLS-1$
+
+	/** Name of the int style keeping the height of a collapsed Combined Fragment before it was collapsed **/
+	public static final String EXPANDED_HEIGHT_STYLE = "adoneExpandedHeight"; //$NON-NLS-1$
+
+	private AdoneCombinedFragmentCollapseUtil() {
+	}
+
+	/**
+	 * @param cfView
+	 *            the view of a Combined Fragment
+	 * @return true if the Combined Fragment is collapsed
+	 */
+	public static boolean isCollapsed(View cfView) {
+		return cfView != null && NotationUtils.getBooleanValue(cfView, COLLAPSED_STYLE, false);
+	}
+
+	/**
+	 * @param cfView
+	 *            the view of a collapsed Combined Fragment
+	 * @return the height of the Combined Fragment before it was collapsed, -1 if unknown
+	 */
+	public static int getExpandedHeight(View cfView) {
+		return NotationUtils.getIntValue(cfView, EXPANDED_HEIGHT_STYLE, -1);
+	}
+
+	/**
+	 * Checks if a view of the diagram is hidden by a collapsed Combined Fragment:
+	 * - a message is hidden when one of its ends is enclosed in an operand of a Combined Fragment collapsed in the same diagram,
+	 * - a fragment (execution specification, nested Combined Fragment...) is hidden when it is enclosed in such an operand,
+	 * - another edge (duration link, comment link...) is hidden when its source or its target is hidden.
+	 *
+	 * @param view
+	 *            a view of the diagram
+	 * @return true if the view must not be turned into an edit part
+	 */
+	public static boolean isHidden(View view) {
+		Diagram diagram = view.getDiagram();
+		Map<EObject, View> collapsed = getCollapsedCombinedFragments(diagram);
+		return !collapsed.isEmpty() && isHidden(view, collapsed);
+	}
+
+	private static boolean isHidden(View view, Map<EObject, View> collapsed) {
+		EObject element = view.getElement();
+		if (element instanceof Message) {
+			Message message = (Message) element;
+			return isHiddenEnd(message.getSendEvent(), collapsed) || isHiddenEnd(message.getReceiveEvent(), collapsed);
+		}
+		if (element instanceof InteractionFragment) {
+			return isInCollapsedCombinedFragment((InteractionFragment) element, collapsed);
+		}
+		if (view instanceof Edge) {
+			Edge edge = (Edge) view;
+			return (edge.getSource() != null && isHidden(edge.getSource(), collapsed)) || (edge.getTarget() != null && isHidden(edge.getTarget(), collapsed));
+		}
+		return false;
+	}
+
+	/**
+	 * @param views
+	 *            the model children or connections of an edit part
+	 * @return the views that are not hidden by a collapsed Combined Fragment (the given list itself when none is hidden)
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static List filterHidden(List views) {
+		if (views.isEmpty() || !(views.get(0) instanceof View)) {
+			return views;
+		}
+		Map<EObject, View> collapsed = getCollapsedCombinedFragments(((View) views.get(0)).getDiagram());
+		if (collapsed.isEmpty()) {
+			return views;
+		}
+		List result = null;
+		for (int index = 0; index < views.size(); index++) {
+			Object view = views.get(index);
+			boolean hidden = view instanceof View && isHidden((View) view, collapsed);
+			if (hidden && result == null) {
+				result = new ArrayList(views.subList(0, index));
+			} else if (!hidden && result != null) {
+				result.add(view);
+			}
+		}
+		return result == null ? views : result;
+	}
+
+	/**
+	 * Resets the cache of the collapsed Combined Fragments of a diagram, after a Combined Fragment was collapsed or expanded.
+	 *
+	 * @param view
+	 *            a view of the diagram
+	 */
+	public static void resetCollapsedCache(View view) {
+		Diagram diagram = view.getDiagram();
+		if (diagram != null) {
+			CollapsedCache cache = (CollapsedCache) EcoreUtil.getExistingAdapter(diagram, CollapsedCache.class);
+			if (cache != null) {
+				cache.collapsed = null;
+			}
+		}
+	}
+
+	/**
+	 * @param diagram
+	 *            a diagram
+	 * @return the collapsed Combined Fragments of the diagram, with their views
+	 */
+	private static Map<EObject, View> getCollapsedCombinedFragments(Diagram diagram) {
+		if (diagram == null) {
+			return new HashMap<>();
+		}
+		CollapsedCache cache = (CollapsedCache) EcoreUtil.getExistingAdapter(diagram, CollapsedCache.class);
+		if (cache == null) {
+			cache = new CollapsedCache();
+			diagram.eAdapters().add(cache);
+		}
+		if (cache.collapsed == null) {
+			cache.collapsed = new HashMap<>();
+			collectCollapsedViews(diagram, cache.collapsed);
+		}
+		return cache.collapsed;
+	}
+
+	private static void collectCollapsedViews(View view, Map<EObject, View> collapsed) {
+		if (view.getElement() instanceof CombinedFragment && isCollapsed(view)) {
+			collapsed.put(view.getElement(), view);
+		}
+		for (Object child : view.getChildren()) {
+			// the rows and columns of the grid are not to be visited
+			if (child instanceof View && !GrillingEditpart.VISUAL_ID.equals(((View) child).getType())) {
+				collectCollapsedViews((View) child, collapsed);
+			}
+		}
+	}
+
+	/**
+	 * Collects the content of the Combined Fragments collapsed in a view and its descendants: their operands and all the fragments they enclose.
+	 * This content is hidden and left in place when the Combined Fragment is collapsed, so its position does not reflect its order anymore.
+	 *
+	 * @param view
+	 *            the diagram or one of its views
+	 * @param contents
+	 *            the set to fill
+	 */
+	public static void collectCollapsedContents(View view, Set<InteractionFragment> contents) {
+		if (view.getElement() instanceof CombinedFragment && isCollapsed(view)) {
+			for (InteractionOperand operand : ((CombinedFragment) view.getElement()).getOperands()) {
+				contents.add(operand);
+				for (Iterator<EObject> iterator = operand.eAllContents(); iterator.hasNext();) {
+					EObject content = iterator.next();
+					if (content instanceof InteractionFragment) {
+						contents.add((InteractionFragment) content);
+					}
+				}
+			}
+			return;
+		}
+		for (Object child : view.getChildren()) {
+			// the rows and columns of the grid are not to be visited
+			if (child instanceof View && !GrillingEditpart.VISUAL_ID.equals(((View) child).getType())) {
+				collectCollapsedContents((View) child, contents);
+			}
+		}
+	}
+
+	private static boolean isHiddenEnd(MessageEnd end, Map<EObject, View> collapsed) {
+		return end instanceof InteractionFragment && isInCollapsedCombinedFragment((InteractionFragment) end, collapsed);
+	}
+
+	private static boolean isInCollapsedCombinedFragment(InteractionFragment fragment, Map<EObject, View> collapsed) {
+		InteractionOperand operand = fragment.getEnclosingOperand();
+		while (operand != null) {
+			if (!(operand.eContainer() instanceof CombinedFragment)) {
+				return false;
+			}
+			CombinedFragment cf = (CombinedFragment) operand.eContainer();
+			View cfView = collapsed.get(cf);
+			// the cached view may have been deleted or expanded since
+			if (cfView != null && cfView.eContainer() != null && isCollapsed(cfView)) {
+				return true;
+			}
+			operand = cf.getEnclosingOperand();
+		}
+		return false;
+	}
+
+	/**
+	 * Adapter of a diagram caching its collapsed Combined Fragments.
+	 */
+	private static class CollapsedCache extends AdapterImpl {
+
+		private Map<EObject, View> collapsed;
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == CollapsedCache.class;
+		}
+	}
+
+	/**
+	 * Builds the summary displayed in the header of a collapsed Combined Fragment: the operator, the guard of the first operand and the number of messages it encloses.
+	 *
+	 * @param cf
+	 *            the Combined Fragment
+	 * @param operatorLabel
+	 *            the label of the operator displayed in the header
+	 * @return the summary
+	 */
+	public static String getSummary(CombinedFragment cf, String operatorLabel) {
+		StringBuilder summary = new StringBuilder(operatorLabel);
+		if (!cf.getOperands().isEmpty() && cf.getOperands().get(0).getGuard() != null && cf.getOperands().get(0).getGuard().getSpecification() != null) {
+			String guard = cf.getOperands().get(0).getGuard().getSpecification().stringValue();
+			if (guard != null && !guard.isEmpty()) {
+				summary.append(" [").append(guard).append("]"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		int count = countMessages(cf);
+		return count == 1 ? NLS.bind(Messages.CombinedFragmentCollapse_SummaryOneMessage, summary) : NLS.bind(Messages.CombinedFragmentCollapse_SummaryMessages, summary, count);
+	}
+
+	/**
+	 * @param cf
+	 *            a Combined Fragment
+	 * @return the number of messages sent from its operands, nested Combined Fragments included
+	 */
+	public static int countMessages(CombinedFragment cf) {
+		int count = 0;
+		for (InteractionOperand operand : cf.getOperands()) {
+			for (InteractionFragment fragment : operand.getFragments()) {
+				if (fragment instanceof MessageOccurrenceSpecification) {
+					Message message = ((MessageOccurrenceSpecification) fragment).getMessage();
+					if (message != null && message.getSendEvent() == fragment) {
+						count++;
+					}
+				} else if (fragment instanceof CombinedFragment) {
+					count += countMessages((CombinedFragment) fragment);
+				}
+			}
+		}
+		return count;
+	}
+}
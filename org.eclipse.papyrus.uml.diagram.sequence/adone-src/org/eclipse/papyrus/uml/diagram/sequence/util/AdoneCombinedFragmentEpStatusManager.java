@@ -15,31 +15,35 @@
 
 package org.eclipse.papyrus.uml.diagram.sequence.util;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
 
+import org.eclipse.gef.EditPart;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.CombinedFragmentEditPart;
 
 /**
  * Manages the status of CombinedFragmentEditParts within a diagram, tracking whether each fragment is in move or resize mode.
- * This singleton class provides a centralized way to manage and query the operational state of CombinedFragmentEditParts,
- * enabling other components of the system to adjust their behavior based on the current mode of a specific fragment.
+ * Each diagram viewer has its own manager, held by its {@link AdoneDiagramStateService}, which provides a centralized way to manage and query
+ * the operational state of CombinedFragmentEditParts, enabling other components of the system to adjust their behavior based on the current mode of a specific fragment.
+ * The edit parts are weakly referenced, so the registry does not retain the edit parts of a closed diagram.
  *
  * Usage includes registering fragments into move or resize mode and checking the current mode of a fragment. This approach
  * ensures that actions on CombinedFragmentEditParts, like moving or resizing, can be handled consistently across the application.
  */
 public class AdoneCombinedFragmentEpStatusManager {
 
-	private static AdoneCombinedFragmentEpStatusManager manager = null;
+	private Map<CombinedFragmentEditPart, String> registry = new WeakHashMap<>();
 
-	private Map<CombinedFragmentEditPart, String> registry = new HashMap<>();
-
-	public static AdoneCombinedFragmentEpStatusManager getInstance() {
-		if (manager == null) {
-			manager = new AdoneCombinedFragmentEpStatusManager();
-		}
+	AdoneCombinedFragmentEpStatusManager() {
+	}
 
-		return manager;
+	/**
+	 * @param editPart
+	 *            an edit part of the diagram
+	 * @return the manager of the viewer of the edit part
+	 */
+	public static AdoneCombinedFragmentEpStatusManager getInstance(EditPart editPart) {
+		return AdoneDiagramStateService.getService(editPart).getCombinedFragmentEpStatusManager();
 	}
 
 	public void initialize() {
@@ -0,0 +1,114 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+import org.eclipse.gmf.runtime.common.core.command.CompositeCommand;
+import org.eclipse.gmf.runtime.notation.Diagram;
+import org.eclipse.gmf.runtime.notation.View;
+import org.eclipse.papyrus.infra.emf.gmf.command.GMFtoEMFCommandWrapper;
+
+/**
+ * Single-pass pipeline of the fix-ups of a diagram. Each fix-up registers a visitor: the views of the diagram are traversed once,
+ * each view being given to all the visitors, then the visitors contribute their fixes to a single command.
+ * The pipeline is not gated: its fix-ups must be idempotent, as they are run on each opening of the diagram.
+ * The one-time migrations are done by the diagram reconcilers, which are gated by the version of the diagram.
+ */
+public class AdoneDiagramOpenPipeline {
+
+	/**
+	 * A fix-up of the pipeline.
+	 */
+	public interface IViewVisitor {
+
+		/**
+		 * Called once for each view of the diagram, in the order of the contents of the diagram.
+		 *
+		 * @param view
+		 *            a view of the diagram
+		 */
+		void visit(View view);
+
+		/**
+		 * Called once all the views were visited.
+		 *
+		 * @param fixes
+		 *            the command to which the fixes of the visitor are added
+		 */
+		default void contributeFixes(CompositeCommand fixes) {
+		}
+	}
+
+	private final List<IViewVisitor> visitors = new ArrayList<>();
+
+	/**
+	 * @param visitor
+	 *            a fix-up
+	 * @return this pipeline
+	 */
+	public AdoneDiagramOpenPipeline addVisitor(IViewVisitor visitor) {
+		visitors.add(visitor);
+		return this;
+	}
+
+	/**
+	 * Gives each view of the diagram to the visitors, in a single traversal.
+	 *
+	 * @param diagram
+	 *            the diagram
+	 */
+	public void traverse(Diagram diagram) {
+		if (visitors.isEmpty()) {
+			return;
+		}
+		TreeIterator<EObject> contents = diagram.eAllContents();
+		while (contents.hasNext()) {
+			EObject next = contents.next();
+			if (next instanceof View) {
+				for (IViewVisitor visitor : visitors) {
+					visitor.visit((View) next);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs the pipeline on a diagram: the diagram is traversed once and the fixes are executed as a single command.
+	 * The fix-ups are idempotent, so the pipeline is run on each opening and a diagram without anything to fix is left untouched.
+	 *
+	 * @param diagram
+	 *            the diagram to fix
+	 */
+	public void run(Diagram diagram) {
+		TransactionalEditingDomain domain = TransactionUtil.getEditingDomain(diagram);
+		if (domain == null) {
+			return;
+		}
+		traverse(diagram);
+		CompositeCommand fixes = new CompositeCommand("Fix Diagram on Opening"); //$NON-NLS-1$
+		for (IViewVisitor visitor : visitors) {
+			visitor.contributeFixes(fixes);
+		}
+		if (!fixes.isEmpty()) {
+			domain.getCommandStack().execute(new GMFtoEMFCommandWrapper(fixes));
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartViewer;
+
+/**
+ * Interaction state of a diagram viewer: the element order change mode and the status of the Combined Fragments being moved or resized.
+ * The service is stored in a property of the viewer, so each open editor has its own state and no global registry keeps the edit parts or the figures
+ * of a closed editor. The state is cleared when the control of the viewer is disposed.
+ */
+public class AdoneDiagramStateService {
+
+	/** Name of the viewer property holding the service **/
+	private static final String PROPERTY = AdoneDiagramStateService.class.getName();
+
+	private final AdoneElementOrderChangeManager elementOrderChangeManager = new AdoneElementOrderChangeManager();
+
+	private final AdoneCombinedFragmentEpStatusManager combinedFragmentEpStatusManager = new AdoneCombinedFragmentEpStatusManager();
+
+	private AdoneDiagramStateService() {
+	}
+
+	/**
+	 * @param editPart
+	 *            an edit part of the diagram
+	 * @return the state service of the viewer of the edit part, or a detached service if the edit part is not in a viewer
+	 */
+	public static AdoneDiagramStateService getService(EditPart editPart) {
+		return getService(editPart == null ? null : editPart.getViewer());
+	}
+
+	/**
+	 * @param viewer
+	 *            the viewer of the diagram
+	 * @return the state service of the viewer, created on first use, or a detached service if the viewer is null
+	 */
+	public static AdoneDiagramStateService getService(EditPartViewer viewer) {
+		if (viewer == null) {
+			return new AdoneDiagramStateService();
+		}
+		Object service = viewer.getProperty(PROPERTY);
+		if (service instanceof AdoneDiagramStateService) {
+			return (AdoneDiagramStateService) service;
+		}
+		AdoneDiagramStateService newService = new AdoneDiagramStateService();
+		viewer.setProperty(PROPERTY, newService);
+		if (viewer.getControl() != null && !viewer.getControl().isDisposed()) {
+			viewer.getControl().addDisposeListener(event -> newService.dispose(viewer));
+		}
+		return newService;
+	}
+
+	/**
+	 * @return the element order change state of the viewer
+	 */
+	public AdoneElementOrderChangeManager getElementOrderChangeManager() {
+		return elementOrderChangeManager;
+	}
+
+	/**
+	 * @return the status of the Combined Fragments of the viewer
+	 */
+	public AdoneCombinedFragmentEpStatusManager getCombinedFragmentEpStatusManager() {
+		return combinedFragmentEpStatusManager;
+	}
+
+	private void dispose(EditPartViewer viewer) {
+		elementOrderChangeManager.clear();
+		combinedFragmentEpStatusManager.initialize();
+		if (viewer.getProperty(PROPERTY) == this) {
+			viewer.setProperty(PROPERTY, null);
+		}
+	}
+}
@@ -19,6 +19,8 @@ import java.util.List;
 
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.IFigure;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartViewer;
 
 /**
  * Manages the state of elements' order change in sequence diagrams, enabling modifications to the positioning of lifelines, messages,
@@ -26,24 +28,38 @@ import org.eclipse.draw2d.IFigure;
  * change mode, where selected elements can be visually distinguished and their order adjusted as required.
  * This class plays a crucial role in enhancing the user experience by providing intuitive and efficient tools for reordering elements
  * within sequence diagrams, contributing to the precise and logical arrangement of diagram components.
+ * Each diagram viewer has its own manager, held by its {@link AdoneDiagramStateService}, so the editors do not share their mode
+ * and the selected figures of a closed editor are not retained.
  */
 public class AdoneElementOrderChangeManager {
 
-	private static AdoneElementOrderChangeManager manager = null;
 	protected boolean isElementOrderChangeMode;
 	protected List<IFigure> selectedFigureList = new ArrayList<>();
 
+	AdoneElementOrderChangeManager() {
+	}
+
 	/**
-	 * Retrieves the singleton instance of the ElementOrderChangeManager. If no instance exists, it initializes a new one.
+	 * Retrieves the ElementOrderChangeManager of the viewer of the given edit part.
 	 * This ensures that element order management across the sequence diagram is centralized.
 	 *
-	 * @return The single instance of AdoneElementOrderChangeManager.
+	 * @param editPart
+	 *            An edit part of the diagram.
+	 * @return The AdoneElementOrderChangeManager of the diagram viewer.
 	 */
-	public static AdoneElementOrderChangeManager getInstance() {
-		if (manager == null) {
-			manager = new AdoneElementOrderChangeManager();
-		}
-		return manager;
+	public static AdoneElementOrderChangeManager getInstance(EditPart editPart) {
+		return AdoneDiagramStateService.getService(editPart).getElementOrderChangeManager();
+	}
+
+	/**
+	 * Retrieves the ElementOrderChangeManager of the given viewer.
+	 *
+	 * @param viewer
+	 *            The viewer of the diagram.
+	 * @return The AdoneElementOrderChangeManager of the diagram viewer.
+	 */
+	public static AdoneElementOrderChangeManager getInstance(EditPartViewer viewer) {
+		return AdoneDiagramStateService.getService(viewer).getElementOrderChangeManager();
 	}
 
 	/**
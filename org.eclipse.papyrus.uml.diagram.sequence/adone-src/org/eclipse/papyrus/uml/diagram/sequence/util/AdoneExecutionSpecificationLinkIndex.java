@@ -0,0 +1,330 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.transaction.Transaction;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.impl.InternalTransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceNotificationDispatcher.IBatchNotificationListener;
+import org.eclipse.uml2.uml.BehaviorExecutionSpecification;
+import org.eclipse.uml2.uml.CombinedFragment;
+import org.eclipse.uml2.uml.ExecutionOccurrenceSpecification;
+import org.eclipse.uml2.uml.Interaction;
+import org.eclipse.uml2.uml.InteractionFragment;
+import org.eclipse.uml2.uml.InteractionOperand;
+import org.eclipse.uml2.uml.Lifeline;
+import org.eclipse.uml2.uml.Message;
+import org.eclipse.uml2.uml.MessageOccurrenceSpecification;
+import org.eclipse.uml2.uml.OccurrenceSpecification;
+import org.eclipse.uml2.uml.UMLPackage;
+
+/**
+ * Maintains, for each interaction, the links between the messages and the behavior execution specifications:
+ * the BES started by the receive event of a message, the message that triggers a BES, and whether this message is recursive.
+ * It also keeps the ordered list of all the fragments of the interaction (as returned by {@link AdoneSequenceUtil#getAllInteractionFragments(Interaction)}).
+ * The links of an interaction are computed in one pass over its fragments when they are first requested, and are discarded when
+ * a sendEvent, receiveEvent, start, finish, message, covered, fragment or operand of the interaction changes, so the layout
+ * and the move policies do not scan the whole interaction for each execution specification.
+ * The changes are only notified when their transaction is committed, so the links are not cached while a read-write
+ * transaction is active on the editing domain: the commands that read them may have modified the interaction.
+ * There is one index per editing domain, it is obtained by {@link #getInstance(EObject)}.
+ */
+public class AdoneExecutionSpecificationLinkIndex implements IBatchNotificationListener {
+
+	private static final Map<TransactionalEditingDomain, AdoneExecutionSpecificationLinkIndex> instances = new WeakHashMap<>();
+
+	/** the index used for the elements that are not in an editing domain, it never caches the links **/
+	private static final AdoneExecutionSpecificationLinkIndex UNCACHED = new AdoneExecutionSpecificationLinkIndex(null);
+
+	private final Map<Interaction, Links> links = new HashMap<>();
+
+	/** the editing domain whose committed changes invalidate the links, weakly held as the registry of the indexes, null if the links are never cached **/
+	private final WeakReference<TransactionalEditingDomain> editingDomain;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param editingDomain
+	 *            the editing domain whose committed changes invalidate the computed links, null to never keep them
+	 */
+	protected AdoneExecutionSpecificationLinkIndex(TransactionalEditingDomain editingDomain) {
+		this.editingDomain = null != editingDomain ? new WeakReference<>(editingDomain) : null;
+	}
+
+	/**
+	 * Gets the index of the editing domain of an element, it is created on the first call.
+	 *
+	 * @param element
+	 *            a model element
+	 * @return the index of its editing domain
+	 */
+	public static synchronized AdoneExecutionSpecificationLinkIndex getInstance(EObject element) {
+		TransactionalEditingDomain domain = null != element ? TransactionUtil.getEditingDomain(element) : null;
+		if (null == domain) {
+			return UNCACHED;
+		}
+		AdoneExecutionSpecificationLinkIndex index = instances.get(domain);
+		if (null == index) {
+			index = new AdoneExecutionSpecificationLinkIndex(domain);
+			AdoneSequenceNotificationDispatcher dispatcher = AdoneSequenceNotificationDispatcher.getInstance(domain);
+			UMLPackage uml = UMLPackage.eINSTANCE;
+			dispatcher.addListener(uml.getMessage(), uml.getMessage_SendEvent(), index);
+			dispatcher.addListener(uml.getMessage(), uml.getMessage_ReceiveEvent(), index);
+			dispatcher.addListener(uml.getMessageEnd(), uml.getMessageEnd_Message(), index);
+			dispatcher.addListener(uml.getExecutionSpecification(), uml.getExecutionSpecification_Start(), index);
+			dispatcher.addListener(uml.getExecutionSpecification(), uml.getExecutionSpecification_Finish(), index);
+			dispatcher.addListener(uml.getExecutionOccurrenceSpecification(), uml.getNamedElement_Name(), index);
+			dispatcher.addListener(uml.getInteractionFragment(), uml.getInteractionFragment_Covered(), index);
+			dispatcher.addListener(uml.getInteraction(), uml.getInteraction_Fragment(), index);
+			dispatcher.addListener(uml.getInteractionOperand(), uml.getInteractionOperand_Fragment(), index);
+			dispatcher.addListener(uml.getCombinedFragment(), uml.getCombinedFragment_Operand(), index);
+			instances.put(domain, index);
+		}
+		return index;
+	}
+
+	/**
+	 * @param interaction
+	 *            an interaction
+	 * @return all the fragments of the interaction: its own fragments, then the fragments nested in the operands of its combined fragments
+	 */
+	public List<InteractionFragment> getAllFragments(Interaction interaction) {
+		return getLinks(interaction).fragments;
+	}
+
+	/**
+	 * @param fragment
+	 *            a fragment of an interaction
+	 * @return the index of the fragment in {@link #getAllFragments(Interaction)}, -1 if it is not in an interaction
+	 */
+	public int indexOf(InteractionFragment fragment) {
+		Interaction interaction = findInteraction(fragment);
+		if (null == interaction) {
+			return -1;
+		}
+		Integer index = getLinks(interaction).fragmentIndexes.get(fragment);
+		return null != index ? index : -1;
+	}
+
+	/**
+	 * @param msg
+	 *            a message
+	 * @return the behavior execution specification started by the receive event of the message, null if there is none
+	 */
+	public BehaviorExecutionSpecification getStartedExecution(Message msg) {
+		if (null == msg || !(msg.getReceiveEvent() instanceof MessageOccurrenceSpecification)) {
+			return null;
+		}
+		MessageOccurrenceSpecification receiveEvent = (MessageOccurrenceSpecification) msg.getReceiveEvent();
+		Lifeline covered = receiveEvent.getCovered();
+		Interaction interaction = null != covered ? covered.getInteraction() : null;
+		if (null == interaction) {
+			return null;
+		}
+		return getLinks(interaction).executionsByStart.get(receiveEvent);
+	}
+
+	/**
+	 * @param bes
+	 *            a behavior execution specification
+	 * @return the message occurrence specification that starts the execution. For a recursive execution started by an execution
+	 *         occurrence specification, it is the receive event that precedes the first started execution of the interaction.
+	 */
+	public MessageOccurrenceSpecification getStartMessageOccurrence(BehaviorExecutionSpecification bes) {
+		if (null == bes) {
+			return null;
+		}
+		if (bes.getStart() instanceof ExecutionOccurrenceSpecification) {
+			return getRecursiveStartOccurrence(bes.getEnclosingInteraction());
+		}
+		return bes.getStart() instanceof MessageOccurrenceSpecification ? (MessageOccurrenceSpecification) bes.getStart() : null;
+	}
+
+	/**
+	 * @param interaction
+	 *            an interaction
+	 * @return the receive event that precedes the first execution of the interaction started by an execution occurrence
+	 *         (whose name does not end with "Finish"), it starts the recursive executions
+	 */
+	public MessageOccurrenceSpecification getRecursiveStartOccurrence(Interaction interaction) {
+		return null != interaction ? getLinks(interaction).recursiveStartOccurrence : null;
+	}
+
+	/**
+	 * @param bes
+	 *            a behavior execution specification
+	 * @return the message that triggers the execution, null if there is none
+	 */
+	public Message getTriggeringMessage(BehaviorExecutionSpecification bes) {
+		MessageOccurrenceSpecification mos = getStartMessageOccurrence(bes);
+		return null != mos ? mos.getMessage() : null;
+	}
+
+	/**
+	 * @param bes
+	 *            a behavior execution specification
+	 * @return true if the message that triggers the execution is sent and received by the same lifeline
+	 */
+	public boolean isRecursiveExecution(BehaviorExecutionSpecification bes) {
+		Interaction interaction = null != bes ? bes.getEnclosingInteraction() : null;
+		if (null == interaction) {
+			return AdoneInteractionHelper.isRecursiveMessage(getTriggeringMessage(bes));
+		}
+		return getLinks(interaction).recursiveFlags.computeIfAbsent(bes, key -> AdoneInteractionHelper.isRecursiveMessage(getTriggeringMessage(key)));
+	}
+
+	/**
+	 * @see org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceNotificationDispatcher.IBatchNotificationListener#notifyChanged(java.util.List)
+	 *
+	 * @param notifications
+	 */
+	@Override
+	public synchronized void notifyChanged(List<Notification> notifications) {
+		for (Notification notification : notifications) {
+			Interaction interaction = findInteraction((EObject) notification.getNotifier());
+			if (null == interaction) {
+				// the element has been detached, we do not know which interaction it belonged to
+				links.clear();
+				return;
+			}
+			links.remove(interaction);
+		}
+	}
+
+	/**
+	 * @param interaction
+	 *            an interaction
+	 * @return the links of the interaction, computed if needed
+	 */
+	protected synchronized Links getLinks(Interaction interaction) {
+		if (!isCacheUsable()) {
+			return new Links(interaction);
+		}
+		Links interactionLinks = links.get(interaction);
+		if (null == interactionLinks) {
+			links.keySet().removeIf(key -> null == key.eResource());
+			interactionLinks = new Links(interaction);
+			links.put(interaction, interactionLinks);
+		}
+		return interactionLinks;
+	}
+
+	/**
+	 * @return true if the links can be read from the cache: the changes of an active read-write transaction are not yet notified to the index
+	 */
+	protected boolean isCacheUsable() {
+		TransactionalEditingDomain domain = null != editingDomain ? editingDomain.get() : null;
+		if (null == domain) {
+			return false;
+		}
+		if (domain instanceof InternalTransactionalEditingDomain) {
+			Transaction transaction = ((InternalTransactionalEditingDomain) domain).getActiveTransaction();
+			return null == transaction || transaction.isReadOnly();
+		}
+		return true;
+	}
+
+	private static Interaction findInteraction(EObject element) {
+		if (element instanceof Lifeline) {
+			return ((Lifeline) element).getInteraction();
+		}
+		EObject current = element;
+		while (null != current && !(current instanceof Interaction)) {
+			current = current.eContainer();
+		}
+		return (Interaction) current;
+	}
+
+	/**
+	 * The links computed for an interaction.
+	 */
+	protected static class Links {
+
+		private final List<InteractionFragment> fragments;
+
+		private final Map<InteractionFragment, Integer> fragmentIndexes = new HashMap<>();
+
+		/** the first BES (in the order of the fragments) started by each occurrence specification **/
+		private final Map<OccurrenceSpecification, BehaviorExecutionSpecification> executionsByStart = new HashMap<>();
+
+		private final Map<BehaviorExecutionSpecification, Boolean> recursiveFlags = new HashMap<>();
+
+		private MessageOccurrenceSpecification recursiveStartOccurrence;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param interaction
+		 *            the interaction
+		 */
+		Links(Interaction interaction) {
+			Set<InteractionFragment> allFragments = new LinkedHashSet<>(interaction.getFragments());
+			collectFragments(interaction, allFragments);
+			fragments = Collections.unmodifiableList(new ArrayList<>(allFragments));
+
+			MessageOccurrenceSpecification lastReceivedEvent = null;
+			boolean recursiveStartFound = false;
+			for (InteractionFragment fragment : fragments) {
+				fragmentIndexes.put(fragment, fragmentIndexes.size());
+				if (fragment instanceof MessageOccurrenceSpecification) {
+					MessageOccurrenceSpecification mos = (MessageOccurrenceSpecification) fragment;
+					if (null != mos.getMessage() && mos.equals(mos.getMessage().getReceiveEvent())) {
+						lastReceivedEvent = mos;
+					}
+				}
+				if (fragment instanceof BehaviorExecutionSpecification) {
+					BehaviorExecutionSpecification bes = (BehaviorExecutionSpecification) fragment;
+					if (null != bes.getStart()) {
+						executionsByStart.putIfAbsent(bes.getStart(), bes);
+					}
+					// the recursive executions are started by the receive event preceding the first execution started by an execution occurrence
+					if (!recursiveStartFound && bes.getStart() instanceof ExecutionOccurrenceSpecification) {
+						String name = bes.getStart().getName();
+						if (null == name || !name.endsWith("Finish")) { //$NON-NLS-1$
+							recursiveStartOccurrence = lastReceivedEvent;
+							recursiveStartFound = true;
+						}
+					}
+				}
+			}
+		}
+
+		private static void collectFragments(EObject element, Set<InteractionFragment> fragments) {
+			for (EObject child : element.eContents()) {
+				if (child instanceof InteractionFragment) {
+					fragments.add((InteractionFragment) child);
+					if (child instanceof CombinedFragment) {
+						for (InteractionOperand operand : ((CombinedFragment) child).getOperands()) {
+							collectFragments(operand, fragments);
+						}
+					}
+				}
+			}
+		}
+	}
+}
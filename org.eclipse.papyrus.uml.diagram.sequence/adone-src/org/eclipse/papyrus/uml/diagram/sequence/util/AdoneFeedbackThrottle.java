@@ -0,0 +1,108 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Measures the velocity of the pointer during a drag, so that the edit policies can show a degraded feedback while the pointer moves fast.
+ * The velocity is smoothed over the last pointer events. Once the pointer has settled, i.e. no event was received during the settle delay,
+ * the settle callback is called so that the full feedback is displayed again.
+ */
+public class AdoneFeedbackThrottle {
+
+	/** Speed above which the pointer is considered as moving fast, in pixels per millisecond **/
+	public static final double FAST_SPEED = 1.5;
+
+	/** Delay without pointer event after which the pointer is considered as settled, in milliseconds **/
+	public static final int SETTLE_DELAY = 80;
+
+	/** Weight of the last pointer event in the smoothed speed **/
+	private static final double SMOOTHING = 0.5;
+
+	private final Runnable settleCallback;
+
+	private final Runnable settle = this::settle;
+
+	private Point lastLocation;
+
+	private long lastTime;
+
+	private double speed;
+
+	private boolean fast;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param settleCallback
+	 *            called when the pointer settles after having moved fast
+	 */
+	public AdoneFeedbackThrottle(Runnable settleCallback) {
+		this.settleCallback = settleCallback;
+	}
+
+	/**
+	 * Records a pointer event.
+	 *
+	 * @param location
+	 *            the location of the pointer
+	 * @return true if the pointer is moving fast, i.e. if the feedback should be degraded
+	 */
+	public boolean update(Point location) {
+		long now = System.currentTimeMillis();
+		if (lastLocation != null) {
+			long elapsed = Math.max(1, now - lastTime);
+			double instantSpeed = lastLocation.getDistance(location) / elapsed;
+			speed = SMOOTHING * instantSpeed + (1 - SMOOTHING) * speed;
+		}
+		lastLocation = location.getCopy();
+		lastTime = now;
+		fast = speed > FAST_SPEED;
+		if (fast && Display.getCurrent() != null) {
+			// Rescheduled on every fast event, so the callback runs once the pointer has stopped
+			Display.getCurrent().timerExec(SETTLE_DELAY, settle);
+		}
+		return fast;
+	}
+
+	/**
+	 * @return true if the pointer was moving fast at the last event and has not settled since
+	 */
+	public boolean isFast() {
+		return fast;
+	}
+
+	/**
+	 * Forgets the measured velocity and cancels the pending settle callback. Called when the feedback is erased.
+	 */
+	public void reset() {
+		if (fast && Display.getCurrent() != null) {
+			Display.getCurrent().timerExec(-1, settle);
+		}
+		lastLocation = null;
+		speed = 0;
+		fast = false;
+	}
+
+	private void settle() {
+		speed = 0;
+		if (fast) {
+			fast = false;
+			settleCallback.run();
+		}
+	}
+}
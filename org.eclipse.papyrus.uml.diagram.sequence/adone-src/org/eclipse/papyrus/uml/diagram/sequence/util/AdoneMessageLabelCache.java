@@ -0,0 +1,284 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.papyrus.infra.internationalization.InternationalizationEntry;
+import org.eclipse.papyrus.infra.internationalization.common.utils.InternationalizationPreferencesUtils;
+import org.eclipse.uml2.uml.Constraint;
+import org.eclipse.uml2.uml.InstanceValue;
+import org.eclipse.uml2.uml.Message;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.Operation;
+import org.eclipse.uml2.uml.Parameter;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.Signal;
+import org.eclipse.uml2.uml.TypedElement;
+import org.eclipse.uml2.uml.ValueSpecification;
+
+/**
+ * Cache of the labels of the messages, by message, kind of label and set of display options.
+ * When a label is computed, the elements it depends on are recorded: the message, its signature, the parameters or attributes of the signature,
+ * their types, multiplicities and default values, the redefined operations and the constraints of an operation, and the arguments of the message with their contents.
+ * A change of one of these elements invalidates the labels of the messages depending on it only,
+ * so that refreshing all the messages after a change recomputes the labels of the affected messages.
+ * The labels of the internationalization are not stored in the elements but in the entries of the internationalization resources,
+ * so these resources are listened to as well: a change of the entry of an element invalidates the labels depending on the element.
+ */
+public class AdoneMessageLabelCache {
+
+	private static final AdoneMessageLabelCache INSTANCE = new AdoneMessageLabelCache();
+
+	/** Extension of the resources holding the labels of the internationalization **/
+	private static final String INTERNATIONALIZATION_EXTENSION = "properties"; //$NON-NLS-1$
+
+	private final Map<Message, Map<List<Object>, String>> labels = new WeakHashMap<>();
+
+	/** For each recorded element, the messages whose labels depend on it **/
+	private final Map<Notifier, Set<Message>> dependents = new WeakHashMap<>();
+
+	private final Adapter invalidationAdapter = new AdapterImpl() {
+
+		@Override
+		public void notifyChanged(Notification msg) {
+			if (!msg.isTouch() && msg.getEventType() != Notification.REMOVING_ADAPTER) {
+				invalidate((Notifier) msg.getNotifier());
+			}
+		}
+	};
+
+	/** Listens to the entries of the internationalization resources **/
+	private final Adapter internationalizationAdapter = new EContentAdapter() {
+
+		@Override
+		public void notifyChanged(Notification msg) {
+			super.notifyChanged(msg);
+			if (msg.isTouch() || msg.getEventType() == Notification.REMOVING_ADAPTER) {
+				return;
+			}
+			if (msg.getNotifier() instanceof Resource) {
+				if (msg.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+					// the resource is loaded, unloaded or replaced
+					invalidateAll();
+				}
+				return;
+			}
+			invalidateEntries(msg.getNotifier());
+			invalidateEntries(msg.getOldValue());
+			invalidateEntries(msg.getNewValue());
+		}
+	};
+
+	/** Adds the listener to the internationalization resources of a resource set, including the ones loaded later **/
+	private final Adapter resourceSetAdapter = new AdapterImpl() {
+
+		@Override
+		public void notifyChanged(Notification msg) {
+			if (msg.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES
+					&& (msg.getEventType() == Notification.ADD || msg.getEventType() == Notification.ADD_MANY)) {
+				listenToResources(msg.getNewValue());
+			}
+		}
+	};
+
+	private AdoneMessageLabelCache() {
+	}
+
+	/**
+	 * @return the cache of the labels of the messages
+	 */
+	public static AdoneMessageLabelCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @param message
+	 *            a message
+	 * @param kind
+	 *            the kind of label, distinguishing the labels computed differently for the same display options
+	 * @param displayValue
+	 *            the display options of the label
+	 * @param computation
+	 *            computes the label when it is not in the cache
+	 * @return the label of the message for the display options
+	 */
+	public synchronized String getLabel(Message message, String kind, Collection<String> displayValue, Supplier<String> computation) {
+		// the labels differ whether the internationalization is used
+		List<Object> key = Arrays.asList(kind, new HashSet<>(displayValue), InternationalizationPreferencesUtils.getInternationalizationPreference(message));
+		Map<List<Object>, String> messageLabels = labels.get(message);
+		if (messageLabels != null && messageLabels.containsKey(key)) {
+			return messageLabels.get(key);
+		}
+		String label = computation.get();
+		if (messageLabels == null) {
+			messageLabels = new HashMap<>();
+			labels.put(message, messageLabels);
+			listenToInternationalization(message);
+			for (Notifier dependency : getDependencies(message)) {
+				record(dependency, message);
+			}
+		}
+		messageLabels.put(key, label);
+		return label;
+	}
+
+	private void record(Notifier dependency, Message message) {
+		Set<Message> messages = dependents.get(dependency);
+		if (messages == null) {
+			messages = Collections.newSetFromMap(new WeakHashMap<>());
+			dependents.put(dependency, messages);
+			dependency.eAdapters().add(invalidationAdapter);
+		}
+		messages.add(message);
+	}
+
+	private synchronized void invalidate(Notifier notifier) {
+		Set<Message> messages = dependents.get(notifier);
+		if (messages != null) {
+			for (Message message : messages) {
+				labels.remove(message);
+			}
+			// the dependencies are recorded again with the next labels
+			messages.clear();
+		}
+	}
+
+	private synchronized void invalidateAll() {
+		labels.clear();
+		for (Set<Message> messages : dependents.values()) {
+			messages.clear();
+		}
+	}
+
+	/**
+	 * Invalidates the labels depending on the elements of internationalization entries.
+	 *
+	 * @param value
+	 *            an entry, a collection of entries, or any other value which is ignored
+	 */
+	private void invalidateEntries(Object value) {
+		if (value instanceof InternationalizationEntry) {
+			EObject key = ((InternationalizationEntry) value).getKey();
+			if (key != null) {
+				invalidate(key);
+			}
+		} else if (value instanceof Collection<?>) {
+			for (Object element : (Collection<?>) value) {
+				invalidateEntries(element);
+			}
+		}
+	}
+
+	private void listenToInternationalization(Message message) {
+		Resource resource = message.eResource();
+		ResourceSet resourceSet = resource != null ? resource.getResourceSet() : null;
+		if (resourceSet != null && !resourceSet.eAdapters().contains(resourceSetAdapter)) {
+			resourceSet.eAdapters().add(resourceSetAdapter);
+			listenToResources(resourceSet.getResources());
+		}
+	}
+
+	/**
+	 * @param value
+	 *            a resource or a collection of resources, the ones holding internationalization labels are listened to
+	 */
+	private void listenToResources(Object value) {
+		if (value instanceof Resource) {
+			Resource resource = (Resource) value;
+			if (resource.getURI() != null && INTERNATIONALIZATION_EXTENSION.equals(resource.getURI().fileExtension())
+					&& !resource.eAdapters().contains(internationalizationAdapter)) {
+				resource.eAdapters().add(internationalizationAdapter);
+			}
+		} else if (value instanceof Collection<?>) {
+			for (Object element : new ArrayList<>((Collection<?>) value)) {
+				listenToResources(element);
+			}
+		}
+	}
+
+	private static Set<Notifier> getDependencies(Message message) {
+		Set<Notifier> dependencies = new LinkedHashSet<>();
+		dependencies.add(message);
+		NamedElement signature = message.getSignature();
+		if (signature != null) {
+			dependencies.add(signature);
+		}
+		if (signature instanceof Operation) {
+			Operation operation = (Operation) signature;
+			for (Parameter parameter : operation.getOwnedParameters()) {
+				addTypedElement(dependencies, parameter);
+			}
+			dependencies.addAll(operation.getRedefinedOperations());
+			for (Constraint constraint : operation.getOwnedRules()) {
+				dependencies.add(constraint);
+				if (constraint.getSpecification() != null) {
+					dependencies.add(constraint.getSpecification());
+				}
+			}
+		} else if (signature instanceof Signal) {
+			for (Property property : ((Signal) signature).getOwnedAttributes()) {
+				addTypedElement(dependencies, property);
+			}
+		}
+		for (ValueSpecification argument : message.getArguments()) {
+			addTypedElement(dependencies, argument);
+			addValue(dependencies, argument);
+		}
+		return dependencies;
+	}
+
+	private static void addTypedElement(Set<Notifier> dependencies, TypedElement element) {
+		dependencies.add(element);
+		if (element.getType() != null) {
+			dependencies.add(element.getType());
+		}
+		// the multiplicity and the default value are shown with the parameters, and are edited in place
+		TreeIterator<EObject> contents = element.eAllContents();
+		while (contents.hasNext()) {
+			EObject next = contents.next();
+			dependencies.add(next);
+			if (next instanceof ValueSpecification) {
+				addValue(dependencies, (ValueSpecification) next);
+			}
+		}
+	}
+
+	private static void addValue(Set<Notifier> dependencies, ValueSpecification value) {
+		if (value instanceof InstanceValue && ((InstanceValue) value).getInstance() != null) {
+			dependencies.add(((InstanceValue) value).getInstance());
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.core.commands.operations.IUndoContext;
+import org.eclipse.core.commands.operations.IUndoableOperation;
+import org.eclipse.core.commands.operations.OperationHistoryEvent;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.NotificationImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.NotificationFilter;
+import org.eclipse.emf.transaction.ResourceSetChangeEvent;
+import org.eclipse.emf.transaction.ResourceSetListenerImpl;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.workspace.IWorkspaceCommandStack;
+import org.eclipse.gmf.runtime.diagram.core.listener.NotificationListener;
+import org.eclipse.gmf.runtime.notation.View;
+
+/**
+ * An operation history listener that only redirects the DONE operations which actually modified the given diagram.
+ * The changes committed on the editing domain are recorded as long as they belong to the notation tree of the diagram
+ * or to the semantic tree of the element it represents (the interaction), so that operations executed on other
+ * resources or on other diagrams sharing the same editing domain do not wake up the listener.
+ * The redirected notification is a {@link ScopedChangeNotification} that carries the elements that have been
+ * modified by the operation, in order to let the listener scope its work to the change.
+ */
+public class AdoneScopedOperationListener extends RedirectionOperationListener {
+
+	protected TransactionalEditingDomain editingDomain;
+
+	protected View diagramView;
+
+	protected Set<EObject> changedElements = new LinkedHashSet<>();
+
+	protected ResourceSetListenerImpl changeRecorder;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param notificationListener
+	 *            the listener to notify when an operation modified the diagram
+	 * @param editingDomain
+	 *            the editing domain of the diagram
+	 * @param diagramView
+	 *            the root view of the diagram, its element is used as semantic root
+	 */
+	public AdoneScopedOperationListener(NotificationListener notificationListener, TransactionalEditingDomain editingDomain, View diagramView) {
+		super(notificationListener);
+		this.editingDomain = editingDomain;
+		this.diagramView = diagramView;
+		this.changeRecorder = new ResourceSetListenerImpl(NotificationFilter.NOT_TOUCH) {
+
+			@Override
+			public boolean isPostcommitOnly() {
+				return true;
+			}
+
+			@Override
+			public void resourceSetChanged(ResourceSetChangeEvent event) {
+				recordChanges(event);
+			}
+		};
+		if (null != editingDomain) {
+			editingDomain.addResourceSetListener(changeRecorder);
+		}
+	}
+
+	/**
+	 * Removes the listener from the editing domain. It must be called when the listener is no more used.
+	 */
+	public void dispose() {
+		if (null != editingDomain) {
+			editingDomain.removeResourceSetListener(changeRecorder);
+		}
+		changedElements.clear();
+	}
+
+	/**
+	 * @see org.eclipse.papyrus.uml.diagram.sequence.util.RedirectionOperationListener#historyNotification(org.eclipse.core.commands.operations.OperationHistoryEvent)
+	 *
+	 * @param event
+	 */
+	@Override
+	public void historyNotification(OperationHistoryEvent event) {
+		int eventType = event.getEventType();
+		if (eventType != OperationHistoryEvent.DONE && eventType != OperationHistoryEvent.UNDONE && eventType != OperationHistoryEvent.REDONE) {
+			return;
+		}
+		if (!isInDomainContext(event.getOperation())) {
+			return;
+		}
+		if (eventType != OperationHistoryEvent.DONE) {
+			// undo and redo restore a reconciled state, their changes must not be attributed to the next done operation
+			changedElements.clear();
+			return;
+		}
+		if (changedElements.isEmpty()) {
+			// the operation did not touch the diagram nor its interaction
+			return;
+		}
+		Set<EObject> summary = Collections.unmodifiableSet(new LinkedHashSet<>(changedElements));
+		changedElements.clear();
+		notificationListener.notifyChanged(new ScopedChangeNotification(summary));
+	}
+
+	/**
+	 * @param operation
+	 *            the executed operation
+	 * @return true if the operation has no context or if one of its contexts is the undo context of the editing domain
+	 */
+	protected boolean isInDomainContext(IUndoableOperation operation) {
+		if (null == operation || operation.getContexts().length == 0) {
+			return true;
+		}
+		IUndoContext undoContext = getUndoContext();
+		return null == undoContext || operation.hasContext(undoContext);
+	}
+
+	/**
+	 * @return the default undo context of the editing domain, <code>null</code> if the command stack is not a workspace one
+	 */
+	protected IUndoContext getUndoContext() {
+		if (null != editingDomain && editingDomain.getCommandStack() instanceof IWorkspaceCommandStack) {
+			return ((IWorkspaceCommandStack) editingDomain.getCommandStack()).getDefaultUndoContext();
+		}
+		return null;
+	}
+
+	/**
+	 * Records the notifiers of the committed notifications that belong to the diagram or to its interaction.
+	 *
+	 * @param event
+	 *            the post commit event
+	 */
+	protected void recordChanges(ResourceSetChangeEvent event) {
+		Resource notationResource = diagramView.eResource();
+		EObject semanticRoot = diagramView.getElement();
+		Resource semanticResource = null != semanticRoot ? semanticRoot.eResource() : null;
+		for (Notification notification : event.getNotifications()) {
+			if (!(notification.getNotifier() instanceof EObject)) {
+				continue;
+			}
+			EObject notifier = (EObject) notification.getNotifier();
+			Resource resource = notifier.eResource();
+			if (null == resource || (resource != notationResource && resource != semanticResource)) {
+				continue;
+			}
+			if (changedElements.contains(notifier)) {
+				continue;
+			}
+			if (EcoreUtil.isAncestor(diagramView, notifier) || (null != semanticRoot && EcoreUtil.isAncestor(semanticRoot, notifier))) {
+				changedElements.add(notifier);
+			}
+		}
+	}
+
+	/**
+	 * The notification sent to the listener when a done operation modified the diagram.
+	 * It contains the elements that have been modified by the operation.
+	 */
+	public static class ScopedChangeNotification extends NotificationImpl {
+
+		protected Set<EObject> changedElements;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param changedElements
+		 *            the elements modified by the operation
+		 */
+		public ScopedChangeNotification(Set<EObject> changedElements) {
+			super(Notification.SET, null, null);
+			this.changedElements = changedElements;
+		}
+
+		/**
+		 * @return the elements modified by the operation (notation and semantic ones)
+		 */
+		public Set<EObject> getChangedElements() {
+			return changedElements;
+		}
+	}
+}
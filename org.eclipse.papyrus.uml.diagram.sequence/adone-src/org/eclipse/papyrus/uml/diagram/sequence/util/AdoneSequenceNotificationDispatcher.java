@@ -0,0 +1,273 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.transaction.NotificationFilter;
+import org.eclipse.emf.transaction.ResourceSetChangeEvent;
+import org.eclipse.emf.transaction.ResourceSetListener;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+
+/**
+ * Dispatches the notifications of an editing domain to listeners that subscribed to a pair (EClass, EStructuralFeature),
+ * for example (Lifeline, coveredBy), (Interaction, fragment), (Bounds, y) or (IdentityAnchor, id).
+ * Contrary to the {@link RedirectionContentAdapter}, no adapter is attached to the model elements: a single post-commit
+ * listener is registered on the editing domain, and each listener receives, once per committed transaction, the list of
+ * the notifications matching its subscriptions.
+ * There is one dispatcher per editing domain, it is obtained by {@link #getInstance(TransactionalEditingDomain)}.
+ */
+public class AdoneSequenceNotificationDispatcher implements ResourceSetListener {
+
+	/**
+	 * A listener that receives the pre-filtered notifications of a committed transaction.
+	 */
+	public interface IBatchNotificationListener {
+
+		/**
+		 * @param notifications
+		 *            the notifications of the committed transaction that match the subscriptions of the listener, in their order of emission
+		 */
+		void notifyChanged(List<Notification> notifications);
+	}
+
+	private static final Map<TransactionalEditingDomain, AdoneSequenceNotificationDispatcher> instances = new WeakHashMap<>();
+
+	/** weakly held, so that the registry of the dispatchers does not retain a disposed editing domain **/
+	private final WeakReference<TransactionalEditingDomain> editingDomain;
+
+	/**
+	 * the subscriptions sorted by feature, the feature being the most discriminant key of a notification.
+	 * The map is never modified once published: it is copied on each change, so that the filter and the dispatch read it without lock.
+	 **/
+	private volatile Map<EStructuralFeature, List<Subscription>> subscriptions = Collections.emptyMap();
+
+	private final NotificationFilter filter = new NotificationFilter.Custom() {
+
+		@Override
+		public boolean matches(Notification notification) {
+			return notification.getFeature() instanceof EStructuralFeature && subscriptions.containsKey(notification.getFeature());
+		}
+	};
+
+	/**
+	 * Constructor.
+	 *
+	 * @param editingDomain
+	 *            the editing domain to listen
+	 */
+	protected AdoneSequenceNotificationDispatcher(TransactionalEditingDomain editingDomain) {
+		this.editingDomain = new WeakReference<>(editingDomain);
+	}
+
+	/**
+	 * Gets the dispatcher of the given editing domain, it is created on the first call.
+	 *
+	 * @param editingDomain
+	 *            the editing domain
+	 * @return the dispatcher of the editing domain
+	 */
+	public static synchronized AdoneSequenceNotificationDispatcher getInstance(TransactionalEditingDomain editingDomain) {
+		AdoneSequenceNotificationDispatcher dispatcher = instances.get(editingDomain);
+		if (dispatcher == null) {
+			dispatcher = new AdoneSequenceNotificationDispatcher(editingDomain);
+			instances.put(editingDomain, dispatcher);
+		}
+		return dispatcher;
+	}
+
+	/**
+	 * Subscribes a listener to the notifications of a feature for the instances of an EClass (and its subclasses).
+	 *
+	 * @param eClass
+	 *            the type of the notifier
+	 * @param feature
+	 *            the changed feature
+	 * @param listener
+	 *            the listener to notify
+	 */
+	public synchronized void addListener(EClass eClass, EStructuralFeature feature, IBatchNotificationListener listener) {
+		boolean wasEmpty = subscriptions.isEmpty();
+		List<Subscription> featureSubscriptions = subscriptions.get(feature);
+		if (featureSubscriptions != null) {
+			for (Subscription subscription : featureSubscriptions) {
+				if (subscription.eClass == eClass && subscription.listener == listener) {
+					return;
+				}
+			}
+		}
+		Map<EStructuralFeature, List<Subscription>> newSubscriptions = new LinkedHashMap<>(subscriptions);
+		List<Subscription> newFeatureSubscriptions = featureSubscriptions != null ? new ArrayList<>(featureSubscriptions) : new ArrayList<>();
+		newFeatureSubscriptions.add(new Subscription(eClass, listener));
+		newSubscriptions.put(feature, Collections.unmodifiableList(newFeatureSubscriptions));
+		subscriptions = Collections.unmodifiableMap(newSubscriptions);
+		TransactionalEditingDomain domain = editingDomain.get();
+		if (wasEmpty && domain != null) {
+			domain.addResourceSetListener(this);
+		}
+	}
+
+	/**
+	 * Removes a subscription.
+	 *
+	 * @param eClass
+	 *            the type of the notifier
+	 * @param feature
+	 *            the changed feature
+	 * @param listener
+	 *            the listener to remove
+	 */
+	public synchronized void removeListener(EClass eClass, EStructuralFeature feature, IBatchNotificationListener listener) {
+		removeSubscriptions(subscription -> subscription.eClass == eClass && subscription.listener == listener, feature);
+	}
+
+	/**
+	 * Removes all the subscriptions of a listener.
+	 *
+	 * @param listener
+	 *            the listener to remove
+	 */
+	public synchronized void removeListener(IBatchNotificationListener listener) {
+		removeSubscriptions(subscription -> subscription.listener == listener, null);
+	}
+
+	/**
+	 * Publishes a copy of the subscriptions without the matching ones.
+	 *
+	 * @param toRemove
+	 *            the subscriptions to remove
+	 * @param feature
+	 *            the feature of the subscriptions to remove, null for all the features
+	 */
+	private void removeSubscriptions(Predicate<Subscription> toRemove, EStructuralFeature feature) {
+		Map<EStructuralFeature, List<Subscription>> newSubscriptions = new LinkedHashMap<>();
+		boolean changed = false;
+		for (Map.Entry<EStructuralFeature, List<Subscription>> entry : subscriptions.entrySet()) {
+			List<Subscription> featureSubscriptions = entry.getValue();
+			if (feature == null || entry.getKey() == feature) {
+				List<Subscription> kept = new ArrayList<>(featureSubscriptions);
+				changed |= kept.removeIf(toRemove);
+				featureSubscriptions = Collections.unmodifiableList(kept);
+			}
+			if (!featureSubscriptions.isEmpty()) {
+				newSubscriptions.put(entry.getKey(), featureSubscriptions);
+			}
+		}
+		if (changed) {
+			subscriptions = Collections.unmodifiableMap(newSubscriptions);
+			unregisterIfUnused();
+		}
+	}
+
+	private void unregisterIfUnused() {
+		TransactionalEditingDomain domain = editingDomain.get();
+		if (subscriptions.isEmpty() && domain != null) {
+			domain.removeResourceSetListener(this);
+		}
+	}
+
+	/**
+	 * @see org.eclipse.emf.transaction.ResourceSetListener#resourceSetChanged(org.eclipse.emf.transaction.ResourceSetChangeEvent)
+	 *
+	 * @param event
+	 */
+	@Override
+	public void resourceSetChanged(ResourceSetChangeEvent event) {
+		Map<EStructuralFeature, List<Subscription>> currentSubscriptions = subscriptions;
+		Map<IBatchNotificationListener, List<Notification>> batches = new LinkedHashMap<>();
+		for (Notification notification : event.getNotifications()) {
+			if (!(notification.getNotifier() instanceof EObject)) {
+				continue;
+			}
+			List<Subscription> featureSubscriptions = currentSubscriptions.get(notification.getFeature());
+			if (featureSubscriptions == null) {
+				continue;
+			}
+			EClass notifierClass = ((EObject) notification.getNotifier()).eClass();
+			for (Subscription subscription : featureSubscriptions) {
+				if (subscription.eClass.isSuperTypeOf(notifierClass)) {
+					List<Notification> batch = batches.computeIfAbsent(subscription.listener, key -> new ArrayList<>());
+					if (batch.isEmpty() || batch.get(batch.size() - 1) != notification) {
+						batch.add(notification);
+					}
+				}
+			}
+		}
+		batches.forEach(IBatchNotificationListener::notifyChanged);
+	}
+
+	/**
+	 * @see org.eclipse.emf.transaction.ResourceSetListener#getFilter()
+	 *
+	 * @return the filter accepting only the subscribed features
+	 */
+	@Override
+	public NotificationFilter getFilter() {
+		return filter;
+	}
+
+	/**
+	 * @see org.eclipse.emf.transaction.ResourceSetListener#transactionAboutToCommit(org.eclipse.emf.transaction.ResourceSetChangeEvent)
+	 *
+	 * @param event
+	 * @return null, the dispatcher never contributes to a transaction
+	 */
+	@Override
+	public Command transactionAboutToCommit(ResourceSetChangeEvent event) {
+		return null;
+	}
+
+	@Override
+	public boolean isAggregatePrecommitListener() {
+		return false;
+	}
+
+	@Override
+	public boolean isPrecommitOnly() {
+		return false;
+	}
+
+	@Override
+	public boolean isPostcommitOnly() {
+		return true;
+	}
+
+	/**
+	 * A subscription of a listener to the instances of an EClass.
+	 */
+	private static class Subscription {
+
+		private final EClass eClass;
+
+		private final IBatchNotificationListener listener;
+
+		Subscription(EClass eClass, IBatchNotificationListener listener) {
+			this.eClass = eClass;
+			this.listener = listener;
+		}
+	}
+}
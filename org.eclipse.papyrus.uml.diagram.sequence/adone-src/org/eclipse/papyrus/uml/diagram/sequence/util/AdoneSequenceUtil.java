@@ -75,7 +75,6 @@ import org.eclipse.papyrus.uml.diagram.sequence.requests.AdoneUpdateLocationByNe
 import org.eclipse.uml2.uml.BehaviorExecutionSpecification;
 import org.eclipse.uml2.uml.CombinedFragment;
 import org.eclipse.uml2.uml.Element;
-import org.eclipse.uml2.uml.ExecutionOccurrenceSpecification;
 import org.eclipse.uml2.uml.ExecutionSpecification;
 import org.eclipse.uml2.uml.Interaction;
 import org.eclipse.uml2.uml.InteractionFragment;
@@ -238,6 +237,24 @@ public class AdoneSequenceUtil {
 		return foundLifelines;
 	}
 
+	/**
+	 * Refreshes the lifelines of the interaction and their execution specifications, so that the edit parts of their children and connections
+	 * are created or removed when the views that are displayed change (for example when the visible part of a virtualized interaction changes).
+	 *
+	 * @param hostEditPart
+	 *            An edit part of the interaction.
+	 */
+	public static void refreshLifelineContents(EditPart hostEditPart) {
+		for (LifelineEditPart lifelineEp : getAllLifelineEditParts(hostEditPart)) {
+			lifelineEp.refresh();
+			for (Object child : lifelineEp.getChildren()) {
+				if (child instanceof BehaviorExecutionSpecificationEditPart) {
+					((EditPart) child).refresh();
+				}
+			}
+		}
+	}
+
 	/**
 	 * @param changeBoundsRequest
 	 * @return
@@ -730,6 +747,44 @@ public class AdoneSequenceUtil {
 	}
 
 
+	/**
+	 * Computes the position below which the elements are moved with a move target EditPart:
+	 * the end of a message, the top of an element, or the bottom of a resized Combined Fragment or Interaction Operand.
+	 *
+	 * @param moveTargetEp
+	 *            The target EditPart being moved or affected by the move.
+	 * @param changeBoundsRequest
+	 *            The request that contains information about the move, including location and delta.
+	 * @return The Y-coordinate in absolute coordinates.
+	 */
+	public static int getBelowPositionY(GraphicalEditPart moveTargetEp, ChangeBoundsRequest changeBoundsRequest) {
+		Rectangle moveTargetBounds;
+		if (moveTargetEp instanceof AbstractMessageEditPart) {
+			Point msgPoint = SequenceUtil.getAbsoluteEdgeExtremity((ConnectionNodeEditPart) moveTargetEp, false);
+
+			moveTargetBounds = new Rectangle();
+			moveTargetBounds.setLocation(msgPoint);
+		} else {
+			moveTargetBounds = moveTargetEp.getFigure().getBounds().getCopy();
+			moveTargetEp.getFigure().getParent().translateToAbsolute(moveTargetBounds);
+		}
+
+		// Adjust the target's Y-coordinate based on move or resize request.
+		int moveTargetY = 0;
+
+		if (moveTargetEp instanceof CombinedFragmentEditPart || moveTargetEp instanceof InteractionOperandEditPart) {
+			if (changeBoundsRequest.getType().equals(RequestConstants.REQ_MOVE_CHILDREN)) {
+				moveTargetY = moveTargetBounds.y;
+			} else if (changeBoundsRequest.getType().equals(RequestConstants.REQ_RESIZE_CHILDREN)) {
+				moveTargetY = moveTargetBounds.y + moveTargetBounds.height;
+			}
+
+		} else {
+			moveTargetY = moveTargetBounds.y;
+		}
+		return moveTargetY;
+	}
+
 	/**
 	 * Retrieves all EditParts below a specified move target EditPart based on a change request.
 	 * This method filters EditParts that are visually located below the move target EditPart,
@@ -746,48 +801,7 @@ public class AdoneSequenceUtil {
 
 		if (moveTargetEp != null && moveTargetEp.getParent() != null) {
 
-			Rectangle moveTargetBounds;
-			;
-			if (moveTargetEp instanceof AbstractMessageEditPart) {
-
-				ConnectionEditPart connectionEditPart = (ConnectionEditPart) moveTargetEp;
-				Connection connectionFigure = connectionEditPart.getConnectionFigure();
-
-				// Get the PointList which contains all points of the Connection
-				PointList points = connectionFigure.getPoints();
-
-				// Retrieve the start and end points
-				Point startPoint = points.getFirstPoint().getCopy();
-				Point endPoint = points.getLastPoint().getCopy();
-
-				// Translate these points to absolute coordinates
-				connectionFigure.getParent().translateToAbsolute(startPoint);
-				connectionFigure.getParent().translateToAbsolute(endPoint);
-
-				Point msgPoint = SequenceUtil.getAbsoluteEdgeExtremity((ConnectionNodeEditPart) connectionEditPart, false);
-
-				moveTargetBounds = new Rectangle();
-				moveTargetBounds.setLocation(msgPoint);
-
-
-			} else {
-				moveTargetBounds = moveTargetEp.getFigure().getBounds().getCopy();
-				moveTargetEp.getFigure().getParent().translateToAbsolute(moveTargetBounds);
-			}
-
-			// Adjust the target's Y-coordinate based on move or resize request.
-			int moveTargetY = 0;
-
-			if (moveTargetEp instanceof CombinedFragmentEditPart || moveTargetEp instanceof InteractionOperandEditPart) {
-				if (changeBoundsRequest.getType().equals(RequestConstants.REQ_MOVE_CHILDREN)) {
-					moveTargetY = moveTargetBounds.y;
-				} else if (changeBoundsRequest.getType().equals(RequestConstants.REQ_RESIZE_CHILDREN)) {
-					moveTargetY = moveTargetBounds.y + moveTargetBounds.height;
-				}
-
-			} else {
-				moveTargetY = moveTargetBounds.y;
-			}
+			int moveTargetY = getBelowPositionY(moveTargetEp, changeBoundsRequest);
 
 			// Access the diagram's edit part registry to iterate over all components.
 			Map registry = moveTargetEp.getViewer().getEditPartRegistry();
@@ -922,6 +936,11 @@ public class AdoneSequenceUtil {
 
 					ConnectionEditPart connectionEditPart = (ConnectionEditPart) srcCon;
 
+					// The messages hidden in a collapsed Combined Fragment are left in place.
+					if (connectionEditPart.getModel() instanceof View && AdoneCombinedFragmentCollapseUtil.isHidden((View) connectionEditPart.getModel())) {
+						continue;
+					}
+
 					Connection connectionFigure = connectionEditPart.getConnectionFigure();
 
 					// Get the PointList which contains all points of the Connection
@@ -958,6 +977,11 @@ public class AdoneSequenceUtil {
 			if (child instanceof BehaviorExecutionSpecificationEditPart || child instanceof CombinedFragmentEditPart) {
 				GraphicalEditPart childEp = (GraphicalEditPart) child;
 
+				// The fragments hidden in a collapsed Combined Fragment are left in place.
+				if (AdoneCombinedFragmentCollapseUtil.isHidden(((IGraphicalEditPart) childEp).getNotationView())) {
+					continue;
+				}
+
 				// Calculate the absolute bounds and determine if the Y-coordinate is below the specified position.
 				Rectangle childBounds = SequenceUtil.getAbsoluteBounds((IGraphicalEditPart) childEp);
 				if (childBounds.y >= positionY) {
@@ -1295,9 +1319,8 @@ public class AdoneSequenceUtil {
 		Collections.sort(sortedFragments, new Comparator<InteractionFragment>() {
 			@Override
 			public int compare(InteractionFragment o1, InteractionFragment o2) {
-				Interaction interaction = findEnclosingInteraction(o1);
-				List<InteractionFragment> allFragments = getAllInteractionFragments(interaction);
-				return Integer.compare(allFragments.indexOf(o1), allFragments.indexOf(o2));
+				AdoneExecutionSpecificationLinkIndex index = AdoneExecutionSpecificationLinkIndex.getInstance(o1);
+				return Integer.compare(index.indexOf(o1), index.indexOf(o2));
 			}
 		});
 
@@ -1444,8 +1467,8 @@ public class AdoneSequenceUtil {
 					return 0;
 				}
 
-				List<InteractionFragment> allFragments = getAllInteractionFragments(interaction);
-				return Integer.compare(allFragments.indexOf(o1), allFragments.indexOf(o2));
+				AdoneExecutionSpecificationLinkIndex index = AdoneExecutionSpecificationLinkIndex.getInstance(interaction);
+				return Integer.compare(index.indexOf(o1), index.indexOf(o2));
 			}
 		});
 
@@ -1514,48 +1537,8 @@ public class AdoneSequenceUtil {
 	 *         directly owned fragments and those nested within other structures.
 	 */
 	public static List<InteractionFragment> getAllInteractionFragments(Interaction interaction) {
-		List<InteractionFragment> fragments = new ArrayList<>();
-		// Initially add all direct fragments of the interaction.
-		fragments.addAll(interaction.getFragments());
-
-		// Recursively collect additional interaction fragments that might be nested within other structures.
-		collectAllInteractionFragments(interaction, fragments);
-		return fragments;
-	}
-
-	/**
-	 * Recursively collects interaction fragments from a given UML model element.
-	 * This method explores the containment hierarchy of the provided UML model element (EObject),
-	 * identifying and collecting all instances of InteractionFragment. It specifically handles
-	 * CombinedFragments by recursively collecting fragments from each of their InteractionOperands.
-	 * This ensures a comprehensive collection of all interaction fragments, including those nested
-	 * within CombinedFragments or other structural elements.
-	 *
-	 * @param element
-	 *            The starting model element (EObject) from which to begin the recursive collection.
-	 * @param fragments
-	 *            The list of InteractionFragment instances collected so far. This method adds
-	 *            new findings directly to this list.
-	 */
-	private static void collectAllInteractionFragments(EObject element, List<InteractionFragment> fragments) {
-		for (EObject child : element.eContents()) {
-			if (child instanceof InteractionFragment) {
-
-				if (!fragments.contains(child)) {
-					fragments.add((InteractionFragment) child);
-				}
-
-				// Handle CombinedFragments by exploring their InteractionOperands.
-				if (child instanceof CombinedFragment) {
-					CombinedFragment cb = (CombinedFragment) child;
-
-					for (InteractionOperand operand : cb.getOperands()) {
-						// Recursively collect fragments from each operand of the CombinedFragment.
-						collectAllInteractionFragments(operand, fragments);
-					}
-				}
-			}
-		}
+		// The fragments are collected once per change of the interaction by the link index.
+		return new ArrayList<>(AdoneExecutionSpecificationLinkIndex.getInstance(interaction).getAllFragments(interaction));
 	}
 
 	/**
@@ -2307,33 +2290,8 @@ public class AdoneSequenceUtil {
 	 * @return The Behavior Execution Specification that follows the message's receive event, if any; otherwise, null.
 	 */
 	public static BehaviorExecutionSpecification getFollowingBehaviorExeSpec(Message msg) {
-
-		// Ensure the message and its receive event are properly defined.
-		if (msg != null && msg.getReceiveEvent() instanceof MessageOccurrenceSpecification) {
-			MessageOccurrenceSpecification msgOccurrence = (MessageOccurrenceSpecification) msg.getReceiveEvent();
-
-			// Retrieve the interaction that covers the message occurrence.
-			Interaction interaction = msgOccurrence.getCovered().getInteraction();
-
-			if (interaction != null) {
-
-				// Iterate through all interaction fragments to find the BES that follows the message.
-				for (InteractionFragment fra : getAllInteractionFragments(interaction)) {
-
-					if (fra instanceof BehaviorExecutionSpecification) {
-
-						BehaviorExecutionSpecification bes = (BehaviorExecutionSpecification) fra;
-
-						// Check if the BES starts with the message's occurrence specification.
-						if (bes != null && bes.getStart() != null && bes.getStart().equals(msgOccurrence)) {
-							return bes;// Found the corresponding BES.
-						}
-
-					}
-				}
-			}
-		}
-		return null;// Return null if no matching BES is found.
+		// The BES started by each receive event is indexed per interaction.
+		return AdoneExecutionSpecificationLinkIndex.getInstance(msg).getStartedExecution(msg);
 	}
 
 	/**
@@ -2395,7 +2353,7 @@ public class AdoneSequenceUtil {
 
 		// Check each BES's position and height against the specified Y-position.
 		for (BehaviorExecutionSpecification bes : coveredBes) {
-			EditPart besEditPart = SequenceUtil.getEditPart(liflineEditPart, bes, AdoneBehaviorExecutionSpecificationEditPart.class);
+			EditPart besEditPart = getChildEditPart(liflineEditPart, bes, AdoneBehaviorExecutionSpecificationEditPart.class);
 			if (besEditPart != null) {
 				Rectangle bounds = getAbsoluteBounds((GraphicalEditPart) besEditPart);
 
@@ -2409,6 +2367,26 @@ public class AdoneSequenceUtil {
 		return false;
 	}
 
+	/**
+	 * Finds the edit part of a semantic element among the children of an edit part, then in the whole diagram.
+	 *
+	 * @param parentEditPart
+	 *            The edit part whose children are looked up first.
+	 * @param element
+	 *            The semantic element.
+	 * @param editPartClass
+	 *            The exact class of the researched edit part.
+	 * @return The edit part of the element, or null if none is found.
+	 */
+	private static EditPart getChildEditPart(GraphicalEditPart parentEditPart, EObject element, Class<?> editPartClass) {
+		for (Object child : parentEditPart.getChildren()) {
+			if (child.getClass() == editPartClass && ((EditPart) child).getModel() instanceof View && element.equals(((View) ((EditPart) child).getModel()).getElement())) {
+				return (EditPart) child;
+			}
+		}
+		return SequenceUtil.getEditPart(parentEditPart, element, editPartClass);
+	}
+
 	/**
 	 * Generates a command to resize the height of all lifeline edit parts within a sequence diagram.
 	 * This method iterates through the edit part registry to identify all lifeline edit parts and
@@ -2703,7 +2681,17 @@ public class AdoneSequenceUtil {
 
 		List<GraphicalEditPart> nestedEps = new ArrayList<>();
 
-		Rectangle cfBounds = getAbsoluteBoundsForMessageEp(cfEp);
+		Rectangle cfBounds;
+
+		// The hidden content of a collapsed combined fragment is left at the place it had when the combined fragment was expanded.
+		int expandedHeight = AdoneCombinedFragmentCollapseUtil.isCollapsed(cfEp.getNotationView()) ? AdoneCombinedFragmentCollapseUtil.getExpandedHeight(cfEp.getNotationView()) : -1;
+		if (expandedHeight > cfEp.getFigure().getBounds().height) {
+			cfBounds = cfEp.getFigure().getBounds().getCopy();
+			cfBounds.height = expandedHeight;
+			cfEp.getFigure().translateToAbsolute(cfBounds);
+		} else {
+			cfBounds = getAbsoluteBoundsForMessageEp(cfEp);
+		}
 
 		// Iterate over child edit parts that are graphically contained within the combined fragment's bounds.
 		for (Object childEp : AdoneSequenceUtil.getCoveredInteractionFragmentEditParts(cfBounds, cfEp, true, null)) {
@@ -2818,62 +2806,8 @@ public class AdoneSequenceUtil {
 	 *         no such specification can be found.
 	 */
 	public static MessageOccurrenceSpecification getStartMessageOccurenceSpecForRecursiveBes(BehaviorExecutionSpecification targetBes) {
-
-		MessageOccurrenceSpecification foundMos = null;
-
-		// Retrieve all interaction fragments from the enclosing interaction.
-		List<InteractionFragment> fragments = AdoneSequenceUtil.getAllInteractionFragments(targetBes.getEnclosingInteraction());
-
-		// Variable to hold the last received event.
-		InteractionFragment lastReceivedEvent = null;
-
-		for (InteractionFragment frg : fragments) {
-
-			// Check for MessageOccurrenceSpecifications and update the last received event.
-			if (frg instanceof MessageOccurrenceSpecification) {
-				MessageOccurrenceSpecification mos = (MessageOccurrenceSpecification) frg;
-
-				// Skip if the message or its receive event is null.
-
-				if (mos.getMessage() == null) {
-					continue;
-				}
-
-				if (mos.getMessage().getReceiveEvent() == null) {
-					continue;
-				}
-
-				if (mos.getMessage().getReceiveEvent().equals(mos)) {
-					lastReceivedEvent = mos;
-				}
-
-			}
-
-			// Check for BehaviorExecutionSpecifications to identify the start of the target BES.
-			if (frg instanceof BehaviorExecutionSpecification) {
-				BehaviorExecutionSpecification bes = (BehaviorExecutionSpecification) frg;
-
-				if (bes.getStart() == null) {
-					continue;
-				}
-
-				if (bes.getStart() instanceof ExecutionOccurrenceSpecification) {
-
-					ExecutionOccurrenceSpecification eos = (ExecutionOccurrenceSpecification) bes.getStart();
-
-					// Skip if the name of the ExecutionOccurrenceSpecification ends with "Finish".
-					if (eos.getName().endsWith("Finish")) {
-						continue;
-					}
-
-					// Found the start of the recursive BES. Set the last received event as the found MOS.
-					foundMos = (MessageOccurrenceSpecification) lastReceivedEvent;
-					break;
-				}
-			}
-		}
-
-		return foundMos;
+		// The start of the recursive calls is computed once per change of the interaction by the link index.
+		return AdoneExecutionSpecificationLinkIndex.getInstance(targetBes).getRecursiveStartOccurrence(targetBes.getEnclosingInteraction());
 	}
 
 }
@@ -0,0 +1,209 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.transaction.NotificationFilter;
+import org.eclipse.emf.transaction.ResourceSetChangeEvent;
+import org.eclipse.emf.transaction.ResourceSetListenerImpl;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+import org.eclipse.uml2.uml.Classifier;
+import org.eclipse.uml2.uml.Operation;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Port;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.Signal;
+import org.eclipse.uml2.uml.UMLPackage;
+
+/**
+ * Index of the candidate signatures of the messages, shared by the editors of a model:
+ * - per classifier, its effective operations (the inherited ones included) and the operations of the types of its ports,
+ * - per package, the signals owned in the package and its sub-packages, the entry of a package reusing the entries of its sub-packages.
+ * The entries are computed on demand, and invalidated after each transaction of the editing domain:
+ * - a change of the members, the generalizations, the visibility or the types in a classifier invalidates it and the entries depending on it
+ * (its specializations and the classifiers having a port typed by it),
+ * - an element added to or removed from a package invalidates the package and its owning packages.
+ * Without editing domain, the candidates are computed each time.
+ */
+public class AdoneSignatureIndex {
+
+	private static final Map<TransactionalEditingDomain, AdoneSignatureIndex> INDEXES = new WeakHashMap<>();
+
+	private final boolean cached;
+
+	private final Map<Classifier, Set<Operation>> operations = new WeakHashMap<>();
+
+	/** For each classifier, the classifiers whose operation entry was computed from it **/
+	private final Map<Classifier, Set<Classifier>> dependents = new WeakHashMap<>();
+
+	private final Map<Package, Set<Signal>> signals = new WeakHashMap<>();
+
+	private AdoneSignatureIndex(boolean cached) {
+		this.cached = cached;
+	}
+
+	/**
+	 * @param context
+	 *            an element of the model
+	 * @return the index of the editing domain of the element
+	 */
+	public static AdoneSignatureIndex getInstance(EObject context) {
+		TransactionalEditingDomain domain = TransactionUtil.getEditingDomain(context);
+		if (domain == null) {
+			return new AdoneSignatureIndex(false);
+		}
+		synchronized (INDEXES) {
+			AdoneSignatureIndex index = INDEXES.get(domain);
+			if (index == null) {
+				index = new AdoneSignatureIndex(true);
+				domain.addResourceSetListener(index.new InvalidationListener());
+				INDEXES.put(domain, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * @param classifier
+	 *            a classifier
+	 * @return the effective operations of the classifier, and the ones of the types of its ports
+	 */
+	public synchronized Set<Operation> getOperations(Classifier classifier) {
+		Set<Operation> result = cached ? operations.get(classifier) : null;
+		if (result != null) {
+			return result;
+		}
+		Set<Classifier> dependencies = new LinkedHashSet<>();
+		dependencies.add(classifier);
+		dependencies.addAll(classifier.allParents());
+		result = new LinkedHashSet<>(classifier.getAllOperations());
+		for (Property attribute : classifier.getAllAttributes()) {
+			if (attribute instanceof Port && attribute.getType() instanceof Classifier) {
+				Classifier portType = (Classifier) attribute.getType();
+				result.addAll(portType.getAllOperations());
+				dependencies.add(portType);
+				dependencies.addAll(portType.allParents());
+			}
+		}
+		result = Collections.unmodifiableSet(result);
+		if (cached) {
+			operations.put(classifier, result);
+			for (Classifier dependency : dependencies) {
+				dependents.computeIfAbsent(dependency, key -> Collections.newSetFromMap(new WeakHashMap<>())).add(classifier);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @param package_
+	 *            a package
+	 * @return the signals owned, directly or not, by the package
+	 */
+	public synchronized Set<Signal> getSignals(Package package_) {
+		Set<Signal> result = cached ? signals.get(package_) : null;
+		if (result != null) {
+			return result;
+		}
+		result = new LinkedHashSet<>();
+		TreeIterator<EObject> contents = package_.eAllContents();
+		while (contents.hasNext()) {
+			EObject next = contents.next();
+			if (next instanceof Package) {
+				// the sub-packages have their own entries
+				contents.prune();
+				result.addAll(getSignals((Package) next));
+			} else if (next instanceof Signal) {
+				result.add((Signal) next);
+			}
+		}
+		result = Collections.unmodifiableSet(result);
+		if (cached) {
+			signals.put(package_, result);
+		}
+		return result;
+	}
+
+	private synchronized void invalidate(Notification notification) {
+		Object notifier = notification.getNotifier();
+		if (notifier instanceof Resource) {
+			operations.clear();
+			dependents.clear();
+			signals.clear();
+			return;
+		}
+		if (!(notifier instanceof EObject)) {
+			return;
+		}
+		Object feature = notification.getFeature();
+		boolean containment = feature instanceof EReference && ((EReference) feature).isContainment();
+		if (containment || feature == UMLPackage.Literals.GENERALIZATION__GENERAL || feature == UMLPackage.Literals.TYPED_ELEMENT__TYPE
+				|| feature == UMLPackage.Literals.NAMED_ELEMENT__VISIBILITY) {
+			for (EObject container = (EObject) notifier; container != null && !(container instanceof Package); container = container.eContainer()) {
+				if (container instanceof Classifier) {
+					invalidateOperations((Classifier) container);
+					break;
+				}
+			}
+		}
+		if (containment) {
+			for (EObject container = (EObject) notifier; container != null; container = container.eContainer()) {
+				if (container instanceof Package) {
+					signals.remove(container);
+				}
+			}
+		}
+	}
+
+	private void invalidateOperations(Classifier classifier) {
+		operations.remove(classifier);
+		Set<Classifier> classifierDependents = dependents.remove(classifier);
+		if (classifierDependents != null) {
+			for (Classifier dependent : classifierDependents) {
+				operations.remove(dependent);
+			}
+		}
+	}
+
+	private class InvalidationListener extends ResourceSetListenerImpl {
+
+		InvalidationListener() {
+			super(NotificationFilter.NOT_TOUCH);
+		}
+
+		@Override
+		public boolean isPostcommitOnly() {
+			return true;
+		}
+
+		@Override
+		public void resourceSetChanged(ResourceSetChangeEvent event) {
+			for (Notification notification : event.getNotifications()) {
+				invalidate(notification);
+			}
+		}
+	}
+}
@@ -21,21 +21,18 @@ package org.eclipse.papyrus.uml.diagram.sequence.util;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.draw2d.Border;
 import org.eclipse.draw2d.Figure;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.MarginBorder;
-import org.eclipse.draw2d.MouseEvent;
-import org.eclipse.draw2d.MouseMotionListener;
 import org.eclipse.draw2d.ToolbarLayout;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.text.FlowPage;
 import org.eclipse.draw2d.text.TextFlow;
-import org.eclipse.emf.common.notify.Adapter;
-import org.eclipse.emf.common.notify.Notification;
-import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.gef.EditPart;
@@ -102,7 +99,7 @@ public class AdoneToolTipUtil {
 		IFigure figure = ((GraphicalEditPart) editPart).getFigure();
 		EClass semanticElementType = getSemanticElementType(editPart);
 		if (supportTooltips(semanticElementType)) {
-			editPart.installEditPolicy(TOOLTIP_ROLE, new TooltipEditPolicy(new EditPartTooltipUpdater((GraphicalEditPart) editPart)));
+			editPart.installEditPolicy(TOOLTIP_ROLE, new TooltipEditPolicy());
 		} else {
 			editPart.removeEditPolicy(TOOLTIP_ROLE);
 			figure.setToolTip(null);
@@ -159,57 +156,26 @@ public class AdoneToolTipUtil {
 		return getTopNodeView(containerView, semanticElement);
 	}
 
+	/**
+	 * Marks the edit parts showing a tooltip. The tooltip is shown by the {@link AdoneTooltipService} of the viewer,
+	 * the edit part has neither listener nor tooltip figure of its own.
+	 */
 	public static class TooltipEditPolicy extends GraphicalEditPolicy {
 
-		private TooltipUpdater updater;
-
-		private MouseMotionListener updateListener;
-
-		private Adapter modelListener;
-
-		/**
-		 * Constructor.
-		 *
-		 */
-		public TooltipEditPolicy(TooltipUpdater updater) {
-			this.updater = updater;
-		}
-
 		@Override
 		public void activate() {
 			super.activate();
-			IFigure hostFigure = getHostFigure();
-			final TooltipFigure tooltipFigure = new TooltipFigure(updater);
-			hostFigure.setToolTip(tooltipFigure);
-			hostFigure.addMouseMotionListener(updateListener = new MouseMotionListener.Stub() {
-
-				@Override
-				public void mouseEntered(MouseEvent me) {
-					tooltipFigure.update();
-				}
-			});
-			if (getHost() instanceof LifelineEditPart) {
-				((LifelineEditPart) getHost()).getPrimaryView().eAdapters().add(modelListener = new AdapterImpl() {
-
-					@Override
-					public void notifyChanged(Notification msg) {
-						if (msg.isTouch()) {
-							return;
-						}
-						tooltipFigure.update();
-					}
-				});
+			if (getHost().getViewer() != null) {
+				AdoneTooltipService.getInstance(getHost().getViewer());
 			}
 		}
 
 		@Override
 		public void deactivate() {
 			super.deactivate();
-			if (null != updateListener) {
-				getHostFigure().removeMouseMotionListener(updateListener);
-			}
-			if (getHost() instanceof LifelineEditPart) {
-				((LifelineEditPart) getHost()).getPrimaryView().eAdapters().remove(modelListener);
+			AdoneTooltipService service = getHost().getViewer() != null ? AdoneTooltipService.getExisting(getHost().getViewer()) : null;
+			if (service != null) {
+				service.release(getHostFigure());
 			}
 		}
 	}
@@ -304,6 +270,9 @@ public class AdoneToolTipUtil {
 
 	public static class EditPartTooltipUpdater implements TooltipUpdater {
 
+		/** Display names by name of the type of the elements **/
+		private static final Map<String, String> DISPLAY_NAMES = new ConcurrentHashMap<>();
+
 		private GraphicalEditPart editPart;
 
 		/**
@@ -358,15 +327,17 @@ public class AdoneToolTipUtil {
 		}
 
 		private String getDisplayName(String name) {
-			StringBuffer displayName = new StringBuffer();
-			char[] charArray = name.toCharArray();
-			for (int i = 0; i < charArray.length; i++) {
-				if (Character.isUpperCase(charArray[i])) {
-					displayName.append(" ");
+			return DISPLAY_NAMES.computeIfAbsent(name, key -> {
+				StringBuilder displayName = new StringBuilder();
+				for (int i = 0; i < key.length(); i++) {
+					char c = key.charAt(i);
+					if (Character.isUpperCase(c)) {
+						displayName.append(" ");
+					}
+					displayName.append(c);
 				}
-				displayName.append(charArray[i]);
-			}
-			return new String(displayName).trim();
+				return displayName.toString().trim();
+			});
 		}
 
 		/**
@@ -0,0 +1,263 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartViewer;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gmf.runtime.diagram.core.util.ViewUtil;
+import org.eclipse.gmf.runtime.notation.View;
+import org.eclipse.papyrus.uml.diagram.sequence.figures.AdoneLevelOfDetail;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneToolTipUtil.EditPartTooltipUpdater;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneToolTipUtil.TooltipFigure;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.uml2.uml.ConnectableElement;
+import org.eclipse.uml2.uml.InteractionConstraint;
+import org.eclipse.uml2.uml.InteractionOperand;
+import org.eclipse.uml2.uml.InteractionUse;
+import org.eclipse.uml2.uml.Lifeline;
+import org.eclipse.uml2.uml.Message;
+import org.eclipse.uml2.uml.NamedElement;
+
+/**
+ * Tooltips of the edit parts of a viewer having the tooltip edit policy.
+ * A single hover listener is registered for the viewer: when the mouse rests on an edit part with the policy,
+ * the tooltip figure shared by all the edit parts of the viewer is filled with the text of the edit part, and set on its figure
+ * before the tooltip is shown. The listener is a filter of the display, so that it runs before the viewer shows the tooltip.
+ * The texts are computed on the first hover and cached per semantic element. The cached text of an element is invalidated
+ * by the notifications of the element, of its view, and of the elements shown in the text (signature, represented element, guard, ...).
+ */
+public class AdoneTooltipService {
+
+	private static final Map<EditPartViewer, AdoneTooltipService> SERVICES = new WeakHashMap<>();
+
+	private final EditPartViewer viewer;
+
+	private final TooltipFigure tooltipFigure = new TooltipFigure(null);
+
+	private final Listener hoverFilter = this::mouseHover;
+
+	/** The figure on which the shared tooltip figure is set **/
+	private IFigure currentHost;
+
+	/** Per semantic element, the name and the description of the tooltip for each type of edit part **/
+	private final Map<EObject, Map<Class<?>, String[]>> texts = new WeakHashMap<>();
+
+	/** For each recorded notifier, the semantic elements whose texts depend on it **/
+	private final Map<Notifier, Set<EObject>> dependents = new WeakHashMap<>();
+
+	private final Adapter invalidationAdapter = new AdapterImpl() {
+
+		@Override
+		public void notifyChanged(Notification msg) {
+			if (msg.isTouch() || msg.getEventType() == Notification.REMOVING_ADAPTER) {
+				return;
+			}
+			Set<EObject> elements = dependents.get(msg.getNotifier());
+			if (elements != null) {
+				for (EObject element : elements) {
+					texts.remove(element);
+				}
+				// the dependencies are recorded again with the next texts
+				elements.clear();
+			}
+		}
+	};
+
+	private AdoneTooltipService(EditPartViewer viewer) {
+		this.viewer = viewer;
+	}
+
+	/**
+	 * @param viewer
+	 *            a viewer
+	 * @return the tooltip service of the viewer, registering its hover listener on the first call, or null if the viewer has no control
+	 */
+	public static AdoneTooltipService getInstance(EditPartViewer viewer) {
+		AdoneTooltipService service = SERVICES.get(viewer);
+		Control control = viewer.getControl();
+		if (service == null && control != null && !control.isDisposed()) {
+			service = new AdoneTooltipService(viewer);
+			SERVICES.put(viewer, service);
+			service.install(control);
+		}
+		return service;
+	}
+
+	/**
+	 * @param viewer
+	 *            a viewer
+	 * @return the tooltip service of the viewer if it was created, null otherwise
+	 */
+	public static AdoneTooltipService getExisting(EditPartViewer viewer) {
+		return SERVICES.get(viewer);
+	}
+
+	private void install(Control control) {
+		Display display = control.getDisplay();
+		display.addFilter(SWT.MouseHover, hoverFilter);
+		control.addListener(SWT.Dispose, event -> {
+			display.removeFilter(SWT.MouseHover, hoverFilter);
+			SERVICES.remove(viewer);
+			dispose();
+		});
+	}
+
+	/**
+	 * Removes the invalidation adapter from the recorded notifiers, which outlive the viewer, and clears the cached texts.
+	 */
+	private void dispose() {
+		for (Notifier dependency : new ArrayList<>(dependents.keySet())) {
+			if (dependency != null) {
+				dependency.eAdapters().remove(invalidationAdapter);
+			}
+		}
+		dependents.clear();
+		texts.clear();
+		currentHost = null;
+	}
+
+	/**
+	 * Removes the shared tooltip figure from a figure, when the edit part of the figure no longer shows a tooltip.
+	 *
+	 * @param host
+	 *            the figure of an edit part
+	 */
+	public void release(IFigure host) {
+		if (host == currentHost) {
+			currentHost.setToolTip(null);
+			currentHost = null;
+		}
+	}
+
+	private void mouseHover(Event event) {
+		if (event.widget != viewer.getControl()) {
+			return;
+		}
+		EditPart target = viewer.findObjectAt(new Point(event.x, event.y));
+		while (target != null && target.getEditPolicy(AdoneToolTipUtil.TOOLTIP_ROLE) == null) {
+			target = target.getParent();
+		}
+		IFigure host = target instanceof GraphicalEditPart ? ((GraphicalEditPart) target).getFigure() : null;
+		if (currentHost != null && currentHost != host) {
+			currentHost.setToolTip(null);
+		}
+		currentHost = null;
+		if (host == null) {
+			return;
+		}
+		// No tooltip is computed nor displayed when the zoom is too low for the labels to be legible.
+		if (!AdoneLevelOfDetail.isTextVisible(target)) {
+			host.setToolTip(null);
+			return;
+		}
+		String[] text = getText((GraphicalEditPart) target);
+		tooltipFigure.setName(text[0]);
+		tooltipFigure.setDescription(text[1]);
+		host.setToolTip(tooltipFigure);
+		currentHost = host;
+	}
+
+	private String[] getText(GraphicalEditPart editPart) {
+		EObject element = editPart.getModel() instanceof View ? ViewUtil.resolveSemanticElement((View) editPart.getModel()) : null;
+		if (element == null) {
+			return computeText(editPart);
+		}
+		Map<Class<?>, String[]> elementTexts = texts.get(element);
+		if (elementTexts == null) {
+			elementTexts = new HashMap<>();
+			texts.put(element, elementTexts);
+		}
+		String[] text = elementTexts.get(editPart.getClass());
+		if (text == null) {
+			text = computeText(editPart);
+			elementTexts.put(editPart.getClass(), text);
+			for (Notifier dependency : getDependencies(editPart, element)) {
+				record(dependency, element);
+			}
+		}
+		return text;
+	}
+
+	private static String[] computeText(GraphicalEditPart editPart) {
+		EditPartTooltipUpdater updater = new EditPartTooltipUpdater(editPart);
+		return new String[] { updater.getTooltipName(), updater.getTooltipDescription() };
+	}
+
+	private void record(Notifier dependency, EObject element) {
+		Set<EObject> elements = dependents.get(dependency);
+		if (elements == null) {
+			elements = Collections.newSetFromMap(new WeakHashMap<>());
+			dependents.put(dependency, elements);
+			dependency.eAdapters().add(invalidationAdapter);
+		}
+		elements.add(element);
+	}
+
+	private static Set<Notifier> getDependencies(GraphicalEditPart editPart, EObject element) {
+		Set<Notifier> dependencies = new LinkedHashSet<>();
+		dependencies.add(element);
+		if (editPart.getModel() instanceof View) {
+			dependencies.add((View) editPart.getModel());
+		}
+		if (element instanceof Message) {
+			NamedElement signature = ((Message) element).getSignature();
+			if (signature != null) {
+				dependencies.add(signature);
+				dependencies.addAll(signature.getOwnedComments());
+			}
+		} else if (element instanceof Lifeline) {
+			ConnectableElement represents = ((Lifeline) element).getRepresents();
+			if (represents != null) {
+				dependencies.add(represents);
+				if (represents.getType() != null) {
+					dependencies.add(represents.getType());
+				}
+			}
+		} else if (element instanceof InteractionUse) {
+			if (((InteractionUse) element).getRefersTo() != null) {
+				dependencies.add(((InteractionUse) element).getRefersTo());
+			}
+		} else if (element instanceof InteractionConstraint) {
+			if (((InteractionConstraint) element).getSpecification() != null) {
+				dependencies.add(((InteractionConstraint) element).getSpecification());
+			}
+		} else if (element instanceof InteractionOperand) {
+			if (((InteractionOperand) element).getOwner() != null) {
+				dependencies.add(((InteractionOperand) element).getOwner());
+			}
+		}
+		return dependencies;
+	}
+}
@@ -14,6 +14,7 @@
 package org.eclipse.papyrus.uml.diagram.sequence.util;
 
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.uml2.uml.Comment;
 import org.eclipse.uml2.uml.Element;
 import org.eclipse.uml2.uml.Namespace;
@@ -66,6 +67,20 @@ public class AdoneUMLCommonHelper {
 		return AdoneUMLPrimitiveTypeManager.getInstance().getPrimitiveType(primitiveTypeName);
 	}
 
+	/**
+	 * Retrieves a UML PrimitiveType based on its name from the Adone-defined UML primitive types,
+	 * taken from the libraries already loaded with the model of the context when possible.
+	 *
+	 * @param primitiveTypeName
+	 *            The name of the primitive type to retrieve.
+	 * @param context
+	 *            An element of the model in which the type is used.
+	 * @return The PrimitiveType corresponding to the given name, or null if not found.
+	 */
+	public static PrimitiveType getPrimitiveType(String primitiveTypeName, EObject context) {
+		return AdoneUMLPrimitiveTypeManager.getInstance().getPrimitiveType(primitiveTypeName, context);
+	}
+
 	/**
 	 * Retrieves a UML PrimitiveType based on its name from a Java-specific set of primitive types managed by Adone.
 	 *
@@ -77,6 +92,20 @@ public class AdoneUMLCommonHelper {
 		return AdoneUMLJavaPrimitiveTypeManager.getInstance().getPrimitiveType(primitiveTypeName);
 	}
 
+	/**
+	 * Retrieves a UML PrimitiveType based on its name from a Java-specific set of primitive types managed by Adone,
+	 * taken from the libraries already loaded with the model of the context when possible.
+	 *
+	 * @param primitiveTypeName
+	 *            The name of the Java primitive type to retrieve.
+	 * @param context
+	 *            An element of the model in which the type is used.
+	 * @return The PrimitiveType corresponding to the given name within the Java primitive type set, or null if not found.
+	 */
+	public static PrimitiveType getJavaPrimitiveType(String primitiveTypeName, EObject context) {
+		return AdoneUMLJavaPrimitiveTypeManager.getInstance().getPrimitiveType(primitiveTypeName, context);
+	}
+
 	/**
 	 * Generates a unique name within a given UML namespace by appending a numeric suffix to the provided base name
 	 * if necessary, ensuring that the resulting name does not collide with any existing member names.
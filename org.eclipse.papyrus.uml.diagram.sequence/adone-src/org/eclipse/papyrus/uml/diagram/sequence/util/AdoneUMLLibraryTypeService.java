@@ -0,0 +1,128 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.resource.UMLResource;
+
+/**
+ * Shared access to the primitive types of the standard UML libraries (UML and Java primitive types).
+ * Each library is loaded once, on its first use, into a resource set shared by all the editors and never modified,
+ * and all its primitive types are indexed by name.
+ * When a model is given as context and its resource set already holds the library, the type is taken from it,
+ * so that the model does not reference a second copy of the library.
+ */
+public class AdoneUMLLibraryTypeService {
+
+	/** URI of the UML primitive types library **/
+	public static final String UML_PRIMITIVE_TYPES = UMLResource.UML_PRIMITIVE_TYPES_LIBRARY_URI;
+
+	/** URI of the Java primitive types library **/
+	public static final String JAVA_PRIMITIVE_TYPES = UMLResource.JAVA_PRIMITIVE_TYPES_LIBRARY_URI;
+
+	private static final ResourceSet RESOURCE_SET = new ResourceSetImpl();
+
+	private static final Map<String, Map<String, PrimitiveType>> LIBRARIES = new ConcurrentHashMap<>();
+
+	private AdoneUMLLibraryTypeService() {
+	}
+
+	/**
+	 * @param libraryUri
+	 *            the URI of a library
+	 * @return the primitive types of the shared library by name, loaded on the first call
+	 */
+	public static Map<String, PrimitiveType> getTypes(String libraryUri) {
+		return LIBRARIES.computeIfAbsent(libraryUri, AdoneUMLLibraryTypeService::load);
+	}
+
+	/**
+	 * @param libraryUri
+	 *            the URI of a library
+	 * @param name
+	 *            the name of a primitive type
+	 * @return the primitive type of the shared library, or null if the library has no type of this name
+	 */
+	public static PrimitiveType getType(String libraryUri, String name) {
+		if (name == null || "".equals(name)) {
+			return null;
+		}
+		return getTypes(libraryUri).get(name);
+	}
+
+	/**
+	 * @param libraryUri
+	 *            the URI of a library
+	 * @param name
+	 *            the name of a primitive type
+	 * @param context
+	 *            an element of the model in which the type is used
+	 * @return the primitive type of the library loaded in the resource set of the context if there is one, otherwise the one of the shared library
+	 */
+	public static PrimitiveType getType(String libraryUri, String name, EObject context) {
+		if (name == null || "".equals(name)) {
+			return null;
+		}
+		Resource contextResource = context == null ? null : context.eResource();
+		ResourceSet resourceSet = contextResource == null ? null : contextResource.getResourceSet();
+		if (resourceSet != null) {
+			Resource library = resourceSet.getResource(URI.createURI(libraryUri), false);
+			if (library != null && library.isLoaded()) {
+				PrimitiveType type = findType(library, name);
+				if (type != null) {
+					return type;
+				}
+			}
+		}
+		return getType(libraryUri, name);
+	}
+
+	private static PrimitiveType findType(Resource library, String name) {
+		TreeIterator<EObject> contents = library.getAllContents();
+		while (contents.hasNext()) {
+			EObject next = contents.next();
+			if (next instanceof PrimitiveType && name.equals(((PrimitiveType) next).getName())) {
+				return (PrimitiveType) next;
+			}
+		}
+		return null;
+	}
+
+	private static Map<String, PrimitiveType> load(String libraryUri) {
+		Map<String, PrimitiveType> types = new LinkedHashMap<>();
+		// the libraries share the resource set, which is not thread-safe
+		synchronized (RESOURCE_SET) {
+			Resource library = RESOURCE_SET.getResource(URI.createURI(libraryUri), true);
+			TreeIterator<EObject> contents = library.getAllContents();
+			while (contents.hasNext()) {
+				EObject next = contents.next();
+				if (next instanceof PrimitiveType) {
+					types.putIfAbsent(((PrimitiveType) next).getName(), (PrimitiveType) next);
+				}
+			}
+		}
+		return Collections.unmodifiableMap(types);
+	}
+}
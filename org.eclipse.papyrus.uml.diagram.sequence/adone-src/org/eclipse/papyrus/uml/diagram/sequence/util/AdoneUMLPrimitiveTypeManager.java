@@ -13,51 +13,31 @@
  *****************************************************************************/
 package org.eclipse.papyrus.uml.diagram.sequence.util;
 
-import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
-import org.eclipse.emf.ecore.util.EcoreUtil;
-import org.eclipse.uml2.uml.Model;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.uml2.uml.PrimitiveType;
-import org.eclipse.uml2.uml.UMLPackage;
-import org.eclipse.uml2.uml.resource.UMLResource;
 
 /**
  * Manages UML primitive types within the Adone UML tooling environment, providing access to predefined UML PrimitiveType objects.
- * This class initializes with the UML Primitive Types Library to map common UML primitive types to their corresponding objects,
- * such as String, Integer, and Boolean. It serves as a centralized resource for accessing these types, ensuring consistency
+ * The types come from the UML Primitive Types Library shared by {@link AdoneUMLLibraryTypeService}, such as String, Integer, and Boolean.
+ * It serves as a centralized resource for accessing these types, ensuring consistency
  * and reusability across different components of the tool.
  */
 public class AdoneUMLPrimitiveTypeManager {
 
-	private static AdoneUMLPrimitiveTypeManager manager;
-	private Model model;
-	private PrimitiveType stringPrimitiveType;
-	private PrimitiveType integerPrimitiveType;
-	private PrimitiveType booleanPrimitiveType;
-	private final String UML_PRIMITIVE_TYPE_STRING = "String";
-	private final String UML_PRIMITIVE_TYPE_INTEGER = "Integer";
-	private final String UML_PRIMITIVE_TYPE_BOOLEAN = "Boolean";
+	private static final String UML_PRIMITIVE_TYPE_STRING = "String";
 
 	/**
-	 * Private constructor to prevent external instantiation. Initializes the manager by loading the UML Primitive Types Library
-	 * and setting up the primitive types.
+	 * Private constructor to prevent external instantiation.
 	 */
 	private AdoneUMLPrimitiveTypeManager() {
-		ResourceSet resourceSet = new ResourceSetImpl();
-		Resource resource = resourceSet.getResource(URI.createURI(UMLResource.UML_PRIMITIVE_TYPES_LIBRARY_URI), true);
-		model = (Model) EcoreUtil.getObjectByType(resource.getContents(), UMLPackage.Literals.MODEL);
-		this.initialize();
 	}
 
 	/**
-	 * Initializes the mapping of UML primitive type names to their corresponding UML PrimitiveType objects.
+	 * Holder of the singleton, initialized on the first access.
 	 */
-	private void initialize() {
-		this.stringPrimitiveType = (PrimitiveType) model.getOwnedType(UML_PRIMITIVE_TYPE_STRING);
-		this.integerPrimitiveType = (PrimitiveType) model.getOwnedType(UML_PRIMITIVE_TYPE_INTEGER);
-		this.booleanPrimitiveType = (PrimitiveType) model.getOwnedType(UML_PRIMITIVE_TYPE_BOOLEAN);
+	private static class Holder {
+
+		private static final AdoneUMLPrimitiveTypeManager INSTANCE = new AdoneUMLPrimitiveTypeManager();
 	}
 
 	/**
@@ -66,10 +46,7 @@ public class AdoneUMLPrimitiveTypeManager {
 	 * @return The singleton instance of the AdoneUMLPrimitiveTypeManager.
 	 */
 	public static AdoneUMLPrimitiveTypeManager getInstance() {
-		if (manager == null) {
-			manager = new AdoneUMLPrimitiveTypeManager();
-		}
-		return manager;
+		return Holder.INSTANCE;
 	}
 
 	/**
@@ -80,19 +57,28 @@ public class AdoneUMLPrimitiveTypeManager {
 	 * @return The corresponding UML PrimitiveType object, or the default string primitive type if the name does not match any known types.
 	 */
 	public PrimitiveType getPrimitiveType(String primitiveTypeName) {
+		return getPrimitiveType(primitiveTypeName, null);
+	}
+
+	/**
+	 * Retrieves the UML PrimitiveType object corresponding to a given UML primitive type name, taken from the resource set of the context when it holds the library.
+	 *
+	 * @param primitiveTypeName
+	 *            The name of the UML primitive type.
+	 * @param context
+	 *            An element of the model in which the type is used, or null.
+	 * @return The corresponding UML PrimitiveType object, or the default string primitive type if the name does not match any known types.
+	 */
+	public PrimitiveType getPrimitiveType(String primitiveTypeName, EObject context) {
 		if (primitiveTypeName == null || "".equals(primitiveTypeName)) {
 			return null;
 		}
 
-		if (primitiveTypeName.equals(UML_PRIMITIVE_TYPE_STRING)) {
-			return this.stringPrimitiveType;
-		} else if (primitiveTypeName.equals(UML_PRIMITIVE_TYPE_INTEGER)) {
-			return this.integerPrimitiveType;
-		} else if (primitiveTypeName.equals(UML_PRIMITIVE_TYPE_BOOLEAN)) {
-			return this.booleanPrimitiveType;
-		} else {
-			return this.stringPrimitiveType;
+		PrimitiveType type = AdoneUMLLibraryTypeService.getType(AdoneUMLLibraryTypeService.UML_PRIMITIVE_TYPES, primitiveTypeName, context);
+		if (type == null) {
+			type = AdoneUMLLibraryTypeService.getType(AdoneUMLLibraryTypeService.UML_PRIMITIVE_TYPES, UML_PRIMITIVE_TYPE_STRING, context);
 		}
+		return type;
 	}
 
 }
@@ -0,0 +1,710 @@
+/*****************************************************************************
+ * Copyright (c) 2024 RealizeSoft and others.
+ *
+ * All rights reserved. This file is part of a software program that is made
+ * available under the terms of the Eclipse Public License 2.0 which
+ * accompanies this distribution and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   RealizeSoft - initial API and implementation
+ *****************************************************************************/
+
+package org.eclipse.papyrus.uml.diagram.sequence.util;
+
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.RangeModel;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PrecisionPoint;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.emf.common.command.CompoundCommand;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.edit.command.SetCommand;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.LayerManager;
+import org.eclipse.gef.commands.Command;
+import org.eclipse.gef.commands.CommandStack;
+import org.eclipse.gef.commands.CommandStackEvent;
+import org.eclipse.gef.commands.CommandStackEventListener;
+import org.eclipse.gmf.runtime.diagram.ui.editparts.DiagramRootEditPart;
+import org.eclipse.gmf.runtime.draw2d.ui.figures.BaseSlidableAnchor;
+import org.eclipse.gmf.runtime.notation.Anchor;
+import org.eclipse.gmf.runtime.notation.Bounds;
+import org.eclipse.gmf.runtime.notation.DecorationNode;
+import org.eclipse.gmf.runtime.notation.Edge;
+import org.eclipse.gmf.runtime.notation.IdentityAnchor;
+import org.eclipse.gmf.runtime.notation.LayoutConstraint;
+import org.eclipse.gmf.runtime.notation.Location;
+import org.eclipse.gmf.runtime.notation.Node;
+import org.eclipse.gmf.runtime.notation.NotationPackage;
+import org.eclipse.gmf.runtime.notation.View;
+import org.eclipse.papyrus.commands.wrappers.EMFtoGEFCommandWrapper;
+import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.AdoneInteractionInteractionCompartmentEditPart;
+import org.eclipse.papyrus.uml.diagram.sequence.figures.AdoneVirtualizedPlaceholderFigure;
+import org.eclipse.papyrus.uml.diagram.sequence.referencialgrilling.GridManagementEditPolicy;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.uml2.uml.CombinedFragment;
+import org.eclipse.uml2.uml.ExecutionOccurrenceSpecification;
+import org.eclipse.uml2.uml.ExecutionSpecification;
+import org.eclipse.uml2.uml.InteractionFragment;
+import org.eclipse.uml2.uml.Lifeline;
+import org.eclipse.uml2.uml.Message;
+
+/**
+ * Restricts the edit parts of an interaction compartment to the visible part of the interaction.
+ * The messages, the execution specifications and the top-level Combined Fragments whose vertical extent does not intersect the viewport,
+ * extended by a margin, are filtered out of the model children and connections of their edit parts, so they have neither edit part, figure nor listener.
+ * Their views stay in the diagram with their bounds and anchors, from which their extent is computed,
+ * and they are drawn as placeholders with these bounds, which are cached until the next command is executed.
+ * The visible area is rounded to bands of {@link #BAND_HEIGHT}: scrolling only refreshes the edit parts when the bands change,
+ * and the refresh only creates and removes the edit parts of the bands that appear or disappear.
+ *
+ * The operations moving the elements below a position move the edit parts they find in the registry,
+ * and the views without edit part through {@link #getMoveVirtualizedViewsCommand(EditPart, int, int, boolean)}.
+ * The rows of the grid of the filtered elements are not listened: the reconciliation of the grid leaves their fragments in place
+ * (see {@link #collectVirtualizedFragments(EditPart, Set)}), and the rows are reused when the elements get their edit parts again.
+ */
+public class AdoneViewportVirtualizer {
+
+	/** Height of the bands in which the visible area is rounded **/
+	public static final int BAND_HEIGHT = 400;
+
+	/** Margin kept around the visible area **/
+	public static final int MARGIN = 400;
+
+	/** Number of bands displayed until the viewport has been laid out **/
+	private static final int INITIAL_BANDS = 4;
+
+	private final GraphicalEditPart compartmentEp;
+
+	private int firstBand = 0;
+
+	private int lastBand = INITIAL_BANDS - 1;
+
+	private boolean active = false;
+
+	private boolean updateScheduled = false;
+
+	private boolean forcedUpdate = false;
+
+	private RangeModel verticalRangeModel;
+
+	private CommandStack commandStack;
+
+	private IFigure placeholderLayer;
+
+	private final Map<View, AdoneVirtualizedPlaceholderFigure> placeholders = new HashMap<>();
+
+	private final PropertyChangeListener scrollListener = event -> scheduleUpdate(false);
+
+	private final CommandStackEventListener commandStackListener = this::commandStackChanged;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param compartmentEp
+	 *            the interaction compartment edit part
+	 */
+	public AdoneViewportVirtualizer(GraphicalEditPart compartmentEp) {
+		this.compartmentEp = compartmentEp;
+	}
+
+	/**
+	 * Starts following the viewport of the viewer. The views are filtered from the creation of the virtualizer,
+	 * which must be created before the children of the compartment, with the initial bands.
+	 */
+	public void activate() {
+		if (compartmentEp.getViewer().getControl() instanceof FigureCanvas) {
+			verticalRangeModel = ((FigureCanvas) compartmentEp.getViewer().getControl()).getViewport().getVerticalRangeModel();
+			verticalRangeModel.addPropertyChangeListener(scrollListener);
+		}
+		commandStack = compartmentEp.getViewer().getEditDomain().getCommandStack();
+		commandStack.addCommandStackEventListener(commandStackListener);
+		LayerManager layerManager = LayerManager.Helper.find(compartmentEp);
+		if (layerManager != null) {
+			placeholderLayer = layerManager.getLayer(DiagramRootEditPart.DECORATION_UNPRINTABLE_LAYER);
+		}
+		active = true;
+
+		// The children were created with the initial bands, before the viewport was laid out.
+		scheduleUpdate(true);
+	}
+
+	/**
+	 * Stops following the viewport of the viewer.
+	 */
+	public void deactivate() {
+		active = false;
+		if (verticalRangeModel != null) {
+			verticalRangeModel.removePropertyChangeListener(scrollListener);
+			verticalRangeModel = null;
+		}
+		if (commandStack != null) {
+			commandStack.removeCommandStackEventListener(commandStackListener);
+			commandStack = null;
+		}
+		if (placeholderLayer != null) {
+			for (IFigure placeholder : placeholders.values()) {
+				placeholderLayer.remove(placeholder);
+			}
+		}
+		placeholders.clear();
+		placeholderLayer = null;
+	}
+
+	/**
+	 * @param editPart
+	 *            an edit part of an interaction
+	 * @return the virtualizer of the interaction compartment, null if the virtualization is disabled
+	 */
+	public static AdoneViewportVirtualizer getVirtualizer(EditPart editPart) {
+		EditPart compartment = SequenceUtil.getInteractionCompartment(editPart);
+		if (compartment instanceof AdoneInteractionInteractionCompartmentEditPart) {
+			return ((AdoneInteractionInteractionCompartmentEditPart) compartment).getViewportVirtualizer();
+		}
+		return null;
+	}
+
+	/**
+	 * Filters the views that are out of the visible area from the model children or connections of an edit part.
+	 *
+	 * @param editPart
+	 *            the edit part owning the views
+	 * @param views
+	 *            its model children or connections
+	 * @return the views to turn into edit parts (the given list itself when none is filtered)
+	 */
+	@SuppressWarnings("rawtypes")
+	public static List filter(EditPart editPart, List views) {
+		AdoneViewportVirtualizer virtualizer = getVirtualizer(editPart);
+		return virtualizer == null ? views : virtualizer.filter(views);
+	}
+
+	/**
+	 * Creates the command moving the elements out of the visible area that are below a position, for the operations that move the edit parts below it.
+	 * The messages with an end below the position are moved, and the execution specifications and the Combined Fragments whose top is below it.
+	 * The ends of a message attached to a lifeline or to an execution specification that is not moved are moved along it.
+	 *
+	 * @param editPart
+	 *            an edit part of the interaction
+	 * @param absoluteY
+	 *            the position in absolute coordinates, as used by the search of the edit parts below it
+	 * @param deltaY
+	 *            the vertical move
+	 * @param moveNodes
+	 *            false if only the messages are moved, as for the edit parts
+	 * @return the command, null if there is nothing to move
+	 */
+	public static Command getMoveVirtualizedViewsCommand(EditPart editPart, int absoluteY, int deltaY, boolean moveNodes) {
+		AdoneViewportVirtualizer virtualizer = getVirtualizer(editPart);
+		if (virtualizer == null || !virtualizer.active || deltaY == 0) {
+			return null;
+		}
+		CompoundCommand command = virtualizer.createMoveCommand(virtualizer.toLayoutY(absoluteY), deltaY, moveNodes);
+		return command.isEmpty() ? null : new EMFtoGEFCommandWrapper(command);
+	}
+
+	private CompoundCommand createMoveCommand(int positionY, int deltaY, boolean moveNodes) {
+		TransactionalEditingDomain domain = TransactionUtil.getEditingDomain((View) compartmentEp.getModel());
+		CompoundCommand command = new CompoundCommand();
+		Set<InteractionFragment> movedFragments = new HashSet<>();
+		Set<EObject> movedElements = new HashSet<>();
+		for (View view : getViewsWithoutEditPart()) {
+			if (AdoneCombinedFragmentCollapseUtil.isHidden(view)) {
+				// The content of a collapsed Combined Fragment is left in place.
+				continue;
+			}
+			if (view instanceof Edge) {
+				Edge edge = (Edge) view;
+				Point source = getAnchorLocation(edge.getSource(), edge.getSourceAnchor());
+				Point target = getAnchorLocation(edge.getTarget(), edge.getTargetAnchor());
+				if (source == null || target == null || (source.y < positionY && target.y < positionY)) {
+					continue;
+				}
+				if (!isMoved(edge.getSource(), positionY, moveNodes)) {
+					addMoveAnchorCommand(domain, command, edge.getSource(), (IdentityAnchor) edge.getSourceAnchor(), deltaY);
+				}
+				if (!isMoved(edge.getTarget(), positionY, moveNodes)) {
+					addMoveAnchorCommand(domain, command, edge.getTarget(), (IdentityAnchor) edge.getTargetAnchor(), deltaY);
+				}
+				movedElements.add(edge.getElement());
+				addFragments(view, movedFragments);
+			} else if (isMoved(view, positionY, moveNodes)) {
+				Bounds bounds = (Bounds) ((Node) view).getLayoutConstraint();
+				command.append(SetCommand.create(domain, bounds, NotationPackage.eINSTANCE.getLocation_Y(), bounds.getY() + deltaY));
+				addFragments(view, movedFragments);
+			}
+		}
+
+		// The rows of the moved elements follow them, so they are at their place when the elements get their edit parts again.
+		movedElements.addAll(movedFragments);
+		GridManagementEditPolicy grid = getGrid();
+		if (grid != null && !movedElements.isEmpty()) {
+			for (DecorationNode row : grid.getReleasedRows(movedElements)) {
+				Location location = (Location) row.getLayoutConstraint();
+				command.append(SetCommand.create(domain, location, NotationPackage.eINSTANCE.getLocation_Y(), location.getY() + deltaY));
+			}
+		}
+		return command;
+	}
+
+	/**
+	 * @return true if the node is an execution specification or a Combined Fragment moved with the elements below the position
+	 */
+	private boolean isMoved(View node, int positionY, boolean moveNodes) {
+		if (!moveNodes || !(node.getElement() instanceof ExecutionSpecification || node.getElement() instanceof CombinedFragment)) {
+			return false;
+		}
+		Rectangle bounds = getNodeBounds(node);
+		return bounds != null && bounds.y >= positionY;
+	}
+
+	private void addMoveAnchorCommand(TransactionalEditingDomain domain, CompoundCommand command, View node, IdentityAnchor anchor, int deltaY) {
+		PrecisionPoint terminal = BaseSlidableAnchor.parseTerminalString(anchor.getId());
+		if (terminal.preciseY() > 1) {
+			terminal.setPreciseY(terminal.preciseY() + deltaY);
+		} else {
+			Rectangle bounds = getNodeBounds(node);
+			if (bounds == null || bounds.height <= 0) {
+				return;
+			}
+			// A relative position moved beyond the bottom of the node is kept in pixels.
+			double y = terminal.preciseY() + (double) deltaY / bounds.height;
+			terminal.setPreciseY(y > 1 ? y * bounds.height : y);
+		}
+		command.append(SetCommand.create(domain, anchor, NotationPackage.eINSTANCE.getIdentityAnchor_Id(), "(" + terminal.preciseX() + "," + terminal.preciseY() + ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private GridManagementEditPolicy getGrid() {
+		EditPart contents = compartmentEp.getViewer().getContents();
+		if (contents != null && contents.getEditPolicy(GridManagementEditPolicy.GRID_MANAGEMENT) instanceof GridManagementEditPolicy) {
+			return (GridManagementEditPolicy) contents.getEditPolicy(GridManagementEditPolicy.GRID_MANAGEMENT);
+		}
+		return null;
+	}
+
+	/**
+	 * Collects the fragments of the elements of an interaction that have currently no edit part because they are out of the visible area:
+	 * the ends of the messages, the execution specifications with their execution occurrences, and the Combined Fragments with their content.
+	 *
+	 * @param diagramEditPart
+	 *            the edit part of the diagram
+	 * @param fragments
+	 *            the set to fill
+	 */
+	public static void collectVirtualizedFragments(EditPart diagramEditPart, Set<InteractionFragment> fragments) {
+		for (Object child : diagramEditPart.getChildren()) {
+			for (Object compartment : ((EditPart) child).getChildren()) {
+				if (compartment instanceof AdoneInteractionInteractionCompartmentEditPart) {
+					AdoneViewportVirtualizer virtualizer = ((AdoneInteractionInteractionCompartmentEditPart) compartment).getViewportVirtualizer();
+					if (virtualizer != null && virtualizer.active) {
+						for (View view : virtualizer.getViewsWithoutEditPart()) {
+							addFragments(view, fragments);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the views of the top-level Combined Fragments, of the execution specifications and of the messages of the interaction that have no edit part
+	 */
+	private Set<View> getViewsWithoutEditPart() {
+		Set<View> views = new LinkedHashSet<>();
+		Map<?, ?> registry = compartmentEp.getViewer().getEditPartRegistry();
+		for (Object child : ((View) compartmentEp.getModel()).getChildren()) {
+			View view = (View) child;
+			if (view.getElement() instanceof CombinedFragment) {
+				if (!registry.containsKey(view)) {
+					views.add(view);
+				}
+			} else if (view.getElement() instanceof Lifeline) {
+				collectMessagesWithoutEditPart(view, registry, views);
+				for (Object lifelineChild : view.getChildren()) {
+					View childView = (View) lifelineChild;
+					if (childView.getElement() instanceof ExecutionSpecification) {
+						collectMessagesWithoutEditPart(childView, registry, views);
+						if (!registry.containsKey(childView)) {
+							views.add(childView);
+						}
+					}
+				}
+			}
+		}
+		return views;
+	}
+
+	private static void collectMessagesWithoutEditPart(View node, Map<?, ?> registry, Set<View> views) {
+		for (Object edge : node.getSourceEdges()) {
+			View edgeView = (View) edge;
+			if (edgeView.getElement() instanceof Message && !registry.containsKey(edgeView)) {
+				views.add(edgeView);
+			}
+		}
+	}
+
+	/**
+	 * Adds the fragments of the element of a view: a Combined Fragment with its content, an execution specification with its execution occurrences,
+	 * or the ends of a message.
+	 */
+	private static void addFragments(View view, Set<InteractionFragment> fragments) {
+		EObject element = view.getElement();
+		if (element instanceof CombinedFragment) {
+			fragments.add((CombinedFragment) element);
+			for (Iterator<EObject> iterator = element.eAllContents(); iterator.hasNext();) {
+				EObject content = iterator.next();
+				if (content instanceof InteractionFragment) {
+					fragments.add((InteractionFragment) content);
+				}
+			}
+		} else if (element instanceof ExecutionSpecification) {
+			ExecutionSpecification execution = (ExecutionSpecification) element;
+			fragments.add(execution);
+			if (execution.getStart() instanceof ExecutionOccurrenceSpecification) {
+				fragments.add(execution.getStart());
+			}
+			if (execution.getFinish() instanceof ExecutionOccurrenceSpecification) {
+				fragments.add(execution.getFinish());
+			}
+		} else if (element instanceof Message) {
+			Message message = (Message) element;
+			if (message.getSendEvent() instanceof InteractionFragment) {
+				fragments.add((InteractionFragment) message.getSendEvent());
+			}
+			if (message.getReceiveEvent() instanceof InteractionFragment) {
+				fragments.add((InteractionFragment) message.getReceiveEvent());
+			}
+		}
+	}
+
+	/**
+	 * @param views
+	 *            model children or connections
+	 * @return the views to turn into edit parts (the given list itself when none is filtered)
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public List filter(List views) {
+		List result = null;
+		for (int index = 0; index < views.size(); index++) {
+			Object view = views.get(index);
+			boolean virtualized = view instanceof View && isVirtualized((View) view);
+			if (virtualized && result == null) {
+				result = new ArrayList(views.subList(0, index));
+			} else if (!virtualized && result != null) {
+				result.add(view);
+			}
+		}
+		return result == null ? views : result;
+	}
+
+	/**
+	 * @param view
+	 *            a view of the interaction
+	 * @return true if the view is out of the visible area and can be left without edit part
+	 */
+	public boolean isVirtualized(View view) {
+		if (!canBeVirtualized(view)) {
+			return false;
+		}
+		EditPart editPart = (EditPart) compartmentEp.getViewer().getEditPartRegistry().get(view);
+		if (editPart != null && editPart.getSelected() != EditPart.SELECTED_NONE) {
+			return false;
+		}
+		int[] extent = getVerticalExtent(view);
+		if (extent == null) {
+			return false;
+		}
+		return extent[1] < firstBand * BAND_HEIGHT || extent[0] > (lastBand + 1) * BAND_HEIGHT;
+	}
+
+	private boolean canBeVirtualized(View view) {
+		if (view.getElement() instanceof CombinedFragment) {
+			// The gates of the Combined Fragment are children of its view, their messages need their edit parts.
+			if (!view.getSourceEdges().isEmpty() || !view.getTargetEdges().isEmpty()) {
+				return false;
+			}
+			for (Object child : view.getChildren()) {
+				if (!((View) child).getSourceEdges().isEmpty() || !((View) child).getTargetEdges().isEmpty()) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (view instanceof Edge) {
+			// A message linking two lifelines or execution specifications: the edit parts of the other edges need both of their ends.
+			Edge edge = (Edge) view;
+			return edge.getElement() instanceof Message && isMessageEnd(edge.getSource()) && isMessageEnd(edge.getTarget())
+					&& edge.getSourceEdges().isEmpty() && edge.getTargetEdges().isEmpty();
+		}
+		return view.getElement() instanceof ExecutionSpecification && hasMessagesOnly(view.getSourceEdges()) && hasMessagesOnly(view.getTargetEdges());
+	}
+
+	private static boolean isMessageEnd(View view) {
+		return view != null && (view.getElement() instanceof Lifeline || view.getElement() instanceof ExecutionSpecification);
+	}
+
+	private static boolean hasMessagesOnly(List<?> edges) {
+		for (Object edge : edges) {
+			if (!(((View) edge).getElement() instanceof Message)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param view
+	 *            a node or an edge of the interaction
+	 * @return the top and the bottom of the view in the coordinates of the interaction compartment, null if they are unknown
+	 */
+	private int[] getVerticalExtent(View view) {
+		if (view instanceof Edge) {
+			Edge edge = (Edge) view;
+			Integer sourceY = getAnchorY(edge.getSource(), edge.getSourceAnchor());
+			Integer targetY = getAnchorY(edge.getTarget(), edge.getTargetAnchor());
+			if (sourceY == null || targetY == null) {
+				return null;
+			}
+			return new int[] { Math.min(sourceY, targetY), Math.max(sourceY, targetY) };
+		}
+		return getNodeExtent(view);
+	}
+
+	private Integer getAnchorY(View node, Anchor anchor) {
+		Point location = getAnchorLocation(node, anchor);
+		return location == null ? null : location.y;
+	}
+
+	/**
+	 * @return the location of the end of an edge in the coordinates of the interaction compartment, null if it is unknown
+	 */
+	private Point getAnchorLocation(View node, Anchor anchor) {
+		Rectangle bounds = getNodeBounds(node);
+		if (bounds == null || !(anchor instanceof IdentityAnchor) || ((IdentityAnchor) anchor).getId() == null || ((IdentityAnchor) anchor).getId().isEmpty()) {
+			return null;
+		}
+		PrecisionPoint terminal = BaseSlidableAnchor.parseTerminalString(((IdentityAnchor) anchor).getId());
+		int x = terminal.preciseX() > 1 ? (int) terminal.preciseX() : (int) Math.round(terminal.preciseX() * bounds.width);
+		int y = terminal.preciseY() > 1 ? (int) terminal.preciseY() : (int) Math.round(terminal.preciseY() * bounds.height);
+		return new Point(bounds.x + x, bounds.y + y);
+	}
+
+	private int[] getNodeExtent(View view) {
+		Rectangle bounds = getNodeBounds(view);
+		return bounds == null ? null : new int[] { bounds.y, bounds.bottom() };
+	}
+
+	/**
+	 * @return the bounds of a node in the coordinates of the interaction compartment, null if they are unknown
+	 */
+	private Rectangle getNodeBounds(View view) {
+		View compartmentView = (View) compartmentEp.getModel();
+		if (!(view instanceof Node) || !(((Node) view).getLayoutConstraint() instanceof Bounds)) {
+			return null;
+		}
+		Bounds nodeBounds = (Bounds) ((Node) view).getLayoutConstraint();
+		int width = nodeBounds.getWidth();
+		int height = nodeBounds.getHeight();
+		if (width < 0 || height < 0) {
+			// Default size: the size is only known by the figure.
+			Object editPart = compartmentEp.getViewer().getEditPartRegistry().get(view);
+			if (!(editPart instanceof GraphicalEditPart)) {
+				return null;
+			}
+			width = width < 0 ? ((GraphicalEditPart) editPart).getFigure().getBounds().width : width;
+			height = height < 0 ? ((GraphicalEditPart) editPart).getFigure().getBounds().height : height;
+		}
+		int left = 0;
+		int top = 0;
+		View current = view;
+		while (current != compartmentView) {
+			if (!(current instanceof Node)) {
+				return null;
+			}
+			LayoutConstraint constraint = ((Node) current).getLayoutConstraint();
+			if (constraint instanceof Bounds) {
+				left += ((Bounds) constraint).getX();
+				top += ((Bounds) constraint).getY();
+			}
+			current = (View) current.eContainer();
+		}
+		return new Rectangle(left, top, width, height);
+	}
+
+	/**
+	 * @param absoluteY
+	 *            a position in absolute coordinates
+	 * @return the position in the coordinates of the interaction compartment, the ones of the bounds of its views
+	 */
+	private int toLayoutY(int absoluteY) {
+		IFigure contentPane = compartmentEp.getContentPane();
+		Point location = new Point(0, absoluteY);
+		contentPane.translateToRelative(location);
+		return location.y - contentPane.getClientArea().y;
+	}
+
+	/**
+	 * @param layoutLocation
+	 *            a location in the coordinates of the interaction compartment, translated in place
+	 * @return the location in the coordinates of the layer of the placeholders
+	 */
+	private Point toPlaceholderLayer(Point layoutLocation) {
+		IFigure contentPane = compartmentEp.getContentPane();
+		layoutLocation.translate(contentPane.getClientArea().getLocation());
+		contentPane.translateToAbsolute(layoutLocation);
+		placeholderLayer.translateToRelative(layoutLocation);
+		return layoutLocation;
+	}
+
+	/**
+	 * Computes the bands intersecting the visible area, extended by the margin.
+	 *
+	 * @return true if the bands changed
+	 */
+	private boolean computeBands() {
+		if (!(compartmentEp.getViewer().getControl() instanceof FigureCanvas)) {
+			return false;
+		}
+		Viewport viewport = ((FigureCanvas) compartmentEp.getViewer().getControl()).getViewport();
+		Rectangle visible = viewport.getClientArea().getCopy();
+		if (visible.height <= 0) {
+			return false;
+		}
+		viewport.translateToParent(visible);
+		viewport.translateToAbsolute(visible);
+		IFigure contentPane = compartmentEp.getContentPane();
+		contentPane.translateToRelative(visible);
+
+		int newFirstBand = Math.floorDiv(visible.y - MARGIN, BAND_HEIGHT);
+		int newLastBand = Math.floorDiv(visible.bottom() + MARGIN, BAND_HEIGHT);
+		if (newFirstBand == firstBand && newLastBand == lastBand) {
+			return false;
+		}
+		firstBand = newFirstBand;
+		lastBand = newLastBand;
+		return true;
+	}
+
+	/**
+	 * @param force
+	 *            true if the views may have been modified: the edit parts are refreshed even if the bands did not change,
+	 *            and the cached bounds of the placeholders are computed again
+	 */
+	private void scheduleUpdate(boolean force) {
+		forcedUpdate |= force;
+		if (updateScheduled && !force) {
+			return;
+		}
+		updateScheduled = true;
+		Display.getDefault().asyncExec(() -> {
+			if (!updateScheduled) {
+				return;
+			}
+			updateScheduled = false;
+			boolean viewsChanged = forcedUpdate;
+			forcedUpdate = false;
+			if (active && (computeBands() || viewsChanged)) {
+				refreshEditParts(viewsChanged);
+			}
+		});
+	}
+
+	private void commandStackChanged(CommandStackEvent event) {
+		if (event.isPostChangeEvent()) {
+			scheduleUpdate(true);
+		}
+	}
+
+	/**
+	 * Creates the edit parts of the views that entered the visible bands, and removes the ones of the views that left them.
+	 *
+	 * @param viewsChanged
+	 *            true if the bounds of the placeholders must be computed again
+	 */
+	private void refreshEditParts(boolean viewsChanged) {
+		if (!compartmentEp.isActive()) {
+			return;
+		}
+		compartmentEp.refresh();
+		AdoneSequenceUtil.refreshLifelineContents(compartmentEp);
+		updatePlaceholders(viewsChanged);
+	}
+
+	/**
+	 * Removes the placeholders of the views that got their edit parts, and adds the ones of the views that lost them.
+	 *
+	 * @param viewsChanged
+	 *            true if the cached bounds of the kept placeholders must be computed again
+	 */
+	private void updatePlaceholders(boolean viewsChanged) {
+		if (placeholderLayer == null) {
+			return;
+		}
+		Set<View> views = getViewsWithoutEditPart();
+		views.removeIf(AdoneCombinedFragmentCollapseUtil::isHidden);
+		for (Iterator<Map.Entry<View, AdoneVirtualizedPlaceholderFigure>> iterator = placeholders.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<View, AdoneVirtualizedPlaceholderFigure> entry = iterator.next();
+			if (!views.contains(entry.getKey())) {
+				placeholderLayer.remove(entry.getValue());
+				iterator.remove();
+			}
+		}
+		for (View view : views) {
+			AdoneVirtualizedPlaceholderFigure placeholder = placeholders.get(view);
+			if (placeholder != null && !viewsChanged) {
+				continue;
+			}
+			if (placeholder == null) {
+				placeholder = new AdoneVirtualizedPlaceholderFigure();
+			}
+			if (placePlaceholder(placeholder, view)) {
+				if (placeholders.put(view, placeholder) == null) {
+					placeholderLayer.add(placeholder);
+				}
+			} else if (placeholders.remove(view) != null) {
+				placeholderLayer.remove(placeholder);
+			}
+		}
+	}
+
+	/**
+	 * @return false if the bounds of the view are unknown
+	 */
+	private boolean placePlaceholder(AdoneVirtualizedPlaceholderFigure placeholder, View view) {
+		if (view instanceof Edge) {
+			Edge edge = (Edge) view;
+			Point source = getAnchorLocation(edge.getSource(), edge.getSourceAnchor());
+			Point target = getAnchorLocation(edge.getTarget(), edge.getTargetAnchor());
+			if (source == null || target == null) {
+				return false;
+			}
+			placeholder.setLine(toPlaceholderLayer(source), toPlaceholderLayer(target));
+			return true;
+		}
+		Rectangle bounds = getNodeBounds(view);
+		if (bounds == null) {
+			return false;
+		}
+		Point topLeft = toPlaceholderLayer(bounds.getTopLeft());
+		placeholder.setNodeBounds(new Rectangle(topLeft, bounds.getSize()));
+		return true;
+	}
+}
@@ -29,6 +29,7 @@ import org.eclipse.papyrus.infra.core.services.ServicesRegistry;
 import org.eclipse.papyrus.infra.internationalization.utils.utils.LabelInternationalization;
 import org.eclipse.papyrus.uml.diagram.sequence.part.UMLDiagramEditor;
 import org.eclipse.papyrus.uml.diagram.sequence.part.UMLDiagramEditorPlugin;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneDiagramOpenPipeline;
 import org.eclipse.papyrus.uml.diagram.sequence.util.FixGateViewOnOpening;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
@@ -67,7 +68,8 @@ public class UmlSequenceDiagramForMultiEditor extends UMLDiagramEditor {
 	public UmlSequenceDiagramForMultiEditor(ServicesRegistry servicesRegistry, Diagram diagram) throws BackboneException, ServiceException {
 		super(servicesRegistry, diagram);
 		// Fix to add graphical view of gate. (see https://bugs.eclipse.org/bugs/show_bug.cgi?id=389531)
-		new FixGateViewOnOpening().fix(diagram);
+		// The fix-ups share a single traversal of the diagram
+		new AdoneDiagramOpenPipeline().addVisitor(new FixGateViewOnOpening()).run(diagram);
 	}
 
 	/**
@@ -28,6 +28,7 @@ import org.eclipse.gmf.runtime.notation.View;
 import org.eclipse.papyrus.infra.gmfdiag.common.editpolicies.IMaskManagedLabelEditPolicy;
 import org.eclipse.papyrus.infra.tools.util.StringHelper;
 import org.eclipse.papyrus.uml.diagram.common.helper.StereotypedElementLabelHelper;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneMessageLabelCache;
 import org.eclipse.papyrus.uml.diagram.sequence.util.OperationUtil;
 import org.eclipse.papyrus.uml.diagram.sequence.util.SignalUtil;
 import org.eclipse.papyrus.uml.internationalization.utils.utils.UMLLabelInternationalization;
@@ -102,6 +103,11 @@ public class MessageLabelHelper extends StereotypedElementLabelHelper {
 		if (e == null) {
 			return null;
 		}
+		Collection<String> display = displayValue;
+		return AdoneMessageLabelCache.getInstance().getLabel(e, MessageLabelHelper.class.getName(), displayValue, () -> getLabel(e, display));
+	}
+
+	private String getLabel(Message e, Collection<String> displayValue) {
 		NamedElement signature = e.getSignature();
 		if (signature instanceof Operation) {
 			return OperationUtil.getCustomLabel(e, (Operation) signature, displayValue);
@@ -430,7 +430,10 @@ public class LifelineFigure extends RoundedCompartmentFigure {
 		graphics.setLineWidth(1);
 		graphics.drawRectangle(rect.x, rect.y, rect.width - 1, ((LifeLineLayoutManager) this.getLifeLineLayoutManager()).getBottomHeader() - rect.y);
 		// Draw dash line first to be under child
-		graphics.setLineDash(new int[] { 5, 5 });
+		int[] lineDash = getLineDash(graphics);
+		if (null != lineDash) {
+			graphics.setLineDash(lineDash);
+		}
 		graphics.drawLine(new Point(rect.x + rect.width / 2, ((LifeLineLayoutManager) this.getLifeLineLayoutManager()).getBottomHeader()), new Point(rect.x + rect.width / 2, rect.y + rect.height - 1));
 
 		// DEBUG: to draw the convex hull of the lifeline shape (bug 531520)
@@ -448,6 +451,15 @@ public class LifelineFigure extends RoundedCompartmentFigure {
 		super.paint(graphics);
 	}
 
+	/**
+	 * @param graphics
+	 *            graphics tool
+	 * @return the dash of the line of the lifeline, null to draw a solid line
+	 */
+	protected int[] getLineDash(Graphics graphics) {
+		return new int[] { 5, 5 };
+	}
+
 	/**
 	 * [{@inheritDoc}
 	 *
@@ -106,5 +106,19 @@ public class Messages extends NLS {
 	 */
 	public static String CustomDiagramGeneralPreferencePage_othersGroupLabel;
 
+	public static String CustomDiagramGeneralPreferencePage_ViewportVirtualizationDescription;
+
+	public static String CustomDiagramGeneralPreferencePage_LevelOfDetailTextZoom;
+
+	public static String CustomDiagramGeneralPreferencePage_LevelOfDetailShapeZoom;
+
+	public static String CombinedFragmentCollapse_CollapseCommand;
+
+	public static String CombinedFragmentCollapse_ExpandCommand;
+
+	public static String CombinedFragmentCollapse_SummaryOneMessage;
+
+	public static String CombinedFragmentCollapse_SummaryMessages;
+
 }
 
@@ -18,6 +18,7 @@ package org.eclipse.papyrus.uml.diagram.sequence.parser.custom;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.core.runtime.IAdaptable;
@@ -25,6 +26,7 @@ import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.gmf.runtime.emf.ui.services.parser.ISemanticParser;
 import org.eclipse.papyrus.uml.diagram.sequence.parsers.MessageFormatParser;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneMessageLabelCache;
 import org.eclipse.papyrus.uml.internationalization.utils.utils.UMLLabelInternationalization;
 import org.eclipse.papyrus.uml.tools.utils.ICustomAppearance;
 import org.eclipse.papyrus.uml.tools.utils.OperationUtil;
@@ -41,6 +43,12 @@ import org.eclipse.uml2.uml.UMLPackage;
 
 public class MessageCustomParser extends MessageFormatParser implements ISemanticParser {
 
+	private static final Collection<String> REPLY_DISPLAY = Arrays.asList(ICustomAppearance.DISP_NAME, ICustomAppearance.DISP_RT_TYPE);
+
+	private static final Collection<String> SYNCH_CALL_DISPLAY = Arrays.asList(ICustomAppearance.DISP_NAME, ICustomAppearance.DISP_PARAMETER_NAME, ICustomAppearance.DISP_PARAMETER_TYPE);
+
+	private static final Collection<String> DEFAULT_DISPLAY = Arrays.asList(ICustomAppearance.DISP_NAME, ICustomAppearance.DISP_PARAMETER_NAME, ICustomAppearance.DISP_PARAMETER_TYPE, ICustomAppearance.DISP_RT_TYPE);
+
 	public MessageCustomParser(EAttribute[] features) {
 		super(features);
 	}
@@ -59,25 +67,32 @@ public class MessageCustomParser extends MessageFormatParser implements ISemanti
 		String result = null;
 		if (obj instanceof Message) {
 			Message message = (Message) obj;
-			NamedElement signature = message.getSignature();
-			if (signature instanceof Operation) {
-				Operation operation = (Operation) signature;
-				if (MessageSort.REPLY_LITERAL.equals(message.getMessageSort())) {
-					result = OperationUtil.getCustomLabel(operation, Arrays.asList(ICustomAppearance.DISP_NAME, ICustomAppearance.DISP_RT_TYPE));
-				} else if (MessageSort.SYNCH_CALL_LITERAL.equals(message.getMessageSort())) {
-					result = OperationUtil.getCustomLabel(operation, Arrays.asList(ICustomAppearance.DISP_NAME, ICustomAppearance.DISP_PARAMETER_NAME, ICustomAppearance.DISP_PARAMETER_TYPE));
-				} else {
-					result = OperationUtil.getCustomLabel(operation, Arrays.asList(ICustomAppearance.DISP_NAME, ICustomAppearance.DISP_PARAMETER_NAME, ICustomAppearance.DISP_PARAMETER_TYPE, ICustomAppearance.DISP_RT_TYPE));
-				}
-			} else if (signature instanceof Signal) {
-				result = SignalUtil.getCustomLabel((Signal) signature, Arrays.asList(ICustomAppearance.DISP_NAME, ICustomAppearance.DISP_TYPE));
-			} else if (signature != null) {
-				result = UMLLabelInternationalization.getInstance().getLabel(signature);
-			}
-			// If the String is empty, we add the name of the message
-			if (result == null || result.equals("")) {
-				result = UMLLabelInternationalization.getInstance().getLabel(message);
+			Collection<String> displayValue;
+			if (MessageSort.REPLY_LITERAL.equals(message.getMessageSort())) {
+				displayValue = REPLY_DISPLAY;
+			} else if (MessageSort.SYNCH_CALL_LITERAL.equals(message.getMessageSort())) {
+				displayValue = SYNCH_CALL_DISPLAY;
+			} else {
+				displayValue = DEFAULT_DISPLAY;
 			}
+			result = AdoneMessageLabelCache.getInstance().getLabel(message, MessageCustomParser.class.getName(), displayValue, () -> getLabel(message, displayValue));
+		}
+		return result;
+	}
+
+	private String getLabel(Message message, Collection<String> displayValue) {
+		String result = null;
+		NamedElement signature = message.getSignature();
+		if (signature instanceof Operation) {
+			result = OperationUtil.getCustomLabel((Operation) signature, displayValue);
+		} else if (signature instanceof Signal) {
+			result = SignalUtil.getCustomLabel((Signal) signature, Arrays.asList(ICustomAppearance.DISP_NAME, ICustomAppearance.DISP_TYPE));
+		} else if (signature != null) {
+			result = UMLLabelInternationalization.getInstance().getLabel(signature);
+		}
+		// If the String is empty, we add the name of the message
+		if (result == null || result.equals("")) {
+			result = UMLLabelInternationalization.getInstance().getLabel(message);
 		}
 		return result;
 	}
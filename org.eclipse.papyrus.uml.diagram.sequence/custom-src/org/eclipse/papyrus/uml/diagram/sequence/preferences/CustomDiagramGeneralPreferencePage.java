@@ -81,6 +81,21 @@ public class CustomDiagramGeneralPreferencePage extends DiagramPreferencePage {
 	 */
 	public static final String PREF_TRIGGER_ASYNC_VALIDATION = "PREF_TRIGGER_ASYNC_VALIDATION"; //$NON-NLS-1$
 
+	/**
+	 * preference key to create the edit parts of the messages, execution specifications and combined fragments only around the visible part of the interaction.
+	 */
+	public static final String PREF_VIEWPORT_VIRTUALIZATION = "PREF_VIEWPORT_VIRTUALIZATION"; //$NON-NLS-1$
+
+	/**
+	 * preference key of the zoom (in percent) below which the labels and the decorations of the sequence figures are not painted, 0 to always paint them.
+	 */
+	public static final String PREF_LOD_TEXT_ZOOM = "PREF_LOD_TEXT_ZOOM"; //$NON-NLS-1$
+
+	/**
+	 * preference key of the zoom (in percent) below which the lifelines and the execution specifications are painted as simple lines and bars, 0 to never simplify them.
+	 */
+	public static final String PREF_LOD_SHAPE_ZOOM = "PREF_LOD_SHAPE_ZOOM"; //$NON-NLS-1$
+
 	/**
 	 * possible preference values
 	 */
@@ -130,6 +145,9 @@ public class CustomDiagramGeneralPreferencePage extends DiagramPreferencePage {
 		triggerValidation = new BooleanFieldEditor(PREF_TRIGGER_ASYNC_VALIDATION,
 				Messages.DiagramsPreferencePage_triggerValidation_label, otherGroup);
 		addField(triggerValidation);
+		addField(new BooleanFieldEditor(PREF_VIEWPORT_VIRTUALIZATION, Messages.CustomDiagramGeneralPreferencePage_ViewportVirtualizationDescription, otherGroup));
+		addField(new IntegerFieldEditor(PREF_LOD_TEXT_ZOOM, Messages.CustomDiagramGeneralPreferencePage_LevelOfDetailTextZoom, otherGroup));
+		addField(new IntegerFieldEditor(PREF_LOD_SHAPE_ZOOM, Messages.CustomDiagramGeneralPreferencePage_LevelOfDetailShapeZoom, otherGroup));
 	}
 
 	/**
@@ -176,5 +194,10 @@ public class CustomDiagramGeneralPreferencePage extends DiagramPreferencePage {
 
 		preferenceStore.setDefault(PREF_TRIGGER_ASYNC_VALIDATION, false);
 
+		preferenceStore.setDefault(PREF_VIEWPORT_VIRTUALIZATION, false);
+
+		preferenceStore.setDefault(PREF_LOD_TEXT_ZOOM, 0);
+		preferenceStore.setDefault(PREF_LOD_SHAPE_ZOOM, 0);
+
 	}
 }
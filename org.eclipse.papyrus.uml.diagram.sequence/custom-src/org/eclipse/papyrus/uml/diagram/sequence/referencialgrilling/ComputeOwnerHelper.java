@@ -19,19 +19,22 @@ package org.eclipse.papyrus.uml.diagram.sequence.referencialgrilling;
 import static org.eclipse.papyrus.uml.diagram.sequence.util.ExecutionSpecificationUtil.getStartedExecution;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.edit.command.SetCommand;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.gmf.runtime.notation.DecorationNode;
+import org.eclipse.papyrus.uml.diagram.sequence.command.AdoneListPatchCommand;
 import org.eclipse.papyrus.uml.diagram.sequence.part.UMLDiagramEditorPlugin;
 import org.eclipse.papyrus.uml.diagram.sequence.util.LogOptions;
-import org.eclipse.papyrus.uml.diagram.sequence.validation.AsyncValidateCommand;
 import org.eclipse.uml2.uml.CombinedFragment;
 import org.eclipse.uml2.uml.Element;
 import org.eclipse.uml2.uml.ExecutionOccurrenceSpecification;
@@ -71,8 +74,32 @@ public class ComputeOwnerHelper implements IComputeOwnerHelper {
 
 
 	protected static void fillVerticalMatch(ArrayList<DecorationNode> rows, Map<Element, ArrayList<InteractionOperand>> verticalElementToOperand) {
+		fillVerticalMatch(rows, verticalElementToOperand, Collections.emptySet());
+	}
+
+	/**
+	 * Same as {@link #fillVerticalMatch(ArrayList, Map)}, but the rows of the frozen fragments are ignored:
+	 * a frozen operand does not enclose the rows between its start and its end, it only places its Combined Fragment when it is the first one.
+	 *
+	 * @param rows
+	 *            the rows of the grid
+	 * @param verticalElementToOperand
+	 *            the map to fill
+	 * @param frozenFragments
+	 *            the fragments whose position in the grid does not reflect their order (see {@link GridManagementEditPolicy#getFrozenFragments()})
+	 */
+	protected static void fillVerticalMatch(ArrayList<DecorationNode> rows, Map<Element, ArrayList<InteractionOperand>> verticalElementToOperand, Set<InteractionFragment> frozenFragments) {
 		ArrayList<InteractionOperand> interactionOperandStack = new ArrayList<>();
 		for (DecorationNode row : rows) {
+			if (frozenFragments.contains(row.getElement())) {
+				if (row.getElement() instanceof InteractionOperand) {
+					CombinedFragment fragment = getOwningFragment((InteractionOperand) row.getElement());
+					if (fragment != null && fragment.getOperands().get(0) == row.getElement() && !verticalElementToOperand.containsKey(fragment)) {
+						verticalElementToOperand.put(fragment, new ArrayList<>(interactionOperandStack));
+					}
+				}
+				continue;
+			}
 			if (row.getElement() instanceof InteractionOperand) {
 				InteractionOperand operand = (InteractionOperand) row.getElement();
 				if (interactionOperandStack.remove(operand)) { // End of Operand
@@ -100,7 +127,8 @@ public class ComputeOwnerHelper implements IComputeOwnerHelper {
 		HashMap<Element, ArrayList<InteractionOperand>> verticalElementToOperand = new HashMap<>();
 		fillHorizontalMatch(columns, horizontalLifeLinetoOperand);
 		UMLDiagramEditorPlugin.log.trace(LogOptions.SEQUENCE_DEBUG_REFERENCEGRID, "horizontal parsing done " + horizontalLifeLinetoOperand);//$NON-NLS-1$
-		fillVerticalMatch(rows, verticalElementToOperand);
+		Set<InteractionFragment> frozenFragments = grid.getFrozenFragments();
+		fillVerticalMatch(rows, verticalElementToOperand, frozenFragments);
 		UMLDiagramEditorPlugin.log.trace(LogOptions.SEQUENCE_DEBUG_REFERENCEGRID, "vertical parsing done " + verticalElementToOperand);//$NON-NLS-1$
 
 		// list of element for the interaction
@@ -111,7 +139,7 @@ public class ComputeOwnerHelper implements IComputeOwnerHelper {
 		Iterator<EObject> elementInteraction = interaction.eAllContents();
 		while (elementInteraction.hasNext()) {
 			Element element = (Element) elementInteraction.next();
-			if (element instanceof InteractionFragment) {
+			if (element instanceof InteractionFragment && !frozenFragments.contains(element)) {
 				InteractionFragment aFragment = (InteractionFragment) element;
 				if (verticalElementToOperand.containsKey(aFragment)) {
 					for (Lifeline currentLifeline : horizontalLifeLinetoOperand.keySet()) {
@@ -167,7 +195,8 @@ public class ComputeOwnerHelper implements IComputeOwnerHelper {
 				ArrayList<InteractionFragment> sorted = sortSemanticFromRows(elements, rows);
 				existedFragments.addAll(sorted);
 				existedFragments.addAll(interactionOperand.getFragments());
-				grid.execute(new SetCommand(domain, interactionOperand, UMLPackage.eINSTANCE.getInteractionOperand_Fragment(), existedFragments));
+				existedFragments = keepFrozenPositions(existedFragments, interactionOperand.getFragments(), frozenFragments);
+				grid.execute(new AdoneListPatchCommand(interactionOperand, UMLPackage.eINSTANCE.getInteractionOperand_Fragment(), existedFragments));
 
 				// Asynchronously re-validate the whole combined fragment in case of
 				// dependencies between operands and the check for consistency between
@@ -176,8 +205,7 @@ public class ComputeOwnerHelper implements IComputeOwnerHelper {
 				Optional<CombinedFragment> cfrag = Optional.of(interactionOperand)
 						.map(Element::getOwner).filter(CombinedFragment.class::isInstance)
 						.map(CombinedFragment.class::cast);
-				cfrag.flatMap(AsyncValidateCommand::get)
-						.ifPresent(grid::execute);
+				cfrag.ifPresent(grid::validateCombinedFragment);
 			}
 		}
 
@@ -203,7 +231,8 @@ public class ComputeOwnerHelper implements IComputeOwnerHelper {
 					}
 				}
 			}
-			grid.execute(new SetCommand(domain, interaction, UMLPackage.eINSTANCE.getInteraction_Fragment(), existedFragments));
+			existedFragments = keepFrozenPositions(existedFragments, interaction.getFragments(), frozenFragments);
+			grid.execute(new AdoneListPatchCommand(interaction, UMLPackage.eINSTANCE.getInteraction_Fragment(), existedFragments));
 		}
 	}
 
@@ -287,4 +316,51 @@ public class ComputeOwnerHelper implements IComputeOwnerHelper {
 		list.retainAll(list2);
 		return list;
 	}
+
+	/**
+	 * Merges the frozen elements of a list into its reordered values: each frozen element keeps its place after the element preceding it in the current list,
+	 * as its position in the grid can not be used to order it.
+	 *
+	 * @param reordered
+	 *            the new values of the list, computed from the grid
+	 * @param current
+	 *            the current values of the list
+	 * @param frozen
+	 *            the elements to keep in place
+	 * @return the new values of the list, without duplicates
+	 */
+	protected static <T> ArrayList<T> keepFrozenPositions(List<T> reordered, List<T> current, Set<?> frozen) {
+		LinkedHashSet<T> result = new LinkedHashSet<>();
+		if (frozen.isEmpty()) {
+			result.addAll(reordered);
+			return new ArrayList<>(result);
+		}
+		Set<T> kept = new HashSet<>(reordered);
+		Set<T> anchored = new HashSet<>();
+		Map<T, List<T>> followers = new HashMap<>();
+		T anchor = null;
+		for (T value : current) {
+			if (frozen.contains(value)) {
+				anchored.add(value);
+				if (anchor == null) {
+					result.add(value);
+				} else {
+					followers.computeIfAbsent(anchor, a -> new ArrayList<>()).add(value);
+				}
+			} else if (kept.contains(value)) {
+				anchor = value;
+			}
+		}
+		for (T value : reordered) {
+			if (anchored.contains(value)) {
+				continue;
+			}
+			result.add(value);
+			List<T> following = followers.remove(value);
+			if (following != null) {
+				result.addAll(following);
+			}
+		}
+		return new ArrayList<>(result);
+	}
 }
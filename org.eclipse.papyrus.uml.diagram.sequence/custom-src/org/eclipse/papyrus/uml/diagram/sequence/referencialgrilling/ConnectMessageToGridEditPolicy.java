@@ -182,6 +182,23 @@ public class ConnectMessageToGridEditPolicy extends GraphicalEditPolicyEx implem
 	@Override
 	public void deactivate() {
 		getDiagramEventBroker().removeNotificationListener(((EObject) getHost().getModel()), this);
+		if (rowSource != null) {
+			getDiagramEventBroker().removeNotificationListener(rowSource, this);
+		}
+		if (rowTarget != null) {
+			getDiagramEventBroker().removeNotificationListener(rowTarget, this);
+		}
+		// the rows are reused if the edit part is created again
+		DiagramEditPart diagramEditPart = getDiagramEditPart(getHost());
+		if (diagramEditPart != null && diagramEditPart.getEditPolicy(GridManagementEditPolicy.GRID_MANAGEMENT) instanceof GridManagementEditPolicy) {
+			GridManagementEditPolicy grilling = (GridManagementEditPolicy) diagramEditPart.getEditPolicy(GridManagementEditPolicy.GRID_MANAGEMENT);
+			if (rowSource instanceof DecorationNode) {
+				grilling.releaseAxis((DecorationNode) rowSource);
+			}
+			if (rowTarget instanceof DecorationNode) {
+				grilling.releaseAxis((DecorationNode) rowTarget);
+			}
+		}
 		super.deactivate();
 	}
 
@@ -200,6 +200,15 @@ public class ConnectRectangleToGridEditPolicy extends ConnectToGridEditPolicy im
 		if (columnFinish != null) {
 			getDiagramEventBroker().removeNotificationListener(columnFinish, this);
 		}
+		// the axes are reused if the edit part is created again
+		DiagramEditPart diagramEditPart = getDiagramEditPart(getHost());
+		if (diagramEditPart != null && diagramEditPart.getEditPolicy(GridManagementEditPolicy.GRID_MANAGEMENT) instanceof GridManagementEditPolicy) {
+			GridManagementEditPolicy grilling = (GridManagementEditPolicy) diagramEditPart.getEditPolicy(GridManagementEditPolicy.GRID_MANAGEMENT);
+			grilling.releaseAxis(rowStart);
+			grilling.releaseAxis(columnStart);
+			grilling.releaseAxis(rowFinish);
+			grilling.releaseAxis(columnFinish);
+		}
 		super.deactivate();
 	}
 
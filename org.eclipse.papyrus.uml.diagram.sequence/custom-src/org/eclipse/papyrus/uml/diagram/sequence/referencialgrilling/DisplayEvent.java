@@ -18,6 +18,7 @@ package org.eclipse.papyrus.uml.diagram.sequence.referencialgrilling;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.Ellipse;
@@ -36,6 +37,7 @@ import org.eclipse.gmf.runtime.notation.Node;
 import org.eclipse.papyrus.infra.gmfdiag.common.editpart.NodeEditPart;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.AbstractExecutionSpecificationEditPart;
 import org.eclipse.papyrus.uml.diagram.sequence.edit.parts.CLifeLineEditPart;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneFeedbackThrottle;
 import org.eclipse.papyrus.uml.diagram.sequence.util.SequenceUtil;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.uml2.uml.ExecutionSpecification;
@@ -59,6 +61,28 @@ public class DisplayEvent {
 	 */
 	private EditPart editpart;
 
+	/**
+	 * Event figures reused from one call of {@link #addFigureEvent(IFigure, Point)} to the next.
+	 */
+	private final List<EventFig> eventFigurePool = new ArrayList<>();
+
+	/**
+	 * Number of figures of the pool used by the last call of {@link #addFigureEvent(IFigure, Point)}.
+	 */
+	private int usedEventFigures = 0;
+
+	/**
+	 * Container and location of the last call of {@link #addFigureEvent(IFigure, Point)}, to display the events again once the pointer has settled.
+	 */
+	private IFigure lastContainer;
+
+	private Point lastLocation;
+
+	/**
+	 * Skips the update of the events while the pointer moves fast.
+	 */
+	private final AdoneFeedbackThrottle feedbackThrottle = new AdoneFeedbackThrottle(this::refreshFigureEvent);
+
 	/**
 	 * Constructor.
 	 *
@@ -92,7 +116,7 @@ public class DisplayEvent {
 		// display all events from messages
 		Node node = (Node) editpart.getModel();
 		@SuppressWarnings("unchecked")
-		java.util.List<Edge> sourceEdge = node.getSourceEdges();
+		List<Edge> sourceEdge = node.getSourceEdges();
 		for (Edge edge : sourceEdge) {
 			MessageOccurrenceSpecification m = getMessageEvent((NodeEditPart) editpart, node, edge, LocationAbsolute);
 			if (m != null) {
@@ -100,7 +124,7 @@ public class DisplayEvent {
 			}
 		}
 		@SuppressWarnings("unchecked")
-		java.util.List<Edge> targetEdge = node.getTargetEdges();
+		List<Edge> targetEdge = node.getTargetEdges();
 		for (Edge edge : targetEdge) {
 			MessageOccurrenceSpecification m = getMessageEvent((NodeEditPart) editpart, node, edge, LocationAbsolute);
 			if (m != null) {
@@ -249,7 +273,7 @@ public class DisplayEvent {
 		// For Message Sources Event
 		Node node = (Node) editpart.getModel();
 		@SuppressWarnings("unchecked")
-		java.util.List<Edge> sourceEdge = node.getSourceEdges();
+		List<Edge> sourceEdge = node.getSourceEdges();
 		for (Edge edge : sourceEdge) {
 			IdentityAnchor anchor = (IdentityAnchor) edge.getSourceAnchor();
 			int y = getYfromAnchor(node, anchor);
@@ -260,7 +284,7 @@ public class DisplayEvent {
 
 		// For Message Target Event
 		@SuppressWarnings("unchecked")
-		java.util.List<Edge> targetEdges = node.getTargetEdges();
+		List<Edge> targetEdges = node.getTargetEdges();
 		for (Edge edge : targetEdges) {
 
 			IdentityAnchor anchor = (IdentityAnchor) edge.getTargetAnchor();
@@ -366,6 +390,16 @@ public class DisplayEvent {
 	 *            position on the screen
 	 */
 	public void addFigureEvent(IFigure container, Point locationOntheScreen) {
+		// While the pointer moves fast, the events already displayed in the container are kept as they are:
+		// only the highlight of the event under the pointer would change.
+		boolean movingFast = feedbackThrottle.update(locationOntheScreen);
+		lastLocation = locationOntheScreen.getCopy();
+		if (movingFast && container == lastContainer && usedEventFigures > 0) {
+			return;
+		}
+		lastContainer = container;
+		usedEventFigures = 0;
+
 		Point LocationAbsolute = locationOntheScreen.getCopy();
 		IFigure editPartFigure = ((GraphicalEditPart) editpart).getFigure();
 		editPartFigure.getParent().translateToRelative(LocationAbsolute);
@@ -378,12 +412,12 @@ public class DisplayEvent {
 		// display all events from messages
 		Node node = (Node) editpart.getModel();
 		@SuppressWarnings("unchecked")
-		java.util.List<Edge> sourceEdge = node.getSourceEdges();
+		List<Edge> sourceEdge = node.getSourceEdges();
 		for (Edge edge : sourceEdge) {
 			displayEventFromMessages((NodeEditPart) editpart, node, edge, LocationAbsolute);
 		}
 		@SuppressWarnings("unchecked")
-		java.util.List<Edge> targetEdge = node.getTargetEdges();
+		List<Edge> targetEdge = node.getTargetEdges();
 		for (Edge edge : targetEdge) {
 			displayEventFromMessages((NodeEditPart) editpart, node, edge, LocationAbsolute);
 		}
@@ -393,6 +427,23 @@ public class DisplayEvent {
 				displayEventFromExecutionSpecification((NodeEditPart) editpart, (AbstractExecutionSpecificationEditPart) part, LocationAbsolute);
 			}
 		}
+
+		// remove the figures of the pool that are not used anymore
+		for (int index = usedEventFigures; index < eventFigurePool.size(); index++) {
+			EventFig eventFig = eventFigurePool.get(index);
+			if (eventFig.getParent() != null) {
+				eventFig.getParent().remove(eventFig);
+			}
+		}
+	}
+
+	/**
+	 * Displays the events again with the last location of the pointer, once it has settled.
+	 */
+	private void refreshFigureEvent() {
+		if (lastContainer != null && usedEventFigures > 0 && editpart.isActive()) {
+			addFigureEvent(lastContainer, lastLocation);
+		}
 	}
 
 	/**
@@ -448,7 +499,11 @@ public class DisplayEvent {
 	 *            the current position of the mouse to know if we display in green
 	 */
 	protected void addAnEvent(IFigure container, double y, Color color, Point currentPosition) {
-		EventFig ellipseFigure = new EventFig();
+		// reuse a figure of the pool, the figures are not recreated on each pointer event
+		if (usedEventFigures == eventFigurePool.size()) {
+			eventFigurePool.add(new EventFig());
+		}
+		EventFig ellipseFigure = eventFigurePool.get(usedEventFigures++);
 		IFigure lifelineFigure = ((GraphicalEditPart) editpart).getFigure();
 		// code without grid
 		// calculate position of the Event in the screen references
@@ -460,7 +515,12 @@ public class DisplayEvent {
 		}
 		ellipseFigure.setLineWidth(2);
 		ellipseFigure.setBounds(EventBoundsOnScreen);
-		container.add(ellipseFigure);
+		if (ellipseFigure.getParent() != container) {
+			if (ellipseFigure.getParent() != null) {
+				ellipseFigure.getParent().remove(ellipseFigure);
+			}
+			container.add(ellipseFigure);
+		}
 	}
 
 	/**
@@ -470,6 +530,11 @@ public class DisplayEvent {
 	 *            the container figure
 	 */
 	public void removeFigureEvent(IFigure container) {
+		feedbackThrottle.reset();
+		if (container == lastContainer) {
+			lastContainer = null;
+			usedEventFigures = 0;
+		}
 		ArrayList<IFigure> eventFigureList = new ArrayList<>();
 		for (Object iFigure : container.getChildren()) {
 			if (iFigure instanceof IEventFig) {
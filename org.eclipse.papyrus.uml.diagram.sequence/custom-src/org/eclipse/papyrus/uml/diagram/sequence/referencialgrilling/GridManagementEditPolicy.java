@@ -20,11 +20,13 @@ package org.eclipse.papyrus.uml.diagram.sequence.referencialgrilling;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 import org.eclipse.core.commands.operations.OperationHistoryFactory;
@@ -42,20 +44,30 @@ import org.eclipse.gmf.runtime.diagram.ui.editparts.IGraphicalEditPart;
 import org.eclipse.gmf.runtime.gef.ui.internal.editpolicies.GraphicalEditPolicyEx;
 import org.eclipse.gmf.runtime.notation.BasicCompartment;
 import org.eclipse.gmf.runtime.notation.DecorationNode;
+import org.eclipse.gmf.runtime.notation.Diagram;
 import org.eclipse.gmf.runtime.notation.LayoutConstraint;
 import org.eclipse.gmf.runtime.notation.Location;
 import org.eclipse.gmf.runtime.notation.Node;
 import org.eclipse.gmf.runtime.notation.NotationPackage;
+import org.eclipse.gmf.runtime.notation.Style;
 import org.eclipse.gmf.runtime.notation.View;
 import org.eclipse.papyrus.infra.core.utils.OneShotExecutor;
 import org.eclipse.papyrus.infra.core.utils.TransactionHelper;
 import org.eclipse.papyrus.infra.gmfdiag.common.editpolicies.AutomaticNotationEditPolicy;
 import org.eclipse.papyrus.infra.gmfdiag.common.utils.DiagramEditPartsUtil;
+import org.eclipse.papyrus.uml.diagram.sequence.command.AdoneListPatchCommand;
 import org.eclipse.papyrus.uml.diagram.sequence.command.CreateCoordinateCommand;
 import org.eclipse.papyrus.uml.diagram.sequence.command.CreateGrillingStructureCommand;
 import org.eclipse.papyrus.uml.diagram.sequence.part.UMLDiagramEditorPlugin;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneCombinedFragmentCollapseUtil;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneScopedOperationListener;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneScopedOperationListener.ScopedChangeNotification;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceNotificationDispatcher;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneSequenceNotificationDispatcher.IBatchNotificationListener;
+import org.eclipse.papyrus.uml.diagram.sequence.util.AdoneViewportVirtualizer;
 import org.eclipse.papyrus.uml.diagram.sequence.util.LogOptions;
 import org.eclipse.papyrus.uml.diagram.sequence.util.RedirectionOperationListener;
+import org.eclipse.papyrus.uml.diagram.sequence.validation.AsyncValidateCommand;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.uml2.uml.CombinedFragment;
 import org.eclipse.uml2.uml.Element;
@@ -64,6 +76,8 @@ import org.eclipse.uml2.uml.Interaction;
 import org.eclipse.uml2.uml.InteractionFragment;
 import org.eclipse.uml2.uml.InteractionOperand;
 import org.eclipse.uml2.uml.Lifeline;
+import org.eclipse.uml2.uml.Message;
+import org.eclipse.uml2.uml.MessageEnd;
 import org.eclipse.uml2.uml.UMLPackage;
 
 /**
@@ -82,6 +96,7 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 
 	private Executor transactionExecutor;
 	private Executor coveredUpdateExecutor;
+	private AdoneReconciliationBatch reconciliationBatch;
 
 	/**
 	 * @return the threshold
@@ -178,6 +193,25 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 	};
 	protected RedirectionOperationListener operationHistoryListener;
 
+	/** elements modified since the last reconciliation of the grid **/
+	protected Set<EObject> pendingChangedElements = new LinkedHashSet<>();
+
+	/** elements modified by the operations that triggered the current (or last) reconciliation of the grid **/
+	protected Set<EObject> lastChangedElements = new LinkedHashSet<>();
+
+	/** rows sorted by Y, maintained from the notifications of the grilling compartment **/
+	protected AdoneGridAxisIndex rowIndex = new AdoneGridAxisIndex();
+
+	/** columns sorted by X, maintained from the notifications of the grilling compartment **/
+	protected AdoneGridAxisIndex columnIndex = new AdoneGridAxisIndex();
+
+	/** true when the indexes must be rebuilt from the children of the grilling compartment **/
+	protected boolean axisIndexDirty = true;
+
+	private final IBatchNotificationListener axisIndexListener = this::updateAxisIndexes;
+
+	/** rows and columns listened by the edit policies of the edit parts, the other ones are reused when their element gets an edit part again **/
+	protected Set<DecorationNode> listenedAxes = new HashSet<>();
 
 
 
@@ -200,14 +234,25 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 				((IGraphicalEditPart) getHost()).getEditingDomain(),
 				Display.getCurrent()::asyncExec);
 		coveredUpdateExecutor = new OneShotExecutor(transactionExecutor);
+		reconciliationBatch = new AdoneReconciliationBatch(((IGraphicalEditPart) getHost()).getEditingDomain(), this::execute);
 
 		getDiagramEventBroker().addNotificationListener(((EObject) getHost().getModel()), this);
 
 		// contentDiagramListener = new ContentDiagramListener(this);
 		// commandStackListener = new GridCommandStackListener(this);
 
-		this.operationHistoryListener = new RedirectionOperationListener(this);
+		// only the operations that modify this diagram or its interaction trigger a reconciliation
+		this.operationHistoryListener = new AdoneScopedOperationListener(this, ((IGraphicalEditPart) getHost()).getEditingDomain(), getDiagramView());
 		OperationHistoryFactory.getOperationHistory().addOperationHistoryListener(this.operationHistoryListener);
+
+		// rows and columns are kept sorted from the add/remove/move notifications of the decoration nodes
+		AdoneSequenceNotificationDispatcher dispatcher = AdoneSequenceNotificationDispatcher.getInstance(((IGraphicalEditPart) getHost()).getEditingDomain());
+		dispatcher.addListener(NotationPackage.eINSTANCE.getBasicCompartment(), NotationPackage.eINSTANCE.getView_PersistedChildren(), axisIndexListener);
+		dispatcher.addListener(NotationPackage.eINSTANCE.getBasicCompartment(), NotationPackage.eINSTANCE.getView_TransientChildren(), axisIndexListener);
+		dispatcher.addListener(NotationPackage.eINSTANCE.getDecorationNode(), NotationPackage.eINSTANCE.getNode_LayoutConstraint(), axisIndexListener);
+		dispatcher.addListener(NotationPackage.eINSTANCE.getLocation(), NotationPackage.eINSTANCE.getLocation_X(), axisIndexListener);
+		dispatcher.addListener(NotationPackage.eINSTANCE.getLocation(), NotationPackage.eINSTANCE.getLocation_Y(), axisIndexListener);
+		axisIndexDirty = true;
 		// ((EObject) getHost().getModel()).eResource().eAdapters().add(contentDiagramListener);
 
 		// getDiagramEditPart(getHost()).getEditingDomain().getCommandStack().addCommandStackListener(commandStackListener);
@@ -216,6 +261,15 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 		refreshGrillingStructure();
 	}
 
+	/**
+	 * @return the diagram view managed by the grid
+	 */
+	protected View getDiagramView() {
+		View view = (View) getHost().getModel();
+		Diagram diagram = view.getDiagram();
+		return null != diagram ? diagram : view;
+	}
+
 	/**
 	 *
 	 */
@@ -255,24 +309,107 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 	 * update the list of romw and colmumn
 	 */
 	public void updateRowsAndColumns() {
-		rows.clear();
-		columns.clear();
+		if (axisIndexDirty) {
+			rebuildAxisIndexes();
+		}
+		rowIndex.copyTo(rows);
+		columnIndex.copyTo(columns);
+	}
+
+	/**
+	 * rebuild the sorted rows and columns from the children of the grilling compartment
+	 */
+	protected void rebuildAxisIndexes() {
+		rowIndex.clear();
+		columnIndex.clear();
 		if (gridCompartment != null) {
-			for (int j = 0; j < gridCompartment.getNotationView().getChildren().size(); j++) {
-				if (gridCompartment.getNotationView().getChildren().get(j) instanceof DecorationNode) {
-					DecorationNode decorationNode = (DecorationNode) gridCompartment.getNotationView().getChildren().get(j);
-					if (decorationNode.getType().startsWith(ROW)) {
-						rows.add(decorationNode);
+			for (Object child : gridCompartment.getNotationView().getChildren()) {
+				indexAxis(child);
+			}
+		}
+		axisIndexDirty = gridCompartment == null;
+	}
 
-					}
-					if (decorationNode.getType().startsWith(COLUMN)) {
-						columns.add(decorationNode);
-					}
+	/**
+	 * update the sorted rows and columns from the notifications of a committed transaction
+	 *
+	 * @param notifications
+	 *            the notifications about the children of a compartment and the location of the decoration nodes
+	 */
+	protected void updateAxisIndexes(List<Notification> notifications) {
+		if (axisIndexDirty || gridCompartment == null) {
+			// the indexes will be fully rebuilt on the next update
+			return;
+		}
+		View compartmentView = gridCompartment.getNotationView();
+		for (Notification notification : notifications) {
+			Object notifier = notification.getNotifier();
+			if (notifier == compartmentView) {
+				if (notification.getFeature() != NotationPackage.eINSTANCE.getView_PersistedChildren() && notification.getFeature() != NotationPackage.eINSTANCE.getView_TransientChildren()) {
+					continue;
+				}
+				switch (notification.getEventType()) {
+				case Notification.ADD:
+					indexAxis(notification.getNewValue());
+					break;
+				case Notification.ADD_MANY:
+					((Collection<?>) notification.getNewValue()).forEach(this::indexAxis);
+					break;
+				case Notification.REMOVE:
+					unindexAxis(notification.getOldValue());
+					break;
+				case Notification.REMOVE_MANY:
+					((Collection<?>) notification.getOldValue()).forEach(this::unindexAxis);
+					break;
+				case Notification.MOVE:
+					// the order of the children does not change the order of the axes
+					break;
+				default:
+					axisIndexDirty = true;
+					return;
 				}
+			} else if (notifier instanceof Location && ((Location) notifier).eContainer() instanceof DecorationNode) {
+				indexAxis(((Location) notifier).eContainer());
+			} else if (notifier instanceof DecorationNode) {
+				indexAxis(notifier);
 			}
 		}
-		Collections.sort(rows, RowComparator);
-		Collections.sort(columns, ColumnComparator);
+	}
+
+	/**
+	 * add (or move) a decoration node of the grilling compartment in the sorted rows or columns
+	 *
+	 * @param child
+	 *            a child of the grilling compartment
+	 */
+	private void indexAxis(Object child) {
+		if (!(child instanceof DecorationNode) || gridCompartment == null) {
+			return;
+		}
+		DecorationNode decorationNode = (DecorationNode) child;
+		if (decorationNode.eContainer() != gridCompartment.getNotationView() || decorationNode.getType() == null) {
+			return;
+		}
+		LayoutConstraint constraint = decorationNode.getLayoutConstraint();
+		if (decorationNode.getType().startsWith(ROW)) {
+			rowIndex.add(decorationNode, constraint instanceof Location ? ((Location) constraint).getY() : 0);
+		}
+		if (decorationNode.getType().startsWith(COLUMN)) {
+			columnIndex.add(decorationNode, constraint instanceof Location ? ((Location) constraint).getX() : 0);
+		}
+	}
+
+	/**
+	 * remove a decoration node from the sorted rows and columns
+	 *
+	 * @param child
+	 *            a removed child of the grilling compartment
+	 */
+	private void unindexAxis(Object child) {
+		if (child instanceof DecorationNode) {
+			rowIndex.remove((DecorationNode) child);
+			columnIndex.remove((DecorationNode) child);
+		}
 	}
 
 	/**
@@ -283,10 +420,103 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 		UMLDiagramEditorPlugin.log.trace(LogOptions.SEQUENCE_DEBUG_REFERENCEGRID, "____UPDATE COVERED_____");//$NON-NLS-1$
 
 		updateCoveredBy();
+		if (!canChangeFragments(lastChangedElements)) {
+			UMLDiagramEditorPlugin.log.trace(LogOptions.SEQUENCE_DEBUG_REFERENCEGRID, "--> the owners of the fragments are not impacted");//$NON-NLS-1$
+			return;
+		}
 		IComputeOwnerHelper computeOwner = new ComputeOwnerHelper();
 		computeOwner.updateOwnedByInteractionOperand(((IGraphicalEditPart) getHost()).getEditingDomain(), rows, columns, (Interaction) ((IGraphicalEditPart) getHost()).resolveSemanticElement(), this);
 	}
 
+	/**
+	 * @param changedElements
+	 *            the elements modified since the last reconciliation, empty for a full reconciliation
+	 * @return true if one of the changes can modify the position, the coverage or the owner of a fragment.
+	 *         The styles of the views and the semantic elements that are neither fragments, lifelines nor messages (guards, comments...) can not.
+	 */
+	protected boolean canChangeFragments(Set<EObject> changedElements) {
+		if (changedElements.isEmpty()) {
+			return true;
+		}
+		for (EObject changed : changedElements) {
+			if (changed instanceof Style) {
+				continue;
+			}
+			EObject semantic = getChangedSemanticElement(changed);
+			if (semantic == null || semantic instanceof Interaction || semantic instanceof InteractionFragment || semantic instanceof Lifeline || semantic instanceof Message) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param lifelines
+	 *            the lifelines of the grid
+	 * @return the lifelines whose covered fragments may have been reordered by the changes since the last reconciliation,
+	 *         all the lifelines when the changes can not be scoped
+	 */
+	protected Set<Lifeline> getLifelinesToUpdate(Set<Lifeline> lifelines) {
+		if (lastChangedElements.isEmpty()) {
+			return lifelines;
+		}
+		Set<Lifeline> impacted = new HashSet<>();
+		for (EObject changed : lastChangedElements) {
+			if (changed instanceof Style) {
+				continue;
+			}
+			EObject semantic = getChangedSemanticElement(changed);
+			if (semantic == null || semantic instanceof Interaction) {
+				// a fragment may have been added to or removed from the interaction
+				return lifelines;
+			}
+			if (semantic instanceof Lifeline) {
+				impacted.add((Lifeline) semantic);
+			} else if (semantic instanceof InteractionFragment) {
+				impacted.addAll(((InteractionFragment) semantic).getCovereds());
+			} else if (semantic instanceof Message) {
+				addCovereds(((Message) semantic).getSendEvent(), impacted);
+				addCovereds(((Message) semantic).getReceiveEvent(), impacted);
+			}
+		}
+		impacted.retainAll(lifelines);
+		return impacted;
+	}
+
+	private void addCovereds(MessageEnd end, Set<Lifeline> lifelines) {
+		if (end instanceof InteractionFragment) {
+			lifelines.addAll(((InteractionFragment) end).getCovereds());
+		}
+	}
+
+	/**
+	 * @param changed
+	 *            a modified element of the notation or of the interaction
+	 * @return the semantic element of the modified element, the element of its view for the notation, or null if it has none
+	 */
+	private EObject getChangedSemanticElement(EObject changed) {
+		EObject current = changed;
+		while (current != null && !(current instanceof View) && !(current instanceof Element)) {
+			current = current.eContainer();
+		}
+		return current instanceof View ? ((View) current).getElement() : current;
+	}
+
+	/**
+	 * Gets the fragments whose position in the grid does not reflect their order, so the reconciliation must leave them where they are
+	 * in the fragments of their owner and in the covered fragments of their lifelines:
+	 * - the content of the collapsed Combined Fragments, which is hidden and left in place while the elements below are moved up,
+	 * - the elements out of the visible part of a virtualized interaction, which have no edit part and so no row.
+	 *
+	 * @return the frozen fragments
+	 */
+	public Set<InteractionFragment> getFrozenFragments() {
+		Set<InteractionFragment> frozenFragments = new HashSet<>();
+		AdoneCombinedFragmentCollapseUtil.collectCollapsedContents(getDiagramView(), frozenFragments);
+		AdoneViewportVirtualizer.collectVirtualizedFragments(getHost(), frozenFragments);
+		return frozenFragments;
+	}
+
 	protected void updateCoveredBy() {
 		HashSet<Lifeline> lifelineList = new HashSet<>();
 		for (DecorationNode column : columns) {
@@ -297,11 +527,13 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 		}
 		UMLDiagramEditorPlugin.log.trace(LogOptions.SEQUENCE_DEBUG_REFERENCEGRID, "--> there is " + lifelineList.size() + " lifelines");//$NON-NLS-1$ //$NON-NLS-2$
 
+		Set<InteractionFragment> frozenFragments = getFrozenFragments();
+
 		// for each lifeline recreat the list of covered element
-		for (Lifeline lifeline : lifelineList) {
+		for (Lifeline lifeline : getLifelinesToUpdate(lifelineList)) {
 			ArrayList<InteractionFragment> covered = new ArrayList<>();
 			for (DecorationNode row : rows) {
-				if (row.getElement() instanceof InteractionFragment) {
+				if (row.getElement() instanceof InteractionFragment && !isFrozenRow(row, frozenFragments)) {
 					InteractionFragment interactionFragment = (InteractionFragment) (row.getElement());
 					if (lifeline.getCoveredBys().contains(interactionFragment)) {
 						if (!covered.contains(interactionFragment)) {
@@ -319,11 +551,11 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 			// update the list of covered by taking account InteractionFragment
 			if (covered.size() == lifeline.getCoveredBys().size()) {
 				UMLDiagramEditorPlugin.log.trace(LogOptions.SEQUENCE_DEBUG_REFERENCEGRID, "the list is equals" + covered.size() + ", we reorder");//$NON-NLS-1$ //$NON-NLS-2$
-				execute(new SetCommand(((IGraphicalEditPart) getHost()).getEditingDomain(), lifeline, UMLPackage.eINSTANCE.getLifeline_CoveredBy(), covered));
+				execute(new AdoneListPatchCommand(lifeline, UMLPackage.eINSTANCE.getLifeline_CoveredBy(), ComputeOwnerHelper.keepFrozenPositions(covered, lifeline.getCoveredBys(), frozenFragments)));
 			} else if (covered.size() < lifeline.getCoveredBys().size()) {
 				UMLDiagramEditorPlugin.log.trace(LogOptions.SEQUENCE_DEBUG_REFERENCEGRID, "More event detected! +" + (covered.size() - lifeline.getCoveredBys().size()) + "--> modify covered");//$NON-NLS-1$ //$NON-NLS-2$
 				covered.addAll(lifeline.getCoveredBys());
-				execute(new SetCommand(((IGraphicalEditPart) getHost()).getEditingDomain(), lifeline, UMLPackage.eINSTANCE.getLifeline_CoveredBy(), covered));
+				execute(new AdoneListPatchCommand(lifeline, UMLPackage.eINSTANCE.getLifeline_CoveredBy(), ComputeOwnerHelper.keepFrozenPositions(covered, lifeline.getCoveredBys(), frozenFragments)));
 			} else if (covered.size() > lifeline.getCoveredBys().size()) {
 				UMLDiagramEditorPlugin.log.trace(LogOptions.SEQUENCE_DEBUG_REFERENCEGRID, "problem! normaly event must be added by element types -" + (covered.size() - lifeline.getCoveredBys().size()));//$NON-NLS-1$
 			}
@@ -375,7 +607,7 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 			if (covered.size() > 0) {
 				UMLDiagramEditorPlugin.log.trace(LogOptions.SEQUENCE_DEBUG_REFERENCEGRID, "Add Interraction operand");//$NON-NLS-1$
 				covered.addAll(lifeline.getCoveredBys());
-				execute(new SetCommand(((IGraphicalEditPart) getHost()).getEditingDomain(), lifeline, UMLPackage.eINSTANCE.getLifeline_CoveredBy(), covered));
+				execute(new AdoneListPatchCommand(lifeline, UMLPackage.eINSTANCE.getLifeline_CoveredBy(), ComputeOwnerHelper.keepFrozenPositions(covered, lifeline.getCoveredBys(), frozenFragments)));
 
 			}
 
@@ -383,6 +615,25 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 	}
 
 
+	/**
+	 * @param row
+	 *            a row of the grid
+	 * @param frozenFragments
+	 *            the frozen fragments
+	 * @return true if the row must not be used to order the covered fragments: the row of a frozen fragment,
+	 *         except the row of a first operand, which places its Combined Fragment
+	 */
+	private boolean isFrozenRow(DecorationNode row, Set<InteractionFragment> frozenFragments) {
+		if (!frozenFragments.contains(row.getElement())) {
+			return false;
+		}
+		if (row.getElement() instanceof InteractionOperand && row.getElement().eContainer() instanceof CombinedFragment) {
+			CombinedFragment combinedFragment = (CombinedFragment) row.getElement().eContainer();
+			return combinedFragment.getOperands().get(0) != row.getElement() || frozenFragments.contains(combinedFragment);
+		}
+		return true;
+	}
+
 	/**
 	 * Gets the diagram event broker from the editing domain.
 	 *
@@ -403,13 +654,25 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 	@Override
 	public void deactivate() {
 		getDiagramEventBroker().removeNotificationListener(((EObject) getHost().getModel()), this);
+		AdoneSequenceNotificationDispatcher.getInstance(((IGraphicalEditPart) getHost()).getEditingDomain()).removeListener(axisIndexListener);
+		rowIndex.clear();
+		columnIndex.clear();
+		axisIndexDirty = true;
+		listenedAxes.clear();
 		TransactionHelper.disposeTransactionExecutor(transactionExecutor);
 		transactionExecutor = null;
 		coveredUpdateExecutor = null;
+		reconciliationBatch = null;
 
 		if (null != this.operationHistoryListener) {
 			OperationHistoryFactory.getOperationHistory().removeOperationHistoryListener(this.operationHistoryListener);
+			if (this.operationHistoryListener instanceof AdoneScopedOperationListener) {
+				((AdoneScopedOperationListener) this.operationHistoryListener).dispose();
+			}
+			this.operationHistoryListener = null;
 		}
+		pendingChangedElements.clear();
+		lastChangedElements.clear();
 		super.deactivate();
 	}
 
@@ -420,11 +683,41 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 	 */
 	@Override
 	public void notifyChanged(Notification notification) {
+		if (notification instanceof ScopedChangeNotification) {
+			pendingChangedElements.addAll(((ScopedChangeNotification) notification).getChangedElements());
+		} else if (notification.getNotifier() instanceof EObject) {
+			pendingChangedElements.add((EObject) notification.getNotifier());
+		}
 		postRowColumnCoverageUpdate();
 	}
 
+	/**
+	 * @return the elements modified by the operations that triggered the current (or last) reconciliation of the grid.
+	 *         It is empty for a full reconciliation (for example on activation)
+	 */
+	public Set<EObject> getLastChangedElements() {
+		return lastChangedElements;
+	}
+
+	/**
+	 * Requests the validation of a Combined Fragment whose operands were updated by the reconciliation.
+	 * During a reconciliation, the validation is triggered once at its end.
+	 *
+	 * @param combinedFragment
+	 *            the Combined Fragment to validate
+	 */
+	public void validateCombinedFragment(CombinedFragment combinedFragment) {
+		if (reconciliationBatch == null) {
+			AsyncValidateCommand.get(combinedFragment).ifPresent(this::execute);
+		} else {
+			reconciliationBatch.validate(combinedFragment);
+		}
+	}
+
 	private void postRowColumnCoverageUpdate() {
 		Runnable update = () -> {
+			lastChangedElements = pendingChangedElements;
+			pendingChangedElements = new LinkedHashSet<>();
 			updateRowsAndColumns();
 			updateCoveredAndOwnerAfterUpdate();
 		};
@@ -432,38 +725,131 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 		if (coveredUpdateExecutor == null) {
 			update.run();
 		} else {
-			coveredUpdateExecutor.execute(update);
+			// all the commands of the reconciliation are executed in a single transaction
+			coveredUpdateExecutor.execute(() -> {
+				if (reconciliationBatch == null) {
+					update.run();
+				} else {
+					reconciliationBatch.run(update);
+				}
+			});
 		}
 	}
 
 	/**
-	 * get the decoration node that represents a column from a position (absolute)
+	 * get the decoration node that represents a column from a position (absolute).
+	 * A column of the element that is no longer listened is reused, it is created otherwise.
 	 *
 	 * @param x
 	 *            the position x for the column
 	 * @return the decoration node
 	 */
 	public DecorationNode createColumnTolisten(int x, Element semantic) throws NoGrillElementFound {
-		execute(new CreateCoordinateCommand(((IGraphicalEditPart) getHost()).getEditingDomain(), ((BasicCompartment) gridCompartment.getNotationView()), COLUMN + columns.size(), semantic, x));
-		refreshGrillingStructure();
-		return getLastCreatedAxis();
+		DecorationNode column = getReleasedAxis(COLUMN, semantic, x);
+		if (column == null) {
+			execute(new CreateCoordinateCommand(((IGraphicalEditPart) getHost()).getEditingDomain(), ((BasicCompartment) gridCompartment.getNotationView()), COLUMN + columns.size(), semantic, x));
+			refreshGrillingStructure();
+			column = getLastCreatedAxis();
+		}
+		listenedAxes.add(column);
+		return column;
 	}
 
 	/**
-	 * get the decoration node that represents a line from a position (absolute)
+	 * get the decoration node that represents a line from a position (absolute).
+	 * A row of the element that is no longer listened is reused, it is created otherwise.
 	 *
 	 * @param y
 	 *            the position y for the line
 	 * @return the decoration node
 	 */
 	public DecorationNode createRowTolisten(int y, Element semantic) throws NoGrillElementFound {
-		execute(new CreateCoordinateCommand(((IGraphicalEditPart) getHost()).getEditingDomain(), ((BasicCompartment) gridCompartment.getNotationView()), ROW + rows.size(), semantic, y));
-		DecorationNode row = getLastCreatedAxis();
-		refreshGrillingStructure();
+		DecorationNode row = getReleasedAxis(ROW, semantic, y);
+		if (row == null) {
+			execute(new CreateCoordinateCommand(((IGraphicalEditPart) getHost()).getEditingDomain(), ((BasicCompartment) gridCompartment.getNotationView()), ROW + rows.size(), semantic, y));
+			row = getLastCreatedAxis();
+			refreshGrillingStructure();
+		}
+		listenedAxes.add(row);
 		return row;
 
 	}
 
+	/**
+	 * Stops reserving a row or a column for the edit policy that listened it, when its edit part is deactivated.
+	 * The axis stays in the grid and is reused when the edit part of its element is created again,
+	 * for example when an element leaves the visible area and comes back (see {@link AdoneViewportVirtualizer}).
+	 *
+	 * @param axis
+	 *            the row or the column
+	 */
+	public void releaseAxis(DecorationNode axis) {
+		listenedAxes.remove(axis);
+	}
+
+	/**
+	 * @param elements
+	 *            semantic elements
+	 * @return the rows of the elements that are not listened by any edit part
+	 */
+	public List<DecorationNode> getReleasedRows(Set<? extends EObject> elements) {
+		List<DecorationNode> result = new ArrayList<>();
+		if (gridCompartment != null) {
+			for (Object child : gridCompartment.getNotationView().getChildren()) {
+				if (child instanceof DecorationNode && isAxis((DecorationNode) child, ROW) && elements.contains(((DecorationNode) child).getElement()) && !listenedAxes.contains(child)) {
+					result.add((DecorationNode) child);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Looks for the axis of an element that is not listened any more, the nearest from the position when the element has several ones.
+	 * The reused axis is moved to the position.
+	 *
+	 * @param type
+	 *            {@link #ROW} or {@link #COLUMN}
+	 * @param semantic
+	 *            the element of the axis
+	 * @param position
+	 *            the position of the axis
+	 * @return the reused axis, null if there is none
+	 */
+	private DecorationNode getReleasedAxis(String type, Element semantic, int position) {
+		if (semantic == null || gridCompartment == null) {
+			return null;
+		}
+		DecorationNode result = null;
+		int resultDistance = Integer.MAX_VALUE;
+		for (Object child : gridCompartment.getNotationView().getChildren()) {
+			if (child instanceof DecorationNode && isAxis((DecorationNode) child, type) && ((DecorationNode) child).getElement() == semantic && !listenedAxes.contains(child)) {
+				int distance = Math.abs(getAxisPosition((DecorationNode) child, type) - position);
+				if (distance < resultDistance) {
+					result = (DecorationNode) child;
+					resultDistance = distance;
+				}
+			}
+		}
+		if (result != null && resultDistance != 0 && result.getLayoutConstraint() instanceof Location) {
+			execute(new SetCommand(((IGraphicalEditPart) getHost()).getEditingDomain(), result.getLayoutConstraint(),
+					ROW.equals(type) ? NotationPackage.eINSTANCE.getLocation_Y() : NotationPackage.eINSTANCE.getLocation_X(), position));
+		}
+		return result;
+	}
+
+	private static boolean isAxis(DecorationNode decorationNode, String type) {
+		return decorationNode.getType() != null && decorationNode.getType().startsWith(type);
+	}
+
+	private static int getAxisPosition(DecorationNode decorationNode, String type) {
+		LayoutConstraint constraint = decorationNode.getLayoutConstraint();
+		if (!(constraint instanceof Location)) {
+			return 0;
+		}
+		return ROW.equals(type) ? ((Location) constraint).getY() : ((Location) constraint).getX();
+	}
+
 	/**
 	 * @return get the last created Axis
 	 **/
@@ -485,16 +871,24 @@ public class GridManagementEditPolicy extends GraphicalEditPolicyEx implements A
 	 * @return the rows that exists at the position [y- threshold, y+threshold]s
 	 */
 	public ArrayList<DecorationNode> getRowAtPosition(int y) {
-		ArrayList<DecorationNode> sameLines = new ArrayList<>();
-		for (Iterator<DecorationNode> iterator = rows.iterator(); iterator.hasNext();) {
-			DecorationNode currentRow = iterator.next();
-			int Yposition = getPositionY(currentRow);
-			if (Yposition - threshold <= y && y <= Yposition + threshold) {
-				sameLines.add(currentRow);
-			}
+		return getRowsBetween(y - threshold, y + threshold);
+	}
 
+	/**
+	 *
+	 * @param minY
+	 *            the minimal position y (inclusive)
+	 * @param maxY
+	 *            the maximal position y (inclusive)
+	 * @return the rows that exists between the two positions, sorted by position
+	 */
+	public ArrayList<DecorationNode> getRowsBetween(int minY, int maxY) {
+		ArrayList<DecorationNode> result = new ArrayList<>();
+		if (axisIndexDirty) {
+			rebuildAxisIndexes();
 		}
-		return sameLines;
+		rowIndex.collectBetween(minY, maxY, result);
+		return result;
 	}
 
 	/**
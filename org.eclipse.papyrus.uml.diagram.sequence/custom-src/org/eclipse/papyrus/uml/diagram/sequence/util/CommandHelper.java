@@ -359,25 +359,18 @@ public class CommandHelper {
 	private static Set<EObject> getExistingElementsFromParents(Map<EClass, List<EObject>> mapTypesPossibleParents) {
 		// find the existing elements using the parents we just found
 		Set<EObject> existingElements = new HashSet<>();
+		AdoneSignatureIndex index = null;
 		for (EClass eClass : mapTypesPossibleParents.keySet()) {
 			List<EObject> parents = mapTypesPossibleParents.get(eClass);
 			for (EObject parent : parents) {
+				if (index == null) {
+					index = AdoneSignatureIndex.getInstance(parent);
+				}
 				if (parent instanceof Classifier) {
-					existingElements.addAll(((Classifier) parent).getAllOperations());
-					// add operations from port
-					EList<Property> attrs = ((Classifier) parent).getAllAttributes();
-					for (Property p : attrs) {
-						if (p instanceof Port && p.getType() instanceof Classifier) {
-							existingElements.addAll(((Classifier) p.getType()).getAllOperations());
-						}
-					}
+					// operations of the classifier and of its ports, indexed
+					existingElements.addAll(index.getOperations((Classifier) parent));
 				} else if (parent instanceof Package) {
-					EList<Element> ownedElements = ((Package) parent).allOwnedElements();
-					for (Element e : ownedElements) {
-						if (e instanceof Signal) {
-							existingElements.add(e);
-						}
-					}
+					existingElements.addAll(index.getSignals((Package) parent));
 				}
 			}
 		}
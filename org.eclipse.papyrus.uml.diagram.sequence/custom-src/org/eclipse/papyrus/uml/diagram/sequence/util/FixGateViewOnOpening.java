@@ -15,14 +15,16 @@
  *****************************************************************************/
 package org.eclipse.papyrus.uml.diagram.sequence.util;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PrecisionPoint;
 import org.eclipse.draw2d.geometry.Rectangle;
-import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.transaction.TransactionalEditingDomain;
@@ -41,7 +43,6 @@ import org.eclipse.gmf.runtime.notation.NotationPackage;
 import org.eclipse.gmf.runtime.notation.Shape;
 import org.eclipse.gmf.runtime.notation.View;
 import org.eclipse.jface.preference.IPreferenceStore;
-import org.eclipse.papyrus.infra.emf.gmf.command.GMFtoEMFCommandWrapper;
 import org.eclipse.papyrus.infra.gmfdiag.common.preferences.PreferencesConstantsHelper;
 import org.eclipse.papyrus.uml.diagram.common.helper.PreferenceInitializerForElementHelper;
 import org.eclipse.papyrus.uml.diagram.sequence.command.OLDCreateGateViewCommand;
@@ -59,38 +60,52 @@ import org.eclipse.uml2.uml.Message;
  *
  * @author Jin Liu (jin.liu@soyatec.com)
  */
-public class FixGateViewOnOpening {
+public class FixGateViewOnOpening implements AdoneDiagramOpenPipeline.IViewVisitor {
+
+	/** The shapes of the gate containers, in the order of the diagram **/
+	private final List<Shape> gateContainers = new ArrayList<>();
+
+	/** The primary view of each semantic element, the first one met in the diagram **/
+	private final Map<EObject, View> primaryViews = new HashMap<>();
 
 	public void fix(Diagram diagram) {
-		TreeIterator<EObject> contents = diagram.eAllContents();
-		while (contents.hasNext()) {
-			EObject next = contents.next();
-			if (!(next instanceof Shape)) {
-				continue;
-			}
-			Shape shape = (Shape) next;
-			EObject element = ViewUtil.resolveSemanticElement(shape);
-			if (!isGateContainer(element)) {
-				continue;
-			}
-			List<Gate> allGates = getAllGates(element);
-			if (allGates.isEmpty()) {
-				continue;
-			}
-			for (Gate gate : allGates) {
-				doFix(diagram, shape, gate);
+		new AdoneDiagramOpenPipeline().addVisitor(this).run(diagram);
+	}
+
+	@Override
+	public void visit(View view) {
+		if (!(view instanceof Shape || view instanceof Edge)) {
+			return;
+		}
+		EObject element = ViewUtil.resolveSemanticElement(view);
+		if (element != null && !primaryViews.containsKey(element)) {
+			primaryViews.put(element, findTopView(view, element));
+		}
+		if (view instanceof Shape && isGateContainer(element) && !getAllGates(element).isEmpty()) {
+			gateContainers.add((Shape) view);
+		}
+	}
+
+	@Override
+	public void contributeFixes(CompositeCommand fixes) {
+		for (Shape shape : gateContainers) {
+			for (Gate gate : getAllGates(ViewUtil.resolveSemanticElement(shape))) {
+				doFix(shape, gate, fixes);
 			}
 		}
+		gateContainers.clear();
+		primaryViews.clear();
 	}
 
 	/**
-	 * @param diagram
+	 * @param parent
 	 * @param gate
+	 * @param fixes
 	 */
-	private void doFix(Diagram diagram, Shape parent, Gate gate) {
+	private void doFix(Shape parent, Gate gate, CompositeCommand fixes) {
 
 
-		View view = findPrimaryView(diagram, gate);
+		View view = primaryViews.get(gate);
 		if (view != null) {
 			return;
 		}
@@ -99,7 +114,7 @@ public class FixGateViewOnOpening {
 		if (message == null) {
 			return;
 		}
-		View messageView = findPrimaryView(diagram, message);
+		View messageView = primaryViews.get(message);
 		Edge edge = null;
 		if (messageView instanceof Edge) {
 			edge = ((Edge) messageView);
@@ -123,7 +138,7 @@ public class FixGateViewOnOpening {
 				}
 			}
 		}
-		TransactionalEditingDomain editingDomain = TransactionUtil.getEditingDomain(diagram);
+		TransactionalEditingDomain editingDomain = TransactionUtil.getEditingDomain(parent);
 		CompositeCommand fixCommands = new CompositeCommand("Fix Gate View");
 		OLDCreateGateViewCommand command = new OLDCreateGateViewCommand(editingDomain, new EObjectAdapter(parent), location, new EObjectAdapter(gate));
 		fixCommands.add(command);
@@ -146,7 +161,7 @@ public class FixGateViewOnOpening {
 				fixCommands.add(repairAnchorsCommand);
 			}
 		}
-		editingDomain.getCommandStack().execute(new GMFtoEMFCommandWrapper(fixCommands));
+		fixes.add(fixCommands);
 	}
 
 	private int indexOfGate(Gate gate) {
@@ -208,25 +223,6 @@ public class FixGateViewOnOpening {
 		return null;
 	}
 
-	private View findPrimaryView(Diagram diagram, EObject target) {
-		if (diagram == null || target == null) {
-			return null;
-		}
-		TreeIterator<EObject> contents = diagram.eAllContents();
-		while (contents.hasNext()) {
-			EObject next = contents.next();
-			if (!(next instanceof Shape || next instanceof Edge)) {
-				continue;
-			}
-			View view = (View) next;
-			EObject element = ViewUtil.resolveSemanticElement(view);
-			if (target == element) {
-				return findTopView(view, element);
-			}
-		}
-		return null;
-	}
-
 	private View findTopView(View view, EObject element) {
 		EObject eContainer = view.eContainer();
 		if (eContainer instanceof View) {
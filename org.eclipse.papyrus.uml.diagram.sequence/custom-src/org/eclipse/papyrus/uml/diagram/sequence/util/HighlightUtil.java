@@ -16,11 +16,11 @@ package org.eclipse.papyrus.uml.diagram.sequence.util;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.eclipse.draw2d.Border;
 import org.eclipse.draw2d.IFigure;
@@ -54,7 +54,8 @@ public class HighlightUtil {
 		}
 	}
 
-	private static Map<Object, FigureState> figureState = new HashMap<>();
+	// Weakly keyed, so the figures of closed diagrams are not retained
+	private static Map<Object, FigureState> figureState = new WeakHashMap<>();
 
 	/**
 	 * Make a private instance, avoid highlight above highlight.
@@ -15,9 +15,15 @@
  *****************************************************************************/
 package org.eclipse.papyrus.uml.diagram.sequence.util;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 
 import org.eclipse.draw2d.IFigure;
@@ -61,11 +67,17 @@ public class LifelineCoveredByUpdater {
 
 	protected HashMap<GraphicalEditPart, Rectangle> interactionFragments = new HashMap<>();
 
+	/** the interaction fragments displayed in the diagram **/
+	protected Set<InteractionFragment> displayedFragments = new HashSet<>();
+
 	protected TransactionalEditingDomain editingDomain;
 
 
 	protected void init() {
 		editingDomain = this.context.getEditingDomain();
+		lifelines.clear();
+		interactionFragments.clear();
+		displayedFragments.clear();
 		GraphicalEditPart parent = context;
 		while (true) {
 			EditPart editPart = parent.getParent();
@@ -94,6 +106,7 @@ public class LifelineCoveredByUpdater {
 				Rectangle childBounds = figure.getBounds().getCopy();
 				figure.translateToAbsolute(childBounds);
 				interactionFragments.put(editPart, childBounds);
+				displayedFragments.add((InteractionFragment) modelObject);
 			}
 		}
 		for (Object child : editPart.getChildren()) {
@@ -103,41 +116,79 @@ public class LifelineCoveredByUpdater {
 		}
 	}
 
+	/**
+	 * Sweeps the central lines of the lifelines from left to right: the fragments are sorted once by their left side, and the active fragments,
+	 * sorted by their right side, are the ones whose X-interval contains the current central line. Each lifeline is then only compared to
+	 * the fragments it crosses horizontally, instead of all the fragments of the diagram.
+	 *
+	 * @param context
+	 *            an edit part of the diagram
+	 */
 	public void update(GraphicalEditPart context) {
 		this.context = context;
 		this.init();
-		for (Map.Entry<LifelineEditPart, Rectangle> entry : lifelines.entrySet()) {
-			LifelineEditPart editPart = entry.getKey();
-			Rectangle childBounds = entry.getValue();
-			updateLifeline(editPart, childBounds);
+		List<Map.Entry<LifelineEditPart, Rectangle>> sortedLifelines = new ArrayList<>(lifelines.entrySet());
+		sortedLifelines.sort(Comparator.comparingInt(entry -> entry.getValue().x()));
+		List<Map.Entry<GraphicalEditPart, Rectangle>> sortedFragments = new ArrayList<>(interactionFragments.entrySet());
+		sortedFragments.sort(Comparator.comparingInt(entry -> entry.getValue().x()));
+		PriorityQueue<Map.Entry<GraphicalEditPart, Rectangle>> activeFragments = new PriorityQueue<>(Comparator.comparingInt(entry -> entry.getValue().right()));
+		int nextFragment = 0;
+		for (Map.Entry<LifelineEditPart, Rectangle> entry : sortedLifelines) {
+			int lineX = entry.getValue().x();
+			while (nextFragment < sortedFragments.size() && sortedFragments.get(nextFragment).getValue().x() <= lineX) {
+				activeFragments.add(sortedFragments.get(nextFragment++));
+			}
+			while (!activeFragments.isEmpty() && activeFragments.peek().getValue().right() <= lineX) {
+				activeFragments.poll();
+			}
+			updateLifeline(entry.getKey(), entry.getValue(), activeFragments);
 		}
 	}
 
 	public void updateLifeline(LifelineEditPart lifelineEditpart, Rectangle rect) {
+		updateLifeline(lifelineEditpart, rect, interactionFragments.entrySet());
+	}
+
+	/**
+	 * Updates the covered by of a lifeline, only the differences with the current covered by are applied.
+	 *
+	 * @param lifelineEditpart
+	 *            the lifeline edit part
+	 * @param rect
+	 *            the central line of the lifeline
+	 * @param candidates
+	 *            the fragments that may be covered by the lifeline, the other displayed fragments are not covered
+	 */
+	protected void updateLifeline(LifelineEditPart lifelineEditpart, Rectangle rect, Collection<Map.Entry<GraphicalEditPart, Rectangle>> candidates) {
 		Lifeline lifeline = (Lifeline) lifelineEditpart.resolveSemanticElement();
 		if (lifeline == null) {
 			return;
 		}
 		EList<InteractionFragment> coveredByLifelines = lifeline.getCoveredBys();
+		Set<InteractionFragment> currentCoveredBys = new HashSet<>(coveredByLifelines);
 		Set<InteractionFragment> coveredByLifelinesToAdd = new LinkedHashSet<>();
+		Set<InteractionFragment> coveredFragments = new HashSet<>();
 		Set<InteractionFragment> coveredByLifelinesToRemove = new LinkedHashSet<>();
 		// Update height of Lifeline when coveredBy some InteractionFragments.
 		int bottom = 0;
-		for (Map.Entry<GraphicalEditPart, Rectangle> entry : interactionFragments.entrySet()) {
+		for (Map.Entry<GraphicalEditPart, Rectangle> entry : candidates) {
 			GraphicalEditPart editPart = entry.getKey();
 			Rectangle childBounds = entry.getValue();
-			InteractionFragment interactionFragment = (InteractionFragment) editPart.resolveSemanticElement();
 			if (rect.intersects(childBounds)) {
-				coveredByLifelinesToAdd.add(interactionFragment);
+				InteractionFragment interactionFragment = (InteractionFragment) editPart.resolveSemanticElement();
+				coveredFragments.add(interactionFragment);
+				if (!currentCoveredBys.contains(interactionFragment)) {
+					coveredByLifelinesToAdd.add(interactionFragment);
+				}
 				bottom = Math.max(childBounds.bottom(), bottom);
-			} else if (coveredByLifelines.contains(interactionFragment)) {
+			}
+		}
+		for (InteractionFragment interactionFragment : coveredByLifelines) {
+			if (displayedFragments.contains(interactionFragment) && !coveredFragments.contains(interactionFragment)) {
 				coveredByLifelinesToRemove.add(interactionFragment);
 			}
 		}
 
-		coveredByLifelinesToRemove.removeAll(coveredByLifelinesToAdd);
-		coveredByLifelinesToAdd.removeAll(coveredByLifelines);
-
 		if (!coveredByLifelinesToAdd.isEmpty()) {
 			CommandHelper.executeCommandWithoutHistory(editingDomain, AddCommand.create(editingDomain, lifeline, UMLPackage.eINSTANCE.getLifeline_CoveredBy(), coveredByLifelinesToAdd), true);
 			// Update Lifeline height.
@@ -196,15 +196,12 @@ public class LifelineEditPartUtil {
 		try {
 			GridManagementEditPolicy grilling = (GridManagementEditPolicy) diagramEditPart.getEditPolicy(GridManagementEditPolicy.GRID_MANAGEMENT);
 			if (grilling != null) {
-				for (DecorationNode row : grilling.rows) {
-					Point currentPoint = GridManagementEditPolicy.getLocation(row);
-					if (currentPoint.y < position.y) {
-						if (row.getElement() != null) {
-							EObject referedElement = row.getElement();
-							if (referedElement instanceof OccurrenceSpecification) {
-								if (lifeline.getCoveredBys().contains(referedElement)) {
-									previous.add((OccurrenceSpecification) referedElement);
-								}
+				for (DecorationNode row : grilling.getRowsBetween(Integer.MIN_VALUE, position.y - 1)) {
+					if (row.getElement() != null) {
+						EObject referedElement = row.getElement();
+						if (referedElement instanceof OccurrenceSpecification) {
+							if (lifeline.getCoveredBys().contains(referedElement)) {
+								previous.add((OccurrenceSpecification) referedElement);
 							}
 						}
 					}
@@ -247,15 +244,12 @@ public class LifelineEditPartUtil {
 		try {
 			GridManagementEditPolicy grilling = (GridManagementEditPolicy) diagramEditPart.getEditPolicy(GridManagementEditPolicy.GRID_MANAGEMENT);
 			if (grilling != null) {
-				for (DecorationNode row : grilling.rows) {
-					Point currentPoint = GridManagementEditPolicy.getLocation(row);
-					if (currentPoint.y > position.y) {
-						if (row.getElement() != null) {
-							EObject referedElement = row.getElement();
-							if (referedElement instanceof OccurrenceSpecification) {
-								if (lifeline.getCoveredBys().contains(referedElement)) {
-									previous.add((OccurrenceSpecification) referedElement);
-								}
+				for (DecorationNode row : grilling.getRowsBetween(position.y + 1, Integer.MAX_VALUE)) {
+					if (row.getElement() != null) {
+						EObject referedElement = row.getElement();
+						if (referedElement instanceof OccurrenceSpecification) {
+							if (lifeline.getCoveredBys().contains(referedElement)) {
+								previous.add((OccurrenceSpecification) referedElement);
 							}
 						}
 					}
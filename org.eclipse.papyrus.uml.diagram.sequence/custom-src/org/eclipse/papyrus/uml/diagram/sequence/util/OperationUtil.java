@@ -38,7 +38,7 @@ import org.eclipse.uml2.uml.ValueSpecification;
 public class OperationUtil {
 
 	public static String getCustomLabel(Message e, int paramIndex, Parameter parameter, Collection<String> displayValue) {
-		StringBuffer buffer = new StringBuffer();
+		StringBuilder buffer = new StringBuilder();
 		// visibility
 		buffer.append(" ");
 		if (displayValue.contains(ICustomAppearance.DISP_VISIBILITY)) {
@@ -116,7 +116,7 @@ public class OperationUtil {
 	}
 
 	public static String getCustomLabel(Message message, Operation operation, Collection<String> displayValue) {
-		StringBuffer buffer = new StringBuffer();
+		StringBuilder buffer = new StringBuilder();
 		buffer.append(" "); // adds " " first for correct display considerations
 		// visibility
 		if (displayValue.contains(ICustomAppearance.DISP_VISIBILITY)) {
@@ -154,7 +154,7 @@ public class OperationUtil {
 	 * @return a string containing the modifiers
 	 */
 	private static String getModifiersAsString(Operation operation) {
-		StringBuffer buffer = new StringBuffer();
+		StringBuilder buffer = new StringBuilder();
 		boolean needsComma = false;
 		// Return parameter modifiers
 		Parameter returnParameter = OperationUtil.getReturnParameter(operation);
@@ -217,7 +217,7 @@ public class OperationUtil {
 	private static String getReturnTypeAsString(Operation operation, Collection<String> displayValue) {
 		boolean displayType = displayValue.contains(ICustomAppearance.DISP_RT_TYPE) || displayValue.contains(ICustomAppearance.DISP_TYPE);
 		boolean displayMultiplicity = displayValue.contains(ICustomAppearance.DISP_RT_MULTIPLICITY) || displayValue.contains(ICustomAppearance.DISP_MULTIPLICITY);
-		StringBuffer label = new StringBuffer("");
+		StringBuilder label = new StringBuilder("");
 		// Retrieve the return parameter (assume to be unique if defined)
 		Parameter returnParameter = getReturnParameter(operation);
 		// Create the string for the return type
@@ -263,7 +263,7 @@ public class OperationUtil {
 	 * @return a string containing all parameters separated by commas
 	 */
 	private static String getParametersAsString(Message e, Operation operation, Collection<String> displayValue) {
-		StringBuffer paramString = new StringBuffer();
+		StringBuilder paramString = new StringBuilder();
 		Iterator<Parameter> paramIterator = operation.getOwnedParameters().iterator();
 		boolean firstParameter = true;
 		int paramIndex = 0;